@@ -0,0 +1,206 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import io.github.blueprintplatform.openapi.generics.codegen.GenericAwareJavaCodegen;
+import io.github.blueprintplatform.openapi.generics.codegen.ParallelGenerator;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures client generation with {@code java-generics-contract} on a synthetic spec.
+ *
+ * <p>The spec mirrors the server projection: {@code schemaCount} DTOs, one {@code
+ * ServiceResponse{Dto}} wrapper and one operation per DTO, spread over 20 tags, plus the ignored
+ * contract schemas ({@code ServiceResponse}, {@code Meta}, {@code Sort}).
+ *
+ * <p>{@code generator} selects sequential ({@code default}, {@link DefaultGenerator}) or parallel
+ * ({@code parallel}, {@link ParallelGenerator} with one thread per core) file emission. Each
+ * invocation generates models, APIs and supporting files into a fresh directory; docs and tests
+ * are disabled.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class ClientGenerationBenchmark {
+
+  private static final String SCHEMA_PREFIX = "#/components/schemas/";
+  private static final String CONTRACT = "io.github.blueprintplatform.openapi.generics.contract.";
+  private static final int TAG_COUNT = 20;
+
+  @Param({"500", "4000"})
+  public int schemaCount;
+
+  @Param({"default", "parallel"})
+  public String generator;
+
+  private Path output;
+  private ClientOptInput input;
+
+  @Setup(Level.Invocation)
+  public void setUp() throws IOException {
+    output = Files.createTempDirectory("openapi-generics-codegen-");
+
+    GenericAwareJavaCodegen config = new GenericAwareJavaCodegen();
+    config.setOutputDir(output.toString());
+    config.setLibrary("restclient");
+    config.setModelPackage("bench.dto");
+    config.setApiPackage("bench.api");
+    config.additionalProperties().put(CodegenConstants.INVOKER_PACKAGE, "bench.invoker");
+    config.additionalProperties().put("useSpringBoot3", true);
+    config.additionalProperties().put("openApiNullable", false);
+    config.importMapping()
+        .putAll(
+            Map.of(
+                "ServiceResponse", CONTRACT + "envelope.ServiceResponse",
+                "Meta", CONTRACT + "envelope.Meta",
+                "Sort", CONTRACT + "paging.Sort"));
+
+    input = new ClientOptInput().openAPI(newSpec(schemaCount)).config(config);
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(output)) {
+      files.sorted(Comparator.reverseOrder()).forEach(ClientGenerationBenchmark::delete);
+    }
+  }
+
+  @Benchmark
+  public List<File> generate() {
+    DefaultGenerator target =
+        "parallel".equals(generator) ? new ParallelGenerator() : new DefaultGenerator();
+    target.setGeneratorPropertyDefault(CodegenConstants.MODEL_TESTS, "false");
+    target.setGeneratorPropertyDefault(CodegenConstants.MODEL_DOCS, "false");
+    target.setGeneratorPropertyDefault(CodegenConstants.API_TESTS, "false");
+    target.setGeneratorPropertyDefault(CodegenConstants.API_DOCS, "false");
+    return target.opts(input).generate();
+  }
+
+  private static OpenAPI newSpec(int schemaCount) {
+    Components components = new Components();
+    Paths paths = new Paths();
+
+    components.addSchemas(
+        "Sort",
+        ignored(
+            new ObjectSchema()
+                .addProperty("field", new StringSchema())
+                .addProperty("direction", new StringSchema())));
+    components.addSchemas(
+        "Meta",
+        ignored(
+            new ObjectSchema()
+                .addProperty("serverTime", new DateTimeSchema())
+                .addProperty("sort", new ArraySchema().items(ref("Sort")))));
+    components.addSchemas(
+        "ServiceResponse",
+        ignored(
+            new ObjectSchema()
+                .addProperty("data", new ObjectSchema())
+                .addProperty("meta", ref("Meta"))));
+
+    for (int i = 0; i < schemaCount; i++) {
+      String dto = "SyntheticDto" + i;
+      String wrapper = "ServiceResponse" + dto;
+
+      components.addSchemas(
+          dto,
+          new ObjectSchema()
+              .addProperty("id", new IntegerSchema().format("int64"))
+              .addProperty("name", new StringSchema().maxLength(80))
+              .addProperty("email", new StringSchema())
+              .addProperty("active", new BooleanSchema()));
+
+      Schema<?> wrapperSchema =
+          new ComposedSchema()
+              .addAllOfItem(ref("ServiceResponse"))
+              .addAllOfItem(new ObjectSchema().addProperty("data", ref(dto)));
+      wrapperSchema.addExtension("x-api-wrapper", true);
+      wrapperSchema.addExtension("x-api-wrapper-datatype", dto);
+      components.addSchemas(wrapper, wrapperSchema);
+
+      Operation get =
+          new Operation()
+              .operationId("get" + dto)
+              .addTagsItem("Group" + (i % TAG_COUNT))
+              .responses(
+                  new ApiResponses()
+                      .addApiResponse(
+                          "200",
+                          new ApiResponse()
+                              .description("OK")
+                              .content(
+                                  new Content()
+                                      .addMediaType(
+                                          "application/json",
+                                          new MediaType().schema(ref(wrapper))))));
+      paths.addPathItem("/synthetic/" + i, new PathItem().get(get));
+    }
+
+    return new OpenAPI()
+        .info(new Info().title("Synthetic API").version("1.0"))
+        .paths(paths)
+        .components(components);
+  }
+
+  private static Schema<?> ref(String name) {
+    return new Schema<>().$ref(SCHEMA_PREFIX + name);
+  }
+
+  private static Schema<?> ignored(Schema<?> schema) {
+    schema.addExtension("x-ignore-model", true);
+    return schema;
+  }
+
+  private static void delete(Path path) {
+    try {
+      Files.delete(path);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
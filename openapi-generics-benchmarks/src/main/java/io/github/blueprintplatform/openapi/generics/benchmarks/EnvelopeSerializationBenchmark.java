@@ -0,0 +1,114 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.jackson.ContractJacksonModule;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares default databind with {@link ContractJacksonModule} for the response envelope.
+ *
+ * <ul>
+ *   <li>{@code mapper=databind} → reflection-based bean (de)serializers and JavaTime {@code
+ *       Instant} handling (Spring Boot defaults)
+ *   <li>{@code mapper=module} → same mapper with the contract fast-path module registered
+ * </ul>
+ *
+ * <p>{@code pageSize=0} measures {@code ServiceResponse<CustomerDto>}; larger values measure
+ * {@code ServiceResponse<Page<CustomerDto>>} with that many items.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EnvelopeSerializationBenchmark {
+
+  @Param({"databind", "module"})
+  public String mapper;
+
+  @Param({"0", "20", "100"})
+  public int pageSize;
+
+  private ObjectMapper objectMapper;
+  private ServiceResponse<?> response;
+  private JavaType responseType;
+  private byte[] json;
+
+  /** Representative payload item. */
+  public record CustomerDto(long id, String name, String email, boolean active) {}
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    objectMapper =
+        new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    if ("module".equals(mapper)) {
+      objectMapper.registerModule(new ContractJacksonModule());
+    }
+
+    Meta meta = Meta.now("name", SortDirection.ASC);
+
+    if (pageSize == 0) {
+      response = ServiceResponse.of(customer(1), meta);
+      responseType =
+          objectMapper
+              .getTypeFactory()
+              .constructParametricType(ServiceResponse.class, CustomerDto.class);
+    } else {
+      List<CustomerDto> content = new ArrayList<>(pageSize);
+      for (int i = 0; i < pageSize; i++) {
+        content.add(customer(i));
+      }
+
+      response = ServiceResponse.of(Page.of(content, 0, pageSize, 10_000L), meta);
+      responseType =
+          objectMapper
+              .getTypeFactory()
+              .constructParametricType(
+                  ServiceResponse.class,
+                  objectMapper
+                      .getTypeFactory()
+                      .constructParametricType(Page.class, CustomerDto.class));
+    }
+
+    json = objectMapper.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return objectMapper.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public Object deserialize() throws IOException {
+    return objectMapper.readValue(json, responseType);
+  }
+
+  private static CustomerDto customer(long id) {
+    return new CustomerDto(id, "Customer " + id, "customer" + id + "@example.com", true);
+  }
+}
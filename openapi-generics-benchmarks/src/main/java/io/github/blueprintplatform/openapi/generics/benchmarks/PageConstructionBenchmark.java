@@ -0,0 +1,55 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Page#of} (defensive copy) with {@link Page#ofTrusted} (unmodifiable view).
+ *
+ * <p>The input mirrors a typical in-memory list endpoint: a {@code subList} slice of a {@code
+ * Stream.toList()} result, which {@code List.copyOf} cannot reuse. Run with {@code -prof gc} to
+ * compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PageConstructionBenchmark {
+
+  @Param({"20", "100", "1000"})
+  public int pageSize;
+
+  private List<Integer> slice;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Integer> items = IntStream.range(0, pageSize * 3).boxed().toList();
+    slice = items.subList(pageSize, pageSize * 2);
+  }
+
+  @Benchmark
+  public Page<Integer> copy() {
+    return Page.of(slice, 1, pageSize, pageSize * 3L);
+  }
+
+  @Benchmark
+  public Page<Integer> trusted() {
+    return Page.ofTrusted(slice, 1, pageSize, pageSize * 3L);
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeIntrospector;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.OpenApiPipelineOrchestrator;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaEnricher;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaProcessor;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.base.BaseSchemaRegistrar;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.base.SchemaGenerationControlMarker;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the end-to-end {@link OpenApiPipelineOrchestrator#run(OpenAPI)}.
+ *
+ * <ul>
+ *   <li>{@link #coldRun} → new orchestrator per invocation (discovery + introspection included),
+ *       matching the first document served after startup
+ *   <li>{@link #warmRun} → orchestrator reused across invocations (discovery memoized), matching
+ *       additional documents such as {@code GroupedOpenApi} groups
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class PipelineOrchestratorBenchmark {
+
+  private SyntheticApiState state;
+  private OpenApiPipelineOrchestrator warmOrchestrator;
+  private OpenApiPipelineOrchestrator coldOrchestrator;
+  private OpenAPI openApi;
+
+  @Setup(Level.Trial)
+  public void setUpTrial(SyntheticApiState state) {
+    this.state = state;
+    warmOrchestrator = newOrchestrator();
+    warmOrchestrator.run(state.api.newDocument());
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    coldOrchestrator = newOrchestrator();
+    openApi = state.api.newDocument();
+  }
+
+  @Benchmark
+  public OpenAPI coldRun() {
+    coldOrchestrator.run(openApi);
+    return openApi;
+  }
+
+  @Benchmark
+  public OpenAPI warmRun() {
+    warmOrchestrator.run(openApi);
+    return openApi;
+  }
+
+  private OpenApiPipelineOrchestrator newOrchestrator() {
+    WrapperSchemaEnricher enricher = new WrapperSchemaEnricher();
+
+    return new OpenApiPipelineOrchestrator(
+        new BaseSchemaRegistrar(),
+        new SchemaGenerationControlMarker(),
+        state.api.discoveryStrategy(),
+        new ResponseTypeIntrospector(),
+        new WrapperSchemaProcessor(enricher, null),
+        new OpenApiContractGuard());
+  }
+}
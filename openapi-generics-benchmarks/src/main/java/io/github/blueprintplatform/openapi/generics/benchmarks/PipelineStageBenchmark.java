@@ -0,0 +1,151 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeIntrospector;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.ServiceResponseSchemaFactory;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaEnricher;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaProcessor;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.base.BaseSchemaRegistrar;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.base.SchemaGenerationControlMarker;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SchemaNames;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures each stage of the OpenAPI pipeline in isolation.
+ *
+ * <h2>Document States</h2>
+ *
+ * <ul>
+ *   <li>{@link FreshDocument} → Springdoc output, rebuilt per invocation (for non-idempotent stages)
+ *   <li>{@link ProcessedDocument} → fully processed document, built once per trial (for stages that
+ *       are idempotent on an already processed document)
+ * </ul>
+ *
+ * <p>Per-invocation setup is excluded from the measurement, but adds noise for the smallest
+ * documents; prefer {@code schemaCount >= 1000} when comparing stage timings.
+ *
+ * <h2>Allocation</h2>
+ *
+ * <p>Run with {@code -prof gc} to report allocation per operation ({@code gc.alloc.rate.norm}),
+ * e.g. to compare wrapper factory footprint across versions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PipelineStageBenchmark {
+
+  private static final BaseSchemaRegistrar REGISTRAR = new BaseSchemaRegistrar();
+
+  /** Unprocessed document, rebuilt before every invocation. */
+  @State(Scope.Thread)
+  public static class FreshDocument {
+
+    OpenAPI openApi;
+
+    @Setup(Level.Invocation)
+    public void setUp(SyntheticApiState state) {
+      openApi = state.api.newDocument();
+    }
+  }
+
+  /** Fully processed document, built once per trial. */
+  @State(Scope.Thread)
+  public static class ProcessedDocument {
+
+    final BaseSchemaRegistrar registrar = new BaseSchemaRegistrar();
+    final WrapperSchemaEnricher enricher = new WrapperSchemaEnricher();
+    final WrapperSchemaProcessor processor = new WrapperSchemaProcessor(enricher, null);
+    final SchemaGenerationControlMarker marker = new SchemaGenerationControlMarker();
+    final OpenApiContractGuard guard = new OpenApiContractGuard();
+
+    OpenAPI openApi;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticApiState state) {
+      openApi = state.api.newDocument();
+      registrar.register(openApi);
+      state.api.refs().forEach(ref -> processor.process(openApi, ref));
+      marker.mark(openApi);
+      guard.validate(openApi);
+    }
+  }
+
+  /** Introspector with a warm cache covering all handler types. */
+  @State(Scope.Thread)
+  public static class WarmIntrospector {
+
+    ResponseTypeIntrospector introspector;
+
+    @Setup(Level.Trial)
+    public void setUp(SyntheticApiState state) {
+      introspector = new ResponseTypeIntrospector(state.api.handlerTypes().size());
+      state.api.handlerTypes().forEach(introspector::extractDataRefName);
+    }
+  }
+
+  @Benchmark
+  public OpenAPI baseSchemaRegistration(FreshDocument document) {
+    REGISTRAR.register(document.openApi);
+    return document.openApi;
+  }
+
+  @Benchmark
+  public void introspectionUncached(SyntheticApiState state, Blackhole bh) {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector(0);
+    state.api.handlerTypes().forEach(type -> bh.consume(introspector.extractDataRefName(type)));
+  }
+
+  @Benchmark
+  public void introspectionCached(SyntheticApiState state, WarmIntrospector warm, Blackhole bh) {
+    state.api.handlerTypes().forEach(type -> bh.consume(warm.introspector.extractDataRefName(type)));
+  }
+
+  @Benchmark
+  public void wrapperFactory(SyntheticApiState state, Blackhole bh) {
+    state.api
+        .refs()
+        .forEach(ref -> bh.consume(ServiceResponseSchemaFactory.createComposedWrapper(ref)));
+  }
+
+  @Benchmark
+  public void wrapperProcessing(SyntheticApiState state, ProcessedDocument document, Blackhole bh) {
+    state.api.refs().forEach(ref -> bh.consume(document.processor.process(document.openApi, ref)));
+  }
+
+  @Benchmark
+  public void wrapperEnrichment(SyntheticApiState state, ProcessedDocument document) {
+    state.api
+        .refs()
+        .forEach(
+            ref ->
+                document.enricher.enrich(
+                    document.openApi, SchemaNames.SERVICE_RESPONSE + ref, ref));
+  }
+
+  @Benchmark
+  public OpenAPI ignoreMarking(ProcessedDocument document) {
+    document.marker.mark(document.openApi);
+    return document.openApi;
+  }
+
+  @Benchmark
+  public OpenAPI contractValidation(ProcessedDocument document) {
+    document.guard.validate(document.openApi);
+    return document.openApi;
+  }
+}
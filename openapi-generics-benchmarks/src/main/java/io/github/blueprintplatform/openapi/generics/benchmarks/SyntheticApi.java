@@ -0,0 +1,208 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeDiscoveryStrategy;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.PropertyNames;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SchemaNames;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Synthetic API surface used as benchmark input.
+ *
+ * <p>Models an application with {@code schemaCount} DTOs, each exposed by one handler:
+ *
+ * <ul>
+ *   <li>{@code pageRatio} of the handlers return {@code ServiceResponse<Page<Dto>>}, the rest
+ *       {@code ServiceResponse<Dto>}
+ *   <li>Every third handler wraps its return type in {@code ResponseEntity}
+ * </ul>
+ *
+ * <p>{@link #newDocument()} produces the OpenAPI document Springdoc would hand to the customizer:
+ * one {@code GET} operation per handler responding with Springdoc's own (non-contract) wrapper
+ * schema, which the pipeline replaces, plus the DTO and {@code Page} schemas.
+ *
+ * <p>Instances are immutable; every call to {@link #newDocument()} returns a fresh document.
+ */
+final class SyntheticApi {
+
+  private static final String SCHEMA_PREFIX = "#/components/schemas/";
+  private static final String DTO_PACKAGE = SyntheticApi.class.getPackageName() + ".dto.";
+  private static final String DTO_PREFIX = "SyntheticDto";
+  private static final String PAGE = "Page";
+
+  private final List<ResolvableType> handlerTypes;
+  private final List<String> dtoNames;
+  private final List<String> refs;
+  private final int pageCount;
+
+  private SyntheticApi(
+      List<ResolvableType> handlerTypes, List<String> dtoNames, List<String> refs, int pageCount) {
+    this.handlerTypes = handlerTypes;
+    this.dtoNames = dtoNames;
+    this.refs = refs;
+    this.pageCount = pageCount;
+  }
+
+  /**
+   * Creates a synthetic API.
+   *
+   * @param schemaCount number of DTOs (and handlers)
+   * @param pageRatio fraction of handlers returning {@code Page<T>} ({@code 0.0}–{@code 1.0})
+   * @return synthetic API
+   */
+  static SyntheticApi create(int schemaCount, double pageRatio) {
+    SyntheticClassLoader loader = new SyntheticClassLoader();
+    int pageCount = (int) Math.round(schemaCount * Math.min(Math.max(pageRatio, 0.0), 1.0));
+
+    List<ResolvableType> handlerTypes = new ArrayList<>(schemaCount);
+    List<String> dtoNames = new ArrayList<>(schemaCount);
+    List<String> refs = new ArrayList<>(schemaCount);
+
+    for (int i = 0; i < schemaCount; i++) {
+      String dtoName = DTO_PREFIX + i;
+      Class<?> dto = loader.define(DTO_PACKAGE + dtoName);
+
+      boolean paged = i < pageCount;
+      ResolvableType data =
+          paged
+              ? ResolvableType.forClassWithGenerics(Page.class, dto)
+              : ResolvableType.forClass(dto);
+
+      ResolvableType response = ResolvableType.forClassWithGenerics(ServiceResponse.class, data);
+      if (i % 3 == 0) {
+        response = ResolvableType.forClassWithGenerics(ResponseEntity.class, response);
+      }
+
+      handlerTypes.add(response);
+      dtoNames.add(dtoName);
+      refs.add(paged ? PAGE + dtoName : dtoName);
+    }
+
+    return new SyntheticApi(
+        Collections.unmodifiableList(handlerTypes),
+        Collections.unmodifiableList(dtoNames),
+        Collections.unmodifiableList(refs),
+        pageCount);
+  }
+
+  /**
+   * Returns handler return types in discovery order.
+   *
+   * @return handler return types
+   */
+  List<ResolvableType> handlerTypes() {
+    return handlerTypes;
+  }
+
+  /**
+   * Returns the contract-aware refs the pipeline is expected to extract, in discovery order.
+   *
+   * @return expected refs
+   */
+  List<String> refs() {
+    return refs;
+  }
+
+  /**
+   * Returns a discovery strategy yielding the synthetic handler types.
+   *
+   * @return discovery strategy
+   */
+  ResponseTypeDiscoveryStrategy discoveryStrategy() {
+    return () -> new LinkedHashSet<>(handlerTypes);
+  }
+
+  /**
+   * Builds a fresh OpenAPI document as produced by Springdoc before customization.
+   *
+   * @return new OpenAPI document
+   */
+  OpenAPI newDocument() {
+    Map<String, Schema> schemas = new LinkedHashMap<>();
+    Paths paths = new Paths();
+
+    for (int i = 0; i < dtoNames.size(); i++) {
+      String dtoName = dtoNames.get(i);
+      String ref = refs.get(i);
+
+      schemas.put(dtoName, dtoSchema());
+
+      if (i < pageCount) {
+        schemas.put(ref, pageSchema(dtoName));
+      }
+
+      schemas.put(SchemaNames.SERVICE_RESPONSE + ref, springdocWrapperSchema(ref));
+      paths.addPathItem("/synthetic/" + i, pathItem(SchemaNames.SERVICE_RESPONSE + ref));
+    }
+
+    return new OpenAPI()
+        .info(new Info().title("synthetic").version("1"))
+        .paths(paths)
+        .components(new Components().schemas(schemas));
+  }
+
+  private static PathItem pathItem(String responseSchema) {
+    ApiResponse ok =
+        new ApiResponse()
+            .description("OK")
+            .content(
+                new Content()
+                    .addMediaType(
+                        "application/json", new MediaType().schema(refSchema(responseSchema))));
+
+    return new PathItem()
+        .get(new Operation().responses(new ApiResponses().addApiResponse("200", ok)));
+  }
+
+  private static Schema<?> dtoSchema() {
+    return new ObjectSchema()
+        .addProperty("id", new IntegerSchema().format("int64"))
+        .addProperty("name", new StringSchema())
+        .addProperty("email", new StringSchema());
+  }
+
+  private static Schema<?> pageSchema(String itemName) {
+    return new ObjectSchema()
+        .addProperty("content", new ArraySchema().items(refSchema(itemName)))
+        .addProperty("page", new IntegerSchema())
+        .addProperty("size", new IntegerSchema())
+        .addProperty("totalElements", new IntegerSchema().format("int64"))
+        .addProperty("totalPages", new IntegerSchema())
+        .addProperty("hasNext", new BooleanSchema())
+        .addProperty("hasPrev", new BooleanSchema());
+  }
+
+  private static Schema<?> springdocWrapperSchema(String ref) {
+    return new ObjectSchema()
+        .addProperty(PropertyNames.DATA, refSchema(ref))
+        .addProperty(PropertyNames.META, refSchema(SchemaNames.META));
+  }
+
+  private static Schema<?> refSchema(String name) {
+    return new Schema<>().$ref(SCHEMA_PREFIX + name);
+  }
+}
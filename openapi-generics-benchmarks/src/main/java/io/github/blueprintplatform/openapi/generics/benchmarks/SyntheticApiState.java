@@ -0,0 +1,32 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state holding the {@link SyntheticApi} for the current parameter combination.
+ *
+ * <p>Parameters can be overridden from the command line, e.g. {@code -p schemaCount=1500 -p
+ * pageRatio=0.3}.
+ */
+@State(Scope.Benchmark)
+public class SyntheticApiState {
+
+  /** Number of DTO schemas (and handlers) in the synthetic API. */
+  @Param({"100", "1000", "10000", "50000"})
+  public int schemaCount;
+
+  /** Fraction of handlers returning {@code ServiceResponse<Page<T>>}. */
+  @Param({"0.0", "0.25", "0.5"})
+  public double pageRatio;
+
+  SyntheticApi api;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    api = SyntheticApi.create(schemaCount, pageRatio);
+  }
+}
@@ -0,0 +1,54 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+
+/**
+ * Class loader that defines empty DTO classes on demand.
+ *
+ * <p>The pipeline derives schema names from {@link Class#getSimpleName()}, so realistic workloads
+ * need many distinct classes. Defining them at runtime keeps the benchmark sources small while
+ * allowing tens of thousands of handler types.
+ *
+ * <p>Generated classes are plain public classes with a default constructor and no members.
+ */
+final class SyntheticClassLoader extends ClassLoader {
+
+  private static final String OBJECT = "java/lang/Object";
+  private static final String CONSTRUCTOR = "<init>";
+  private static final String NO_ARG_DESCRIPTOR = "()V";
+
+  SyntheticClassLoader() {
+    super(SyntheticClassLoader.class.getClassLoader());
+  }
+
+  /**
+   * Defines a new empty class.
+   *
+   * @param binaryName fully qualified class name (e.g. {@code bench.dto.Dto42})
+   * @return defined class
+   */
+  Class<?> define(String binaryName) {
+    byte[] bytecode = generate(binaryName.replace('.', '/'));
+    return defineClass(binaryName, bytecode, 0, bytecode.length);
+  }
+
+  private static byte[] generate(String internalName) {
+    ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    writer.visit(
+        Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, OBJECT, null);
+
+    MethodVisitor constructor =
+        writer.visitMethod(Opcodes.ACC_PUBLIC, CONSTRUCTOR, NO_ARG_DESCRIPTOR, null, null);
+    constructor.visitCode();
+    constructor.visitVarInsn(Opcodes.ALOAD, 0);
+    constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, CONSTRUCTOR, NO_ARG_DESCRIPTOR, false);
+    constructor.visitInsn(Opcodes.RETURN);
+    constructor.visitMaxs(0, 0);
+    constructor.visitEnd();
+
+    writer.visitEnd();
+    return writer.toByteArray();
+  }
+}
@@ -0,0 +1,100 @@
+package io.github.blueprintplatform.openapi.generics.benchmarks;
+
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaEnricher;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaProcessor;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.base.BaseSchemaRegistrar;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap <b>retained</b> by the wrapper schemas of one processed document.
+ *
+ * <p>{@code -prof gc} reports allocation rate, not what stays reachable. This benchmark instead
+ * compares live heap (after full GCs) before and after wrapper processing, while the processed
+ * document is still referenced, and reports the delta as the {@code retainedBytes} counter.
+ *
+ * <p>{@code shareBaseRef} toggles the per-document shared {@code ServiceResponse} {@code $ref}
+ * ({@code app.openapi.wrapper.share-base-ref}), giving a before/after comparison on the same
+ * workload. The delta is net of the Springdoc wrappers replaced by the pipeline, so compare the two
+ * settings rather than reading absolute values.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class WrapperRetainedHeapBenchmark {
+
+  private static final int GC_ROUNDS = 3;
+
+  /** Whether wrappers of the document share the {@code ServiceResponse} base reference. */
+  @Param({"true", "false"})
+  public boolean shareBaseRef;
+
+  private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+  private SyntheticApiState state;
+  private WrapperSchemaProcessor processor;
+  private OpenAPI openApi;
+
+  /** Retained heap reported per iteration. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+
+    /** Live heap added by wrapper processing, in bytes. */
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUpTrial(SyntheticApiState state) {
+    this.state = state;
+    processor = new WrapperSchemaProcessor(new WrapperSchemaEnricher(), null, shareBaseRef);
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() {
+    openApi = state.api.newDocument();
+    new BaseSchemaRegistrar().register(openApi);
+  }
+
+  @Benchmark
+  public OpenAPI processWrappers(RetainedHeap heap) {
+    long before = liveHeap();
+
+    WrapperSchemaProcessor.DocumentScope document = processor.forDocument(openApi);
+    state.api.refs().forEach(document::process);
+    document = null;
+
+    heap.retainedBytes = liveHeap() - before;
+    return openApi;
+  }
+
+  private long liveHeap() {
+    for (int i = 0; i < GC_ROUNDS; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
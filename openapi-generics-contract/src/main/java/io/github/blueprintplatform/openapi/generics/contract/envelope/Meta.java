@@ -2,24 +2,51 @@ package io.github.blueprintplatform.openapi.generics.contract.envelope;
 
 import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 
 /**
  * Common metadata attached to every successful API response.
  *
+ * <p>{@code now(...)} factories read the server time from a shared clock (the system UTC clock by
+ * default). It can be replaced once at startup, e.g. with {@link CoarseClock#INSTANCE} on
+ * high-throughput services or with a fixed clock in tests.
+ *
  * @param serverTime server-side timestamp produced when the response metadata is created
  * @param sort sorting information associated with the response, if any
  */
 public record Meta(Instant serverTime, List<Sort> sort) {
 
+  private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
+
+  private static volatile Clock clock = DEFAULT_CLOCK;
+
+  /**
+   * Replaces the clock used by the {@code now(...)} factories.
+   *
+   * @param clock clock to use, or {@code null} to restore the system UTC clock
+   */
+  public static void useClock(Clock clock) {
+    Meta.clock = (clock != null) ? clock : DEFAULT_CLOCK;
+  }
+
+  /**
+   * Returns the clock used by the {@code now(...)} factories.
+   *
+   * @return current clock
+   */
+  public static Clock clock() {
+    return clock;
+  }
+
   /**
    * Creates metadata with the current server time and no sorting information.
    *
    * @return metadata instance with current time
    */
   public static Meta now() {
-    return new Meta(Instant.now(), List.of());
+    return new Meta(clock.instant(), List.of());
   }
 
   /**
@@ -29,7 +56,7 @@ public record Meta(Instant serverTime, List<Sort> sort) {
    * @return metadata instance with current time
    */
   public static Meta now(List<Sort> sort) {
-    return new Meta(Instant.now(), sort == null ? List.of() : List.copyOf(sort));
+    return new Meta(clock.instant(), sort == null ? List.of() : List.copyOf(sort));
   }
 
   /**
@@ -39,7 +66,7 @@ public record Meta(Instant serverTime, List<Sort> sort) {
    * @return metadata instance with current time
    */
   public static Meta now(Sort... sort) {
-    return new Meta(Instant.now(), sort == null ? List.of() : List.of(sort));
+    return new Meta(clock.instant(), sort == null ? List.of() : List.of(sort));
   }
 
   /**
@@ -51,8 +78,8 @@ public record Meta(Instant serverTime, List<Sort> sort) {
    */
   public static Meta now(String field, SortDirection direction) {
     if (field == null || field.isBlank()) {
-      return new Meta(Instant.now(), List.of());
+      return new Meta(clock.instant(), List.of());
     }
-    return new Meta(Instant.now(), List.of(new Sort(field, direction)));
+    return new Meta(clock.instant(), List.of(new Sort(field, direction)));
   }
 }
\ No newline at end of file
@@ -5,6 +5,12 @@ import java.util.Objects;
 /**
  * Canonical success envelope shared across server and client code.
  *
+ * <p>Default metadata is created lazily on first access. Deserializers (which always set {@code
+ * meta} when present in the payload) therefore never compute a throwaway {@link Meta#now()}.
+ * {@link #equals(Object)}, {@link #hashCode()} and {@link #toString()} read the field as is and
+ * never materialize it, so a response whose default metadata has not been accessed yet compares
+ * as having no metadata.
+ *
  * @param <T> payload type
  */
 public class ServiceResponse<T> {
@@ -15,9 +21,7 @@ public class ServiceResponse<T> {
   /**
    * Creates an empty response with default metadata.
    */
-  public ServiceResponse() {
-    this.meta = Meta.now();
-  }
+  public ServiceResponse() {}
 
   /**
    * Creates a response with payload and metadata.
@@ -27,7 +31,7 @@ public class ServiceResponse<T> {
    */
   public ServiceResponse(T data, Meta meta) {
     this.data = data;
-    this.meta = (meta != null) ? meta : Meta.now();
+    this.meta = meta;
   }
 
   /**
@@ -77,7 +81,12 @@ public class ServiceResponse<T> {
    * @return metadata
    */
   public Meta getMeta() {
-    return meta;
+    Meta m = meta;
+    if (m == null) {
+      m = Meta.now();
+      meta = m;
+    }
+    return m;
   }
 
   /**
@@ -86,7 +95,7 @@ public class ServiceResponse<T> {
    * @param meta response metadata, defaults to {@link Meta#now()} when {@code null}
    */
   public void setMeta(Meta meta) {
-    this.meta = (meta != null) ? meta : Meta.now();
+    this.meta = meta;
   }
 
   @Override
@@ -0,0 +1,141 @@
+package io.github.blueprintplatform.openapi.generics.contract.envelope;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streaming success envelope for large list responses.
+ *
+ * <p>Unlike {@code ServiceResponse<List<T>>}, items are never materialized as a whole. On the wire
+ * the envelope is written as newline-delimited JSON ({@value #MEDIA_TYPE}): the metadata first,
+ * then one item per line.
+ *
+ * <pre>
+ * {"meta":{"serverTime":"...","sort":[]}}
+ * {"id":1,...}
+ * {"id":2,...}
+ * </pre>
+ *
+ * <p>Clients read this representation with {@code StreamingServiceResponseReader} (contract
+ * Jackson support).
+ *
+ * <p>The item stream is consumed at most once and closed together with the envelope. Default
+ * metadata is created lazily on first access.
+ *
+ * @param <T> item type
+ */
+public class StreamingServiceResponse<T> implements AutoCloseable {
+
+  /** Media type of the streamed representation. */
+  public static final String MEDIA_TYPE = "application/x-ndjson";
+
+  private Meta meta;
+  private Stream<T> items;
+
+  /**
+   * Creates an empty response with default metadata.
+   */
+  public StreamingServiceResponse() {
+    this(Stream.empty(), null);
+  }
+
+  /**
+   * Creates a response with an item stream and metadata.
+   *
+   * @param items item stream, empty when {@code null}
+   * @param meta response metadata, defaults to {@link Meta#now()} when {@code null}
+   */
+  public StreamingServiceResponse(Stream<T> items, Meta meta) {
+    this.items = (items != null) ? items : Stream.empty();
+    this.meta = meta;
+  }
+
+  /**
+   * Creates a response with an item stream and explicit metadata.
+   *
+   * @param items item stream
+   * @param meta response metadata
+   * @param <T> item type
+   * @return response instance
+   */
+  public static <T> StreamingServiceResponse<T> of(Stream<T> items, Meta meta) {
+    return new StreamingServiceResponse<>(items, meta);
+  }
+
+  /**
+   * Creates a response with an item stream and default metadata.
+   *
+   * @param items item stream
+   * @param <T> item type
+   * @return response instance
+   */
+  public static <T> StreamingServiceResponse<T> of(Stream<T> items) {
+    return new StreamingServiceResponse<>(items, null);
+  }
+
+  /**
+   * Returns the response metadata.
+   *
+   * @return metadata
+   */
+  public Meta getMeta() {
+    Meta m = meta;
+    if (m == null) {
+      m = Meta.now();
+      meta = m;
+    }
+    return m;
+  }
+
+  /**
+   * Updates the response metadata.
+   *
+   * @param meta response metadata, defaults to {@link Meta#now()} when {@code null}
+   */
+  public void setMeta(Meta meta) {
+    this.meta = meta;
+  }
+
+  /**
+   * Returns the item stream.
+   *
+   * <p>Not a serializable property: items are written one by one by the streaming transport.
+   *
+   * @return item stream
+   */
+  @JsonIgnore
+  public Stream<T> getItems() {
+    return items;
+  }
+
+  /**
+   * Updates the item stream.
+   *
+   * @param items item stream, empty when {@code null}
+   */
+  @JsonIgnore
+  public void setItems(Stream<T> items) {
+    this.items = (items != null) ? items : Stream.empty();
+  }
+
+  /**
+   * Returns an iterator over the item stream.
+   *
+   * @return item iterator
+   */
+  public Iterator<T> iterator() {
+    return items.iterator();
+  }
+
+  /** Closes the underlying item stream (e.g. a database cursor). */
+  @Override
+  public void close() {
+    items.close();
+  }
+
+  @Override
+  public String toString() {
+    return "StreamingServiceResponse{meta=" + meta + '}';
+  }
+}
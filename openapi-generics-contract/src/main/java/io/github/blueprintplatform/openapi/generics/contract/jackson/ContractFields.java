@@ -0,0 +1,71 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+
+/** Pre-encoded JSON field names of the contract types and shared (de)serialization helpers. */
+final class ContractFields {
+
+  static final SerializedString DATA = new SerializedString("data");
+  static final SerializedString META = new SerializedString("meta");
+
+  static final SerializedString SERVER_TIME = new SerializedString("serverTime");
+  static final SerializedString SORT = new SerializedString("sort");
+
+  static final SerializedString FIELD = new SerializedString("field");
+  static final SerializedString DIRECTION = new SerializedString("direction");
+
+  static final SerializedString CONTENT = new SerializedString("content");
+  static final SerializedString PAGE = new SerializedString("page");
+  static final SerializedString SIZE = new SerializedString("size");
+  static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+  static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+  static final SerializedString HAS_NEXT = new SerializedString("hasNext");
+  static final SerializedString HAS_PREV = new SerializedString("hasPrev");
+
+  private ContractFields() {}
+
+  /**
+   * Returns whether {@code null} properties of the given type are written, honoring the mapper's
+   * default property inclusion (e.g. {@code spring.jackson.default-property-inclusion}).
+   *
+   * @param provider serializer provider
+   * @param type serialized type
+   * @return {@code true} if null values are written
+   */
+  static boolean writesNulls(SerializerProvider provider, Class<?> type) {
+    JsonInclude.Include inclusion =
+        provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion();
+    return inclusion == JsonInclude.Include.ALWAYS
+        || inclusion == JsonInclude.Include.USE_DEFAULTS;
+  }
+
+  /**
+   * Positions the parser on the first field of an object.
+   *
+   * @param p parser, positioned on {@code START_OBJECT} or the first {@code FIELD_NAME}
+   * @param ctxt deserialization context
+   * @param type deserialized type (for error reporting)
+   * @return current token ({@code FIELD_NAME} or {@code END_OBJECT})
+   * @throws IOException if the input is not an object
+   */
+  static JsonToken firstField(JsonParser p, DeserializationContext ctxt, Class<?> type)
+      throws IOException {
+    JsonToken t = p.currentToken();
+
+    if (t == JsonToken.START_OBJECT) {
+      return p.nextToken();
+    }
+
+    if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+      ctxt.handleUnexpectedToken(type, p);
+    }
+
+    return t;
+  }
+}
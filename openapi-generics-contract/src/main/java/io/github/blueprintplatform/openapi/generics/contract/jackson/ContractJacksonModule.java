@@ -0,0 +1,91 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
+
+/**
+ * Jackson module with hand-written serializers and deserializers for the response envelope.
+ *
+ * <p>Covers {@link ServiceResponse} (including subclasses such as generated wrappers), {@link
+ * Meta}, {@link Sort} and {@link Page}. Field names are pre-encoded and no bean introspection
+ * happens for these types; payload and page items still use the mapper's regular serializers.
+ *
+ * <h2>Compatibility</h2>
+ *
+ * <ul>
+ *   <li>Output is identical to default databind for the usual configurations (ISO-8601 or numeric
+ *       {@code serverTime}, {@code ALWAYS}/{@code NON_NULL} inclusion)
+ *   <li>Unknown properties follow {@code FAIL_ON_UNKNOWN_PROPERTIES}
+ *   <li>Mix-ins, naming strategies and class-level Jackson annotations on envelope subclasses are
+ *       <b>not</b> applied → register the module only if the envelope is used as shipped
+ * </ul>
+ *
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * mapper.registerModule(new ContractJacksonModule());
+ * </pre>
+ *
+ * <p>In Spring Boot, declaring the module as a bean is sufficient.
+ *
+ * <p>Requires {@code jackson-databind} on the classpath (an optional dependency of this module).
+ */
+public class ContractJacksonModule extends SimpleModule {
+
+  public ContractJacksonModule() {
+    super(ContractJacksonModule.class.getSimpleName());
+
+    addSerializer(ServiceResponseSerializer.INSTANCE);
+    addSerializer(Meta.class, MetaSerializer.INSTANCE);
+    addSerializer(Sort.class, SortSerializer.INSTANCE);
+    addSerializer(PageSerializer.INSTANCE);
+  }
+
+  @Override
+  public void setupModule(SetupContext context) {
+    super.setupModule(context);
+    context.addDeserializers(new ContractDeserializers());
+  }
+
+  /** Resolves envelope deserializers per concrete (generic) type. */
+  private static final class ContractDeserializers extends Deserializers.Base {
+
+    @Override
+    public JsonDeserializer<?> findBeanDeserializer(
+        JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+
+      Class<?> raw = type.getRawClass();
+
+      if (ServiceResponse.class.isAssignableFrom(raw)) {
+        return new ServiceResponseDeserializer(type);
+      }
+      if (raw == Page.class) {
+        return new PageDeserializer(type);
+      }
+      if (raw == Meta.class) {
+        return MetaDeserializer.INSTANCE;
+      }
+      if (raw == Sort.class) {
+        return SortDeserializer.INSTANCE;
+      }
+
+      return null;
+    }
+
+    @Override
+    public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
+      return ServiceResponse.class.isAssignableFrom(valueType)
+          || valueType == Page.class
+          || valueType == Meta.class
+          || valueType == Sort.class;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@link Meta}.
+ *
+ * <p>ISO-8601 {@code serverTime} values are parsed directly; any other representation (e.g.
+ * numeric timestamps) is delegated to the mapper's {@link Instant} deserializer.
+ */
+final class MetaDeserializer extends StdDeserializer<Meta> {
+
+  static final MetaDeserializer INSTANCE = new MetaDeserializer();
+
+  private MetaDeserializer() {
+    super(Meta.class);
+  }
+
+  @Override
+  public Meta deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    Instant serverTime = null;
+    List<Sort> sort = null;
+
+    for (JsonToken t = ContractFields.firstField(p, ctxt, Meta.class);
+        t == JsonToken.FIELD_NAME;
+        t = p.nextToken()) {
+
+      String name = p.currentName();
+      JsonToken value = p.nextToken();
+
+      switch (name) {
+        case "serverTime" ->
+            serverTime = (value == JsonToken.VALUE_NULL) ? null : serverTime(p, ctxt, value);
+        case "sort" -> sort = (value == JsonToken.VALUE_NULL) ? null : sort(p, ctxt, value);
+        default -> handleUnknownProperty(p, ctxt, Meta.class, name);
+      }
+    }
+
+    return new Meta(serverTime, sort);
+  }
+
+  private Instant serverTime(JsonParser p, DeserializationContext ctxt, JsonToken value)
+      throws IOException {
+    if (value == JsonToken.VALUE_STRING) {
+      try {
+        return Instant.parse(p.getText());
+      } catch (DateTimeParseException ignored) {
+        // not ISO_INSTANT (e.g. offset notation) → mapper decides
+      }
+    }
+    return ctxt.readValue(p, Instant.class);
+  }
+
+  private List<Sort> sort(JsonParser p, DeserializationContext ctxt, JsonToken value)
+      throws IOException {
+    if (value != JsonToken.START_ARRAY) {
+      return ctxt.readValue(
+          p, ctxt.getTypeFactory().constructCollectionType(List.class, Sort.class));
+    }
+
+    List<Sort> sort = new ArrayList<>();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      sort.add(
+          p.currentToken() == JsonToken.VALUE_NULL
+              ? null
+              : SortDeserializer.INSTANCE.deserialize(p, ctxt));
+    }
+    return sort;
+  }
+}
@@ -0,0 +1,67 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes {@link Meta}.
+ *
+ * <p>{@code serverTime} is written as ISO-8601 text directly. When {@link
+ * SerializationFeature#WRITE_DATES_AS_TIMESTAMPS} is enabled, it is delegated to the mapper's
+ * {@link Instant} serializer instead.
+ */
+final class MetaSerializer extends StdSerializer<Meta> {
+
+  static final MetaSerializer INSTANCE = new MetaSerializer();
+
+  private MetaSerializer() {
+    super(Meta.class);
+  }
+
+  @Override
+  public void serialize(Meta value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    boolean writeNulls = ContractFields.writesNulls(provider, Meta.class);
+
+    gen.writeStartObject(value);
+
+    Instant serverTime = value.serverTime();
+    if (serverTime != null) {
+      gen.writeFieldName(ContractFields.SERVER_TIME);
+      if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+        provider.defaultSerializeValue(serverTime, gen);
+      } else {
+        gen.writeString(serverTime.toString());
+      }
+    } else if (writeNulls) {
+      gen.writeFieldName(ContractFields.SERVER_TIME);
+      gen.writeNull();
+    }
+
+    List<Sort> sort = value.sort();
+    if (sort != null) {
+      gen.writeFieldName(ContractFields.SORT);
+      gen.writeStartArray(sort, sort.size());
+      for (Sort s : sort) {
+        if (s == null) {
+          gen.writeNull();
+        } else {
+          SortSerializer.INSTANCE.serialize(s, gen, provider);
+        }
+      }
+      gen.writeEndArray();
+    } else if (writeNulls) {
+      gen.writeFieldName(ContractFields.SORT);
+      gen.writeNull();
+    }
+
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@link Page} through its canonical constructor (values are taken as-is, like default
+ * record deserialization).
+ *
+ * <p>One instance exists per item type; the item deserializer is resolved once.
+ */
+final class PageDeserializer extends StdDeserializer<Page<?>> implements ResolvableDeserializer {
+
+  private final JavaType itemType;
+
+  private JsonDeserializer<Object> itemDeserializer;
+
+  PageDeserializer(JavaType type) {
+    super(type);
+
+    JavaType[] params = type.findTypeParameters(Page.class);
+    this.itemType = (params.length == 1) ? params[0] : TypeFactory.unknownType();
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    itemDeserializer = ctxt.findContextualValueDeserializer(itemType, null);
+  }
+
+  @Override
+  public Page<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    List<Object> content = null;
+    int page = 0;
+    int size = 0;
+    long totalElements = 0L;
+    int totalPages = 0;
+    boolean hasNext = false;
+    boolean hasPrev = false;
+
+    for (JsonToken t = ContractFields.firstField(p, ctxt, Page.class);
+        t == JsonToken.FIELD_NAME;
+        t = p.nextToken()) {
+
+      String name = p.currentName();
+      JsonToken value = p.nextToken();
+
+      switch (name) {
+        case "content" -> content = (value == JsonToken.VALUE_NULL) ? null : content(p, ctxt);
+        case "page" -> page = _parseIntPrimitive(p, ctxt);
+        case "size" -> size = _parseIntPrimitive(p, ctxt);
+        case "totalElements" -> totalElements = _parseLongPrimitive(p, ctxt);
+        case "totalPages" -> totalPages = _parseIntPrimitive(p, ctxt);
+        case "hasNext" -> hasNext = _parseBooleanPrimitive(p, ctxt);
+        case "hasPrev" -> hasPrev = _parseBooleanPrimitive(p, ctxt);
+        default -> handleUnknownProperty(p, ctxt, Page.class, name);
+      }
+    }
+
+    return new Page<>(content, page, size, totalElements, totalPages, hasNext, hasPrev);
+  }
+
+  private List<Object> content(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.currentToken() != JsonToken.START_ARRAY) {
+      return ctxt.readValue(
+          p, ctxt.getTypeFactory().constructCollectionType(List.class, itemType));
+    }
+
+    List<Object> content = new ArrayList<>();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      content.add(
+          p.currentToken() == JsonToken.VALUE_NULL
+              ? itemDeserializer.getNullValue(ctxt)
+              : itemDeserializer.deserialize(p, ctxt));
+    }
+    return content;
+  }
+}
@@ -0,0 +1,52 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import java.io.IOException;
+import java.util.List;
+
+/** Writes {@link Page}; items are written with the mapper's regular serializer. */
+final class PageSerializer extends StdSerializer<Page<?>> {
+
+  static final PageSerializer INSTANCE = new PageSerializer();
+
+  private PageSerializer() {
+    super(Page.class, false);
+  }
+
+  @Override
+  public void serialize(Page<?> value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartObject(value);
+
+    List<?> content = value.content();
+    if (content != null) {
+      gen.writeFieldName(ContractFields.CONTENT);
+      gen.writeStartArray(content, content.size());
+      for (Object item : content) {
+        provider.defaultSerializeValue(item, gen);
+      }
+      gen.writeEndArray();
+    } else if (ContractFields.writesNulls(provider, Page.class)) {
+      gen.writeFieldName(ContractFields.CONTENT);
+      gen.writeNull();
+    }
+
+    gen.writeFieldName(ContractFields.PAGE);
+    gen.writeNumber(value.page());
+    gen.writeFieldName(ContractFields.SIZE);
+    gen.writeNumber(value.size());
+    gen.writeFieldName(ContractFields.TOTAL_ELEMENTS);
+    gen.writeNumber(value.totalElements());
+    gen.writeFieldName(ContractFields.TOTAL_PAGES);
+    gen.writeNumber(value.totalPages());
+    gen.writeFieldName(ContractFields.HAS_NEXT);
+    gen.writeBoolean(value.hasNext());
+    gen.writeFieldName(ContractFields.HAS_PREV);
+    gen.writeBoolean(value.hasPrev());
+
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,103 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+
+/**
+ * Reads {@link ServiceResponse} and its subclasses (e.g. generated {@code
+ * ServiceResponseCustomerDto} wrappers).
+ *
+ * <p>One instance exists per concrete type; the payload deserializer is resolved once for the
+ * resolved {@code T}. Subclasses are created via their no-arg constructor; non-public constructors
+ * are made accessible under the same {@link MapperFeature} rules as default databind.
+ */
+final class ServiceResponseDeserializer extends StdDeserializer<ServiceResponse<?>>
+    implements ResolvableDeserializer {
+
+  private final JavaType dataType;
+  private final Constructor<?> constructor;
+
+  private JsonDeserializer<Object> dataDeserializer;
+
+  ServiceResponseDeserializer(JavaType type) {
+    super(type);
+
+    JavaType[] params = type.findTypeParameters(ServiceResponse.class);
+    this.dataType = (params.length == 1) ? params[0] : TypeFactory.unknownType();
+    this.constructor = findConstructor(type.getRawClass());
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    dataDeserializer = ctxt.findContextualValueDeserializer(dataType, null);
+
+    if (constructor != null && ctxt.canOverrideAccessModifiers()) {
+      ClassUtil.checkAndFixAccess(
+          constructor, ctxt.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS));
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ServiceResponse<?> deserialize(JsonParser p, DeserializationContext ctxt)
+      throws IOException {
+    ServiceResponse<Object> response = (ServiceResponse<Object>) instantiate(ctxt);
+
+    for (JsonToken t = ContractFields.firstField(p, ctxt, handledType());
+        t == JsonToken.FIELD_NAME;
+        t = p.nextToken()) {
+
+      String name = p.currentName();
+      JsonToken value = p.nextToken();
+
+      switch (name) {
+        case "data" ->
+            response.setData(
+                (value == JsonToken.VALUE_NULL)
+                    ? dataDeserializer.getNullValue(ctxt)
+                    : dataDeserializer.deserialize(p, ctxt));
+        case "meta" ->
+            response.setMeta(
+                (value == JsonToken.VALUE_NULL)
+                    ? null
+                    : MetaDeserializer.INSTANCE.deserialize(p, ctxt));
+        default -> handleUnknownProperty(p, ctxt, response, name);
+      }
+    }
+
+    return response;
+  }
+
+  private Object instantiate(DeserializationContext ctxt) throws IOException {
+    if (constructor == null) {
+      return ctxt.handleMissingInstantiator(
+          handledType(), null, null, "no accessible no-arg constructor");
+    }
+
+    try {
+      return constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      return ctxt.handleInstantiationProblem(handledType(), null, e);
+    }
+  }
+
+  private static Constructor<?> findConstructor(Class<?> raw) {
+    try {
+      return raw.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import java.io.IOException;
+
+/**
+ * Writes {@link ServiceResponse} and its subclasses as {@code {"data": ..., "meta": ...}}.
+ *
+ * <p>The payload is written with the mapper's regular serializer for its runtime type.
+ */
+final class ServiceResponseSerializer extends StdSerializer<ServiceResponse<?>> {
+
+  static final ServiceResponseSerializer INSTANCE = new ServiceResponseSerializer();
+
+  private ServiceResponseSerializer() {
+    super(ServiceResponse.class, false);
+  }
+
+  @Override
+  public void serialize(ServiceResponse<?> value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    boolean writeNulls = ContractFields.writesNulls(provider, ServiceResponse.class);
+
+    gen.writeStartObject(value);
+
+    Object data = value.getData();
+    if (data != null) {
+      gen.writeFieldName(ContractFields.DATA);
+      provider.defaultSerializeValue(data, gen);
+    } else if (writeNulls) {
+      gen.writeFieldName(ContractFields.DATA);
+      gen.writeNull();
+    }
+
+    Meta meta = value.getMeta();
+    if (meta != null) {
+      gen.writeFieldName(ContractFields.META);
+      MetaSerializer.INSTANCE.serialize(meta, gen, provider);
+    } else if (writeNulls) {
+      gen.writeFieldName(ContractFields.META);
+      gen.writeNull();
+    }
+
+    gen.writeEndObject();
+  }
+}
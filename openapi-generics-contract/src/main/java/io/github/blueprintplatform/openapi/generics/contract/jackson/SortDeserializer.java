@@ -0,0 +1,55 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
+import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
+import java.io.IOException;
+
+/** Reads {@link Sort}; {@code direction} accepts the serialized values only. */
+final class SortDeserializer extends StdDeserializer<Sort> {
+
+  static final SortDeserializer INSTANCE = new SortDeserializer();
+
+  private SortDeserializer() {
+    super(Sort.class);
+  }
+
+  @Override
+  public Sort deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    String field = null;
+    SortDirection direction = null;
+
+    for (JsonToken t = ContractFields.firstField(p, ctxt, Sort.class);
+        t == JsonToken.FIELD_NAME;
+        t = p.nextToken()) {
+
+      String name = p.currentName();
+      JsonToken value = p.nextToken();
+
+      switch (name) {
+        case "field" -> field = (value == JsonToken.VALUE_NULL) ? null : p.getValueAsString();
+        case "direction" -> direction = (value == JsonToken.VALUE_NULL) ? null : direction(p, ctxt);
+        default -> handleUnknownProperty(p, ctxt, Sort.class, name);
+      }
+    }
+
+    return new Sort(field, direction);
+  }
+
+  private SortDirection direction(JsonParser p, DeserializationContext ctxt) throws IOException {
+    String text = p.getValueAsString();
+
+    for (SortDirection direction : SortDirection.values()) {
+      if (direction.value().equals(text)) {
+        return direction;
+      }
+    }
+
+    return (SortDirection)
+        ctxt.handleWeirdStringValue(
+            SortDirection.class, text, "not one of the values accepted for Enum class");
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
+import java.io.IOException;
+
+/** Writes {@link Sort}; {@code null} fields are omitted, as declared on the record. */
+final class SortSerializer extends StdSerializer<Sort> {
+
+  static final SortSerializer INSTANCE = new SortSerializer();
+
+  private SortSerializer() {
+    super(Sort.class);
+  }
+
+  @Override
+  public void serialize(Sort value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartObject(value);
+
+    if (value.field() != null) {
+      gen.writeFieldName(ContractFields.FIELD);
+      gen.writeString(value.field());
+    }
+
+    if (value.direction() != null) {
+      gen.writeFieldName(ContractFields.DIRECTION);
+      gen.writeString(value.direction().value());
+    }
+
+    gen.writeEndObject();
+  }
+}
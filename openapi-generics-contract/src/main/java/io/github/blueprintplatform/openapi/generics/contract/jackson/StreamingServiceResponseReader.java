@@ -0,0 +1,135 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the newline-delimited JSON representation of {@link StreamingServiceResponse}.
+ *
+ * <p>Counterpart of the server-side NDJSON writer:
+ *
+ * <ul>
+ *   <li>First line → {@code {"meta":{...}}}, read eagerly into {@link Meta}
+ *   <li>Remaining lines → items, read lazily while the returned stream is consumed
+ * </ul>
+ *
+ * <p>The input is owned by the returned response: closing the response (or its item stream)
+ * closes the input. An empty body yields a response without items and default metadata.
+ *
+ * <h2>Usage</h2>
+ *
+ * <pre>
+ * try (StreamingServiceResponse&lt;CustomerDto&gt; response = reader.read(in, CustomerDto.class)) {
+ *   response.getItems().forEach(...);
+ * }
+ * </pre>
+ *
+ * <p>Requires {@code jackson-databind} on the classpath (an optional dependency of this module).
+ */
+public final class StreamingServiceResponseReader {
+
+  private static final String META = "meta";
+
+  private final ObjectMapper mapper;
+
+  /**
+   * Creates a reader.
+   *
+   * @param mapper mapper used for metadata and items (must be able to read {@code Instant})
+   */
+  public StreamingServiceResponseReader(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * Reads a streaming response.
+   *
+   * @param in NDJSON input, closed together with the response
+   * @param itemType item class
+   * @param <T> item type
+   * @return response with lazily read items
+   * @throws IOException if the metadata line cannot be read
+   */
+  public <T> StreamingServiceResponse<T> read(InputStream in, Class<T> itemType)
+      throws IOException {
+    return read(in, mapper.constructType(itemType));
+  }
+
+  /**
+   * Reads a streaming response with a generic item type.
+   *
+   * @param in NDJSON input, closed together with the response
+   * @param itemType item type
+   * @param <T> item type
+   * @return response with lazily read items
+   * @throws IOException if the metadata line cannot be read
+   */
+  public <T> StreamingServiceResponse<T> read(InputStream in, JavaType itemType)
+      throws IOException {
+
+    JsonParser parser = mapper.getFactory().createParser(in);
+
+    try {
+      if (parser.nextToken() == null) {
+        parser.close();
+        return StreamingServiceResponse.of(Stream.empty());
+      }
+
+      Meta meta = readMeta(parser);
+
+      MappingIterator<T> iterator = mapper.readerFor(itemType).readValues(parser);
+
+      Stream<T> items =
+          StreamSupport.stream(
+                  Spliterators.spliteratorUnknownSize(
+                      iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                  false)
+              .onClose(() -> close(iterator));
+
+      return StreamingServiceResponse.of(items, meta);
+    } catch (IOException | RuntimeException e) {
+      parser.close();
+      throw e;
+    }
+  }
+
+  private Meta readMeta(JsonParser parser) throws IOException {
+
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      throw JsonMappingException.from(parser, "Expected metadata object as first NDJSON line");
+    }
+
+    ObjectNode head = mapper.readTree(parser);
+
+    if (!head.has(META)) {
+      throw JsonMappingException.from(parser, "Missing '" + META + "' in first NDJSON line");
+    }
+
+    // Positions the parser on the first item (if any).
+    parser.clearCurrentToken();
+
+    return mapper.treeToValue(head.get(META), Meta.class);
+  }
+
+  private static void close(MappingIterator<?> iterator) {
+    try {
+      iterator.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close NDJSON stream", e);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package io.github.blueprintplatform.openapi.generics.contract.paging;
+
+import java.util.List;
+
+/**
+ * Generic cursor-based (keyset) pagination container used in API responses.
+ *
+ * <p>Unlike {@link Page}, no total element or page count is exposed, so producers do not need to
+ * count the full result set. Navigation relies on opaque cursors issued by the producer.
+ *
+ * @param <T> element type
+ * @param content current page content
+ * @param size requested page size
+ * @param nextCursor opaque cursor of the next page ({@code null} if none)
+ * @param prevCursor opaque cursor of the previous page ({@code null} if none)
+ * @param hasNext whether a next page exists
+ */
+public record CursorPage<T>(
+        List<T> content, int size, String nextCursor, String prevCursor, boolean hasNext) {
+
+  /**
+   * Creates a cursor page instance and derives the navigation flag from the next cursor.
+   *
+   * @param content page content
+   * @param size requested page size
+   * @param nextCursor opaque cursor of the next page ({@code null} or blank if none)
+   * @param prevCursor opaque cursor of the previous page ({@code null} or blank if none)
+   * @param <T> element type
+   * @return normalized cursor page instance
+   */
+  public static <T> CursorPage<T> of(
+          List<T> content, int size, String nextCursor, String prevCursor) {
+    List<T> safeContent = (content == null) ? List.of() : List.copyOf(content);
+
+    int s = Math.max(size, 1);
+
+    String next = isBlank(nextCursor) ? null : nextCursor;
+    String prev = isBlank(prevCursor) ? null : prevCursor;
+
+    return new CursorPage<>(safeContent, s, next, prev, next != null);
+  }
+
+  private static boolean isBlank(String cursor) {
+    return cursor == null || cursor.isBlank();
+  }
+}
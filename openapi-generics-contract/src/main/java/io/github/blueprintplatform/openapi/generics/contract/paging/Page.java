@@ -1,5 +1,6 @@
 package io.github.blueprintplatform.openapi.generics.contract.paging;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -35,7 +36,35 @@ public record Page<T>(
    */
   public static <T> Page<T> of(List<T> content, int page, int size, long totalElements) {
     List<T> safeContent = (content == null) ? List.of() : List.copyOf(content);
+    return normalized(safeContent, page, size, totalElements);
+  }
+
+  /**
+   * Creates a page instance without copying the content.
+   *
+   * <p>The content is exposed through an unmodifiable view instead of a defensive copy. Intended
+   * for hot list endpoints where the caller owns a list that is never modified afterwards (e.g. a
+   * {@code subList} of a {@code Stream.toList()} result).
+   *
+   * <ul>
+   *   <li>no per-request array allocation or element copy
+   *   <li>later changes to {@code content} by the caller become visible through the page
+   * </ul>
+   *
+   * @param content page content, must not be modified after the call
+   * @param page zero-based page index
+   * @param size requested page size
+   * @param totalElements total number of available elements
+   * @param <T> element type
+   * @return normalized page instance
+   */
+  public static <T> Page<T> ofTrusted(List<T> content, int page, int size, long totalElements) {
+    List<T> safeContent = (content == null) ? List.of() : Collections.unmodifiableList(content);
+    return normalized(safeContent, page, size, totalElements);
+  }
 
+  private static <T> Page<T> normalized(
+          List<T> safeContent, int page, int size, long totalElements) {
     int p = Math.max(page, 0);
     int s = Math.max(size, 1);
 
@@ -0,0 +1,112 @@
+package io.github.blueprintplatform.openapi.generics.contract.envelope;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: ServiceResponse / Meta clock")
+class ServiceResponseTest {
+
+  private static final Instant FIXED = Instant.parse("2025-01-02T03:04:05Z");
+
+  @AfterEach
+  void resetClock() {
+    Meta.useClock(null);
+  }
+
+  @Test
+  @DisplayName("getMeta() -> default metadata is created on first access and then reused")
+  void getMeta_lazyDefault_createdOnceOnAccess() {
+    Meta.useClock(fixedClock(FIXED));
+    ServiceResponse<String> response = ServiceResponse.of("payload");
+
+    Meta first = response.getMeta();
+
+    Meta.useClock(fixedClock(FIXED.plusSeconds(60)));
+
+    assertSame(first, response.getMeta());
+    assertEquals(FIXED, first.serverTime());
+    assertEquals(List.of(), first.sort());
+  }
+
+  @Test
+  @DisplayName("equals()/hashCode()/toString() -> do not materialize the default metadata")
+  void objectMethods_doNotMaterializeDefaultMeta() {
+    ServiceResponse<String> response = ServiceResponse.of("payload");
+    ServiceResponse<String> other = ServiceResponse.of("payload");
+
+    assertEquals(response, other);
+    assertEquals(response.hashCode(), other.hashCode());
+    assertEquals("ServiceResponse{data=payload, meta=null}", response.toString());
+
+    Meta.useClock(fixedClock(FIXED));
+
+    assertEquals(FIXED, response.getMeta().serverTime());
+    assertEquals(FIXED, other.getMeta().serverTime());
+  }
+
+  @Test
+  @DisplayName("equals()/hashCode() -> compare payload and explicit metadata")
+  void equalsAndHashCode_explicitMeta() {
+    Meta meta = new Meta(FIXED, List.of());
+    ServiceResponse<String> response = ServiceResponse.of("payload", meta);
+
+    assertEquals(response, new ServiceResponse<>("payload", new Meta(FIXED, List.of())));
+    assertEquals(response.hashCode(), ServiceResponse.of("payload", meta).hashCode());
+    assertNotEquals(response, ServiceResponse.of("other", meta));
+    assertNotEquals(response, ServiceResponse.of("payload", new Meta(FIXED.plusSeconds(1), null)));
+    assertNotEquals(response, ServiceResponse.of("payload"));
+  }
+
+  @Test
+  @DisplayName("StreamingServiceResponse.toString() -> does not materialize the default metadata")
+  void streamingToString_doesNotMaterializeDefaultMeta() {
+    StreamingServiceResponse<String> response = StreamingServiceResponse.of(Stream.of("a"));
+
+    assertEquals("StreamingServiceResponse{meta=null}", response.toString());
+
+    Meta.useClock(fixedClock(FIXED));
+
+    assertEquals(FIXED, response.getMeta().serverTime());
+  }
+
+  @Test
+  @DisplayName("Meta.useClock() -> injected clock drives every now(...) factory")
+  void useClock_injectedClockDrivesFactories() {
+    Clock fixed = fixedClock(FIXED);
+    Meta.useClock(fixed);
+
+    assertSame(fixed, Meta.clock());
+    assertEquals(FIXED, Meta.now().serverTime());
+    assertEquals(FIXED, Meta.now(List.of()).serverTime());
+    assertEquals(FIXED, Meta.now("name", SortDirection.ASC).serverTime());
+  }
+
+  @Test
+  @DisplayName("Meta.useClock(null) -> restores the system UTC clock")
+  void useClock_null_restoresSystemClock() {
+    Meta.useClock(fixedClock(FIXED));
+    Meta.useClock(null);
+
+    assertEquals(Clock.systemUTC(), Meta.clock());
+
+    Instant before = Instant.now();
+    Instant serverTime = Meta.now().serverTime();
+
+    assertFalse(serverTime.isBefore(before));
+  }
+
+  private static Clock fixedClock(Instant instant) {
+    return Clock.fixed(instant, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,236 @@
+package io.github.blueprintplatform.openapi.generics.contract.jackson;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
+import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: ContractJacksonModule (default databind parity)")
+class ContractJacksonModuleParityTest {
+
+  private static final Instant SERVER_TIME = Instant.parse("2025-01-02T03:04:05.123456789Z");
+
+  private static final Meta META =
+      new Meta(
+          SERVER_TIME,
+          List.of(Sort.of("name", SortDirection.ASC), new Sort("customerId", null)));
+
+  private static final UnaryOperator<ObjectMapper> ISO_DATES =
+      mapper -> mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  private static final UnaryOperator<ObjectMapper> NUMERIC_DATES =
+      mapper -> mapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  private static final UnaryOperator<ObjectMapper> NON_NULL =
+      mapper ->
+          ISO_DATES.apply(mapper).setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+  record CustomerDto(Integer customerId, String name, String email) {}
+
+  /** Shape of a generated wrapper model. */
+  static class ServiceResponseCustomerDto extends ServiceResponse<CustomerDto> {}
+
+  // ================================
+  // SERIALIZATION
+  // ================================
+
+  @Test
+  @DisplayName("serialize() -> single payload with ISO serverTime matches default databind JSON")
+  void serialize_singlePayload_isoDates() throws Exception {
+    assertSameJson(ServiceResponse.of(customer(1), META), ISO_DATES);
+  }
+
+  @Test
+  @DisplayName("serialize() -> numeric serverTime (nanoseconds) matches default databind")
+  void serialize_singlePayload_numericDates() throws Exception {
+    assertSameJson(ServiceResponse.of(customer(1), META), NUMERIC_DATES);
+  }
+
+  @Test
+  @DisplayName("serialize() -> Page<T> and Sort (null direction) match default databind")
+  void serialize_page() throws Exception {
+    Page<CustomerDto> page = Page.of(List.of(customer(1), customer(2)), 1, 2, 5);
+
+    assertSameJson(ServiceResponse.of(page, META), ISO_DATES);
+    assertSameJson(ServiceResponse.of(page, META), NUMERIC_DATES);
+  }
+
+  @Test
+  @DisplayName("serialize() -> null data written with ALWAYS, skipped with NON_NULL (like databind)")
+  void serialize_nullData_followsInclusion() throws Exception {
+    ServiceResponse<CustomerDto> response = ServiceResponse.of(null, META);
+
+    assertSameJson(response, ISO_DATES);
+    assertSameJson(response, NON_NULL);
+  }
+
+  @Test
+  @DisplayName("serialize() -> payload with null fields and empty sort matches default databind")
+  void serialize_nullFieldsAndEmptySort() throws Exception {
+    var response =
+        ServiceResponse.of(new CustomerDto(7, null, null), new Meta(SERVER_TIME, List.of()));
+
+    assertSameJson(response, ISO_DATES);
+    assertSameJson(response, NON_NULL);
+  }
+
+  @Test
+  @DisplayName("serialize() -> generated wrapper subclass matches default databind")
+  void serialize_generatedWrapperSubclass() throws Exception {
+    var wrapper = new ServiceResponseCustomerDto();
+    wrapper.setData(customer(3));
+    wrapper.setMeta(META);
+
+    assertSameJson(wrapper, ISO_DATES);
+    assertSameJson(wrapper, NUMERIC_DATES);
+  }
+
+  @Test
+  @DisplayName("serialize() -> standalone Meta and Sort match default databind")
+  void serialize_metaAndSortStandalone() throws Exception {
+    assertSameJson(META, ISO_DATES);
+    assertSameJson(META, NUMERIC_DATES);
+    assertSameJson(new Sort("name", null), NON_NULL);
+  }
+
+  // ================================
+  // DESERIALIZATION
+  // ================================
+
+  @Test
+  @DisplayName("deserialize() -> ISO and numeric serverTime match default databind")
+  void deserialize_serverTimeFormats() throws Exception {
+    String iso =
+        """
+        {"data":{"customerId":1,"name":"Jane","email":"jane@example.com"},
+         "meta":{"serverTime":"2025-01-02T03:04:05.123456789Z",
+                 "sort":[{"field":"name","direction":"asc"}]}}
+        """;
+    String numeric =
+        """
+        {"data":{"customerId":1,"name":"Jane","email":"jane@example.com"},
+         "meta":{"serverTime":1735787045.123456789,"sort":[]}}
+        """;
+
+    var type = new TypeReference<ServiceResponse<CustomerDto>>() {};
+
+    assertSameValue(iso, type);
+    assertSameValue(numeric, type);
+  }
+
+  @Test
+  @DisplayName("deserialize() -> ServiceResponse<Page<T>> matches default databind")
+  void deserialize_page() throws Exception {
+    String json =
+        """
+        {"data":{"content":[{"customerId":1,"name":"Jane","email":null},
+                            {"customerId":2,"name":"John","email":"john@example.com"}],
+                 "page":0,"size":2,"totalElements":3,"totalPages":2,
+                 "hasNext":true,"hasPrev":false},
+         "meta":{"serverTime":"2025-01-02T03:04:05Z","sort":[]}}
+        """;
+
+    assertSameValue(json, new TypeReference<ServiceResponse<Page<CustomerDto>>>() {});
+  }
+
+  @Test
+  @DisplayName("deserialize() -> generated wrapper and null/missing fields match default databind")
+  void deserialize_generatedWrapperAndNulls() throws Exception {
+    String json =
+        """
+        {"data":null,"meta":{"serverTime":"2025-01-02T03:04:05Z","sort":null}}
+        """;
+
+    assertSameValue(json, new TypeReference<ServiceResponseCustomerDto>() {});
+    assertSameValue(
+        """
+        {"data":{"customerId":5},"meta":{"serverTime":"2025-01-02T03:04:05Z"}}
+        """,
+        new TypeReference<ServiceResponseCustomerDto>() {});
+  }
+
+  @Test
+  @DisplayName("deserialize() -> unknown property honours FAIL_ON_UNKNOWN_PROPERTIES like databind")
+  void deserialize_unknownProperties_followFeature() throws Exception {
+    String json =
+        """
+        {"data":{"customerId":1},"extra":1,
+         "meta":{"serverTime":"2025-01-02T03:04:05Z","sort":[],"traceId":"t"}}
+        """;
+    var type = new TypeReference<ServiceResponse<CustomerDto>>() {};
+
+    assertThrows(JsonMappingException.class, () -> defaultMapper(ISO_DATES).readValue(json, type));
+    assertThrows(JsonMappingException.class, () -> moduleMapper(ISO_DATES).readValue(json, type));
+
+    UnaryOperator<ObjectMapper> lenient =
+        mapper -> ISO_DATES.apply(mapper).disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    assertEquals(
+        defaultMapper(lenient).readValue(json, type), moduleMapper(lenient).readValue(json, type));
+  }
+
+  @Test
+  @DisplayName("round trip -> module output is read back by default databind and vice versa")
+  void roundTrip_acrossMappers() throws Exception {
+    var original = ServiceResponse.of(Page.of(List.of(customer(1)), 0, 1, 1), META);
+    var type = new TypeReference<ServiceResponse<Page<CustomerDto>>>() {};
+
+    ObjectMapper plain = defaultMapper(ISO_DATES);
+    ObjectMapper module = moduleMapper(ISO_DATES);
+
+    assertEquals(original, plain.readValue(module.writeValueAsString(original), type));
+    assertEquals(original, module.readValue(plain.writeValueAsString(original), type));
+  }
+
+  // ================================
+  // HELPERS
+  // ================================
+
+  private static void assertSameJson(Object value, UnaryOperator<ObjectMapper> config)
+      throws Exception {
+    String expected = defaultMapper(config).writeValueAsString(value);
+    String actual = moduleMapper(config).writeValueAsString(value);
+
+    assertEquals(expected, actual);
+  }
+
+  private static <T> void assertSameValue(String json, TypeReference<T> type) throws Exception {
+    T expected = defaultMapper(ISO_DATES).readValue(json, type);
+    T actual = moduleMapper(ISO_DATES).readValue(json, type);
+
+    assertEquals(expected.getClass(), actual.getClass());
+    assertEquals(expected, actual);
+  }
+
+  private static ObjectMapper defaultMapper(UnaryOperator<ObjectMapper> config) {
+    return config.apply(new ObjectMapper().registerModule(new JavaTimeModule()));
+  }
+
+  private static ObjectMapper moduleMapper(UnaryOperator<ObjectMapper> config) {
+    return config.apply(
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new ContractJacksonModule()));
+  }
+
+  private static CustomerDto customer(int id) {
+    return new CustomerDto(id, "Customer " + id, "customer" + id + "@example.com");
+  }
+}
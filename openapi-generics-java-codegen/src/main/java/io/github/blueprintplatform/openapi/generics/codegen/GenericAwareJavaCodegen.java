@@ -1,13 +1,33 @@
 package io.github.blueprintplatform.openapi.generics.codegen;
 
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
-import java.util.HashSet;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenResponse;
+import org.openapitools.codegen.SupportingFile;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
+import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.utils.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,7 +37,8 @@ import org.slf4j.LoggerFactory;
  * <p>Models marked with {@code x-ignore-model: true} are:
  *
  * <ul>
- *   <li>Detected during {@link #fromModel(String, Schema)} phase</li>
+ *   <li>Collected from {@code components.schemas} in {@link #preprocessOpenAPI(OpenAPI)}</li>
+ *   <li>Built as lightweight placeholders in {@link #fromModel(String, Schema)}</li>
  *   <li>Filtered out locally in {@link #postProcessModels(ModelsMap)}</li>
  *   <li>Completely removed from the global model graph in {@link #postProcessAllModels(Map)}</li>
  * </ul>
@@ -29,6 +50,21 @@ import org.slf4j.LoggerFactory;
  *   <li>But still usable as referenced types in composed/generated models</li>
  * </ul>
  *
+ * <p>Wrapper models ({@code x-api-wrapper: true}) are rendered with the bundled
+ * {@code api_wrapper.mustache} instead of {@code model.mustache}: {@link #postProcessModels(ModelsMap)}
+ * selects the template per model and {@link WrapperTemplatingEngineAdapter} honours it, so no
+ * template preparation is needed at build time.
+ *
+ * <p>With {@code genericResponseTypes=true}, wrapper models are not generated at all: they are
+ * treated like ignored models and API operations return the contract type directly (e.g.
+ * {@code ServiceResponse<Page<CustomerDto>>}), see
+ * {@link #postProcessOperationsWithModels(OperationsMap, List)}.
+ *
+ * <p>Operations returning a streaming wrapper ({@code x-api-stream: true}) are served as
+ * newline-delimited JSON, which the regular API methods cannot read. With the {@code restclient}
+ * library they are moved to a generated {@code StreamingApi} that reads the response lazily into
+ * {@code StreamingServiceResponse<T>}.
+ *
  * <p><b>Design Principle:</b><br>
  * Java contract is the authority, OpenAPI is a projection. This generator enforces that
  * projection must not re-materialize platform-owned types.
@@ -43,33 +79,161 @@ public class GenericAwareJavaCodegen extends JavaClientCodegen {
      */
     private static final String EXT_IGNORE_MODEL = "x-ignore-model";
 
+    private static final String EXT_API_WRAPPER = "x-api-wrapper";
+    private static final String EXT_API_WRAPPER_DATATYPE = "x-api-wrapper-datatype";
+    private static final String EXT_API_STREAM = "x-api-stream";
+    private static final String EXT_DATA_CONTAINER = "x-data-container";
+    private static final String EXT_DATA_CONTAINER_TYPE = "x-data-container-type";
+    private static final String EXT_DATA_ITEM = "x-data-item";
+    private static final String EXT_STREAM_ITEM_TYPE = "x-stream-item-type";
+
+    /** Contract supertype of a wrapper model, rendered by {@code api_wrapper.mustache}. */
+    private static final String EXT_WRAPPER_SUPERTYPE = "x-generics-wrapper-supertype";
+
+    /** Name of the cached type reference of an operation, rendered by {@code generic_api.mustache}. */
+    private static final String EXT_RETURN_TYPE_REFERENCE = "x-generics-return-type-reference";
+
+    private static final String CONTRACT_ENVELOPE_PACKAGE =
+            "io.github.blueprintplatform.openapi.generics.contract.envelope.";
+    private static final String CONTRACT_PAGING_PACKAGE =
+            "io.github.blueprintplatform.openapi.generics.contract.paging.";
+
+    private static final String STREAMING_API_FILE = "StreamingApi.java";
+
+    private static final String STREAMING_ENVELOPE = "StreamingServiceResponse";
+
+    private static final String API_TEMPLATE = "api.mustache";
+
+    /**
+     * Generator option returning contract types from API operations instead of generating wrapper
+     * classes (default {@code false}).
+     */
+    public static final String GENERIC_RESPONSE_TYPES = "genericResponseTypes";
+
     /**
      * Holds model names that should be excluded from generation.
+     *
+     * <p>Built once before model processing and immutable afterwards.
      */
-    private final Set<String> ignoredModels = new HashSet<>();
+    private Set<String> ignoredModels = Set.of();
+
+    /**
+     * Contract types of all wrapper models keyed by class name; rendered as wrapper supertypes and,
+     * with {@link #GENERIC_RESPONSE_TYPES}, declared as operation return types.
+     */
+    private Map<String, WrapperType> wrapperTypes = Map.of();
+
+    /**
+     * Item class names of streaming wrapper models keyed by wrapper class name.
+     */
+    private Map<String, String> streamItemTypes = Map.of();
+
+    /**
+     * Streaming operations collected from all APIs, rendered into {@code StreamingApi}.
+     *
+     * <p>Keyed and sorted by operation id, so collecting is safe from concurrent API processing and
+     * the generated class does not depend on processing order.
+     */
+    private final Map<String, CodegenOperation> streamingOperations = new ConcurrentSkipListMap<>();
+
+    private final Set<String> streamingImports = new ConcurrentSkipListSet<>();
+
+    private boolean genericResponseTypes;
+
+    /**
+     * Whether API classes declare one type reference per operation instead of one per call; see
+     * {@link #processOpts()}.
+     */
+    private boolean cachedTypeReferences;
+
+    /**
+     * Wrapper-aware decorator of the configured Mustache engine.
+     */
+    private WrapperTemplatingEngineAdapter templatingEngine;
+
+    public GenericAwareJavaCodegen() {
+        super();
+        cliOptions.add(CliOption.newBoolean(
+                GENERIC_RESPONSE_TYPES,
+                "Return ServiceResponse<T> from API operations instead of generating a class per"
+                        + " response wrapper",
+                false));
+    }
+
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        if (additionalProperties.containsKey(GENERIC_RESPONSE_TYPES)) {
+            genericResponseTypes = convertPropertyToBoolean(GENERIC_RESPONSE_TYPES);
+        }
+
+        cachedTypeReferences = genericResponseTypes && RESTCLIENT.equals(getLibrary())
+                && !hasCustomApiTemplate();
+    }
 
     // ================================
     // PHASE 1 — MARK
     // ================================
 
     /**
-     * Intercepts model creation and marks models that should be ignored.
+     * Collects the names of all component schemas marked with {@code x-ignore-model: true}.
      *
-     * <p>This phase does NOT remove models yet. It only records intent.
+     * <p>Runs before any model is processed, so every later phase works on a complete, immutable
+     * ignore set. The contract type of every wrapper model is resolved here; with
+     * {@link #GENERIC_RESPONSE_TYPES}, non-streaming wrapper models are added to the ignore set.
      */
     @Override
-    public CodegenModel fromModel(String name, Schema model) {
+    public void preprocessOpenAPI(OpenAPI openAPI) {
+        super.preprocessOpenAPI(openAPI);
 
-        CodegenModel codegenModel = super.fromModel(name, model);
+        streamingOperations.clear();
+        streamingImports.clear();
+
+        Map<String, Schema> schemas =
+                (openAPI.getComponents() != null) ? openAPI.getComponents().getSchemas() : null;
+
+        if (schemas == null || schemas.isEmpty()) {
+            ignoredModels = Set.of();
+            wrapperTypes = Map.of();
+            streamItemTypes = Map.of();
+            return;
+        }
+
+        ignoredModels = schemas.entrySet().stream()
+                .filter(entry -> entry.getValue() != null
+                        && (isIgnoredModel(entry.getValue().getExtensions())
+                                || (genericResponseTypes
+                                        && isGenericResponseWrapper(entry.getValue().getExtensions()))))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
 
-        Map<String, Object> extensions =
-                (model != null) ? model.getExtensions() : null;
+        wrapperTypes = resolveWrapperTypes(schemas);
+        streamItemTypes = resolveStreamItemTypes(schemas);
 
-        if (isIgnoredModel(extensions)) {
-            ignoredModels.add(name);
-            log.debug("Marked model as ignored: {}", name);
+        if (!streamItemTypes.isEmpty()) {
+            registerStreamingApi();
         }
 
+        log.debug("Marked models as ignored: {}", ignoredModels);
+    }
+
+    /**
+     * Skips full model construction for ignored models.
+     *
+     * <p>Ignored models only get a placeholder carrying their names, which keeps them resolvable
+     * as references while avoiding property, import and discriminator processing. The placeholder
+     * is removed again in the filter phases.
+     */
+    @Override
+    public CodegenModel fromModel(String name, Schema model) {
+
+        if (shouldIgnore(name)) {
+            return ignoredModel(name);
+        }
+
+        CodegenModel codegenModel = super.fromModel(name, model);
+
         if (codegenModel.imports != null && !codegenModel.imports.isEmpty()) {
             codegenModel.imports.removeIf(this::shouldIgnore);
         }
@@ -82,9 +246,10 @@ public class GenericAwareJavaCodegen extends JavaClientCodegen {
     // ================================
 
     /**
-     * Removes ignored models from the current processing batch.
+     * Removes ignored models from the current processing batch and selects
+     * {@code api_wrapper.mustache} for wrapper models.
      *
-     * <p>This prevents template-level generation for those models.
+     * <p>This prevents template-level generation for ignored models.
      */
     @Override
     public ModelsMap postProcessModels(ModelsMap modelsMap) {
@@ -100,6 +265,14 @@ public class GenericAwareJavaCodegen extends JavaClientCodegen {
             return model != null && shouldIgnore(model.name);
         });
 
+        for (ModelMap modelMap : result.getModels()) {
+            CodegenModel model = modelMap.getModel();
+
+            if (model != null && isWrapperModel(model.vendorExtensions)) {
+                selectWrapperTemplate(result, model);
+            }
+        }
+
         return result;
     }
 
@@ -135,6 +308,141 @@ public class GenericAwareJavaCodegen extends JavaClientCodegen {
         return result;
     }
 
+    // ================================
+    // OPERATIONS
+    // ================================
+
+    /**
+     * Moves streaming operations to {@code StreamingApi} and replaces wrapper return types with their contract types when
+     * {@link #GENERIC_RESPONSE_TYPES} is enabled.
+     *
+     * <p>Method names and parameters stay unchanged; only the declared return type moves from the
+     * wrapper class to its supertype:
+     *
+     * <pre>
+     * ServiceResponsePageCustomerDto getCustomers(...)
+     *   → ServiceResponse&lt;Page&lt;CustomerDto&gt;&gt; getCustomers(...)
+     * </pre>
+     *
+     * <p>Responses are deserialized straight into the contract type, so no class is generated or
+     * loaded per wrapper. Wrapper imports are replaced by the contract, container and item imports.
+     * With the {@code restclient} library, API classes are rendered with
+     * {@code generic_api.mustache}, which declares each operation's
+     * {@code ParameterizedTypeReference} once instead of per call.
+     *
+     * <p>Streaming wrappers keep their generated class: {@code StreamingServiceResponse<T>} is read
+     * from NDJSON by {@code StreamingApi}, not by the JSON message converters.
+     *
+     * @throws IllegalStateException if a wrapper is returned inside a container, or a streaming
+     *                               operation declares parameters other than path and query
+     *                               parameters
+     */
+    @Override
+    public OperationsMap postProcessOperationsWithModels(
+            OperationsMap objs, List<ModelMap> allModels) {
+
+        OperationsMap result = super.postProcessOperationsWithModels(objs, allModels);
+
+        if (result.getOperations() == null) {
+            return result;
+        }
+
+        if (!streamItemTypes.isEmpty() && isStreamingApiSupported()) {
+            result.getOperations().getOperation().removeIf(this::collectStreamingOperation);
+        }
+
+        if (!genericResponseTypes) {
+            return result;
+        }
+
+        Set<String> imports = new LinkedHashSet<>();
+
+        for (CodegenOperation operation : result.getOperations().getOperation()) {
+            WrapperType wrapperType = wrapperTypes.get(operation.returnBaseType);
+
+            if (wrapperType == null || wrapperType.streaming()) {
+                continue;
+            }
+
+            if (!operation.returnBaseType.equals(operation.returnType)) {
+                throw new IllegalStateException(
+                        "Wrapper model returned inside a container is not supported with "
+                                + GENERIC_RESPONSE_TYPES + ": " + operation.operationId
+                                + " → " + operation.returnType);
+            }
+
+            operation.returnType = wrapperType.declaration();
+            operation.returnBaseType = wrapperType.envelope();
+
+            for (CodegenResponse response : operation.responses) {
+                if (wrapperType.classname().equals(response.baseType)) {
+                    response.dataType = wrapperType.declaration();
+                    response.baseType = wrapperType.envelope();
+                }
+            }
+
+            if (cachedTypeReferences) {
+                operation.vendorExtensions.put(
+                        EXT_RETURN_TYPE_REFERENCE,
+                        StringUtils.underscore(operation.nickname).toUpperCase(Locale.ROOT) + "_RETURN_TYPE");
+            }
+
+            imports.addAll(wrapperType.imports());
+        }
+
+        if (!imports.isEmpty()) {
+            result.setImports(mergeImports(result.getImports(), imports));
+
+            if (cachedTypeReferences) {
+                result.put(
+                        WrapperTemplatingEngineAdapter.EXT_API_TEMPLATE,
+                        WrapperTemplatingEngineAdapter.GENERIC_API_TEMPLATE);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Exposes the collected streaming operations to {@code streaming_api.mustache}.
+     */
+    @Override
+    public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+        Map<String, Object> result = super.postProcessSupportingFileData(objs);
+
+        result.put("streamingOperations", List.copyOf(streamingOperations.values()));
+        result.put("streamingImports", List.copyOf(streamingImports));
+
+        return result;
+    }
+
+    // ================================
+    // TEMPLATE DISPATCH
+    // ================================
+
+    /**
+     * Returns the configured templating engine decorated with wrapper model dispatch.
+     *
+     * <p>Only the Mustache engine is supported, since the bundled templates are Mustache templates.
+     */
+    @Override
+    public TemplatingEngineAdapter getTemplatingEngine() {
+
+        TemplatingEngineAdapter engine = super.getTemplatingEngine();
+
+        if (!(engine instanceof MustacheEngineAdapter mustache)) {
+            throw new IllegalStateException(
+                    getName() + " requires the mustache templating engine, got: "
+                            + (engine != null ? engine.getIdentifier() : null));
+        }
+
+        if (templatingEngine == null || !templatingEngine.wraps(mustache)) {
+            templatingEngine = new WrapperTemplatingEngineAdapter(mustache);
+        }
+
+        return templatingEngine;
+    }
+
     /**
      * Name of the custom generator.
      */
@@ -147,10 +455,294 @@ public class GenericAwareJavaCodegen extends JavaClientCodegen {
     // INTERNAL HELPERS
     // ================================
 
+    private CodegenModel ignoredModel(String name) {
+        CodegenModel placeholder = new CodegenModel();
+        placeholder.name = name;
+        placeholder.schemaName = name;
+        placeholder.classname = toModelName(name);
+        placeholder.classFilename = toModelFilename(name);
+        return placeholder;
+    }
+
+    /**
+     * Renders the wrapper model with {@code api_wrapper.mustache}.
+     *
+     * <p>The supertype and its imports come from the resolved {@link WrapperType}, the same source
+     * {@link #GENERIC_RESPONSE_TYPES} uses for return types; model imports are replaced, and types
+     * of the model package need none.
+     */
+    private void selectWrapperTemplate(ModelsMap modelsMap, CodegenModel model) {
+
+        WrapperType wrapperType = wrapperTypes.get(model.classname);
+
+        if (wrapperType == null) {
+            throw new IllegalStateException("Unresolved wrapper model: " + model.name);
+        }
+
+        model.vendorExtensions.put(
+                WrapperTemplatingEngineAdapter.EXT_MODEL_TEMPLATE,
+                WrapperTemplatingEngineAdapter.WRAPPER_TEMPLATE);
+        model.vendorExtensions.put(EXT_WRAPPER_SUPERTYPE, wrapperType.declaration());
+
+        modelsMap.setImports(wrapperType.imports().stream()
+                .filter(fqcn -> !fqcn.equals(toModelImport(simpleName(fqcn))))
+                .sorted()
+                .map(fqcn -> Map.of("import", fqcn, "classname", simpleName(fqcn)))
+                .toList());
+    }
+
+    private static String simpleName(String fqcn) {
+        return fqcn.substring(fqcn.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Returns whether the user template directory overrides the API template, which
+     * {@code generic_api.mustache} would otherwise replace.
+     */
+    private boolean hasCustomApiTemplate() {
+
+        if (templateDir() == null || templateDir().equals(embeddedTemplateDir())) {
+            return false;
+        }
+
+        return new File(templateDir(), API_TEMPLATE).exists()
+                || new File(templateDir(), "libraries" + File.separator + getLibrary()
+                        + File.separator + API_TEMPLATE).exists();
+    }
+
     private boolean isIgnoredModel(Map<String, Object> extensions) {
         return extensions != null && Boolean.TRUE.equals(extensions.get(EXT_IGNORE_MODEL));
     }
 
+    private boolean isWrapperModel(Map<String, Object> extensions) {
+        return extensions != null && Boolean.TRUE.equals(extensions.get(EXT_API_WRAPPER));
+    }
+
+    private boolean isGenericResponseWrapper(Map<String, Object> extensions) {
+        return isWrapperModel(extensions) && !Boolean.TRUE.equals(extensions.get(EXT_API_STREAM));
+    }
+
+    private Map<String, WrapperType> resolveWrapperTypes(Map<String, Schema> schemas) {
+
+        Map<String, WrapperType> types = new HashMap<>();
+
+        schemas.forEach((name, schema) -> {
+            Map<String, Object> extensions = (schema != null) ? schema.getExtensions() : null;
+
+            if (isWrapperModel(extensions)) {
+                WrapperType type = wrapperType(name, extensions, schemas);
+                types.put(type.classname(), type);
+            }
+        });
+
+        return Map.copyOf(types);
+    }
+
+    /**
+     * Resolves the item class of every streaming wrapper model (e.g.
+     * {@code StreamingServiceResponseCustomerDto → CustomerDto}).
+     */
+    private Map<String, String> resolveStreamItemTypes(Map<String, Schema> schemas) {
+
+        Map<String, String> types = new HashMap<>();
+
+        schemas.forEach((name, schema) -> {
+            Map<String, Object> extensions = (schema != null) ? schema.getExtensions() : null;
+
+            if (isWrapperModel(extensions) && Boolean.TRUE.equals(extensions.get(EXT_API_STREAM))) {
+                Object itemType = extensions.get(EXT_API_WRAPPER_DATATYPE);
+                if (itemType == null) {
+                    throw new IllegalStateException(
+                            "Wrapper model '" + name + "' is missing " + EXT_API_WRAPPER_DATATYPE);
+                }
+                types.put(toModelName(name), itemType.toString());
+            }
+        });
+
+        return Map.copyOf(types);
+    }
+
+    /**
+     * Registers {@code StreamingApi} as supporting file; other libraries keep streaming operations
+     * in their regular API (they cannot read NDJSON).
+     */
+    private void registerStreamingApi() {
+
+        if (!isStreamingApiSupported()) {
+            log.warn("Streaming operations are only supported with the '{}' library, got '{}'",
+                    RESTCLIENT, getLibrary());
+            return;
+        }
+
+        String folder = (sourceFolder + File.separator + apiPackage).replace('.', File.separatorChar);
+
+        boolean registered = supportingFiles.stream()
+                .anyMatch(file -> STREAMING_API_FILE.equals(file.getDestinationFilename()));
+
+        if (!registered) {
+            supportingFiles.add(new SupportingFile(
+                    WrapperTemplatingEngineAdapter.STREAMING_API_TEMPLATE,
+                    folder,
+                    STREAMING_API_FILE));
+        }
+    }
+
+    private boolean isStreamingApiSupported() {
+        return RESTCLIENT.equals(getLibrary());
+    }
+
+    /**
+     * Collects an operation returning a streaming wrapper.
+     *
+     * @return {@code true} if the operation was collected (and is removed from its API)
+     */
+    private boolean collectStreamingOperation(CodegenOperation operation) {
+
+        String itemType = streamItemTypes.get(operation.returnBaseType);
+
+        if (itemType == null) {
+            return false;
+        }
+
+        if (!operation.returnBaseType.equals(operation.returnType)) {
+            throw new IllegalStateException(
+                    "Streaming wrapper returned inside a container is not supported: "
+                            + operation.operationId + " → " + operation.returnType);
+        }
+
+        if (operation.getHasBodyParam() || operation.getHasHeaderParams()
+                || operation.getHasFormParams() || operation.getHasCookieParams()) {
+            throw new IllegalStateException(
+                    "Streaming operation '" + operation.operationId
+                            + "' only supports path and query parameters");
+        }
+
+        Map<String, Schema> schemas = (openAPI.getComponents() != null)
+                ? openAPI.getComponents().getSchemas()
+                : Map.of();
+
+        operation.vendorExtensions.put(
+                EXT_STREAM_ITEM_TYPE, modelType(itemType, schemas, streamingImports));
+
+        if (streamingOperations.putIfAbsent(operation.operationId, operation) != null) {
+            throw new IllegalStateException(
+                    "Duplicate streaming operation id: " + operation.operationId);
+        }
+
+        log.debug("Moved streaming operation to {}: {}", STREAMING_API_FILE, operation.operationId);
+        return true;
+    }
+
+    /**
+     * Resolves the contract type a wrapper model stands for (mirrors {@code api_wrapper.mustache}).
+     */
+    private WrapperType wrapperType(
+            String name, Map<String, Object> extensions, Map<String, Schema> schemas) {
+
+        Object dataType = extensions.get(EXT_API_WRAPPER_DATATYPE);
+        if (dataType == null) {
+            throw new IllegalStateException(
+                    "Wrapper model '" + name + "' is missing " + EXT_API_WRAPPER_DATATYPE);
+        }
+
+        boolean stream = Boolean.TRUE.equals(extensions.get(EXT_API_STREAM));
+        Object container = extensions.get(EXT_DATA_CONTAINER);
+
+        Set<String> imports = new LinkedHashSet<>();
+        String data;
+
+        if (!stream && container != null) {
+            Object item = extensions.get(EXT_DATA_ITEM);
+            if (item == null) {
+                throw new IllegalStateException(
+                        "Wrapper model '" + name + "' declares " + EXT_DATA_CONTAINER + " '"
+                                + container + "' but is missing " + EXT_DATA_ITEM);
+            }
+            data = container + "<" + modelType(item.toString(), schemas, imports) + ">";
+            imports.add(containerImport(container, extensions));
+        } else {
+            data = modelType(dataType.toString(), schemas, imports);
+        }
+
+        String envelope = stream ? STREAMING_ENVELOPE : "ServiceResponse";
+        imports.add(CONTRACT_ENVELOPE_PACKAGE + envelope);
+
+        return new WrapperType(
+                toModelName(name), envelope, envelope + "<" + data + ">", List.copyOf(imports));
+    }
+
+    /**
+     * Returns the fully qualified container class; specs without {@code x-data-container-type}
+     * (older servers) fall back to the contract paging package.
+     */
+    private String containerImport(Object container, Map<String, Object> extensions) {
+        Object containerType = extensions.get(EXT_DATA_CONTAINER_TYPE);
+        return containerType != null
+                ? containerType.toString()
+                : CONTRACT_PAGING_PACKAGE + container;
+    }
+
+    /**
+     * Returns the class name of a referenced model and records its import; other types (e.g.
+     * {@code String}) are returned unchanged.
+     */
+    private String modelType(String name, Map<String, Schema> schemas, Set<String> imports) {
+
+        if (!schemas.containsKey(name)) {
+            return name;
+        }
+
+        String classname = toModelName(name);
+        imports.add(importMapping().getOrDefault(classname, toModelImport(classname)));
+        return classname;
+    }
+
+    /**
+     * Drops imports of replaced (non-streaming) wrapper classes and adds the given ones, sorted by
+     * class name like OpenAPI Generator does.
+     */
+    private List<Map<String, String>> mergeImports(
+            List<Map<String, String>> current, Set<String> added) {
+
+        Map<String, Map<String, String>> merged = new LinkedHashMap<>();
+
+        if (current != null) {
+            for (Map<String, String> entry : current) {
+                WrapperType wrapperType = wrapperTypes.get(entry.get("classname"));
+                if (wrapperType == null || wrapperType.streaming()) {
+                    merged.put(entry.get("import"), entry);
+                }
+            }
+        }
+
+        for (String fqcn : added) {
+            merged.computeIfAbsent(fqcn, key -> Map.of(
+                    "import", key,
+                    "classname", key.substring(key.lastIndexOf('.') + 1)));
+        }
+
+        List<Map<String, String>> imports = new ArrayList<>(merged.values());
+        imports.sort(Comparator.comparing(entry -> entry.get("classname")));
+        return imports;
+    }
+
+    /**
+     * Contract type a wrapper model stands for.
+     *
+     * @param classname   wrapper class name (e.g. {@code ServiceResponsePageCustomerDto})
+     * @param envelope    envelope class name ({@code ServiceResponse} or
+     *                    {@code StreamingServiceResponse})
+     * @param declaration full type declaration (e.g. {@code ServiceResponse<Page<CustomerDto>>})
+     * @param imports     fully qualified imports required by the declaration
+     */
+    private record WrapperType(
+            String classname, String envelope, String declaration, List<String> imports) {
+
+        boolean streaming() {
+            return STREAMING_ENVELOPE.equals(envelope);
+        }
+    }
+
     private boolean shouldIgnore(String modelName) {
         return ignoredModels.contains(modelName);
     }
@@ -0,0 +1,241 @@
+package io.github.blueprintplatform.openapi.generics.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.DryRunTemplateManager;
+import org.openapitools.codegen.Generator;
+import org.openapitools.codegen.api.TemplateProcessor;
+
+/**
+ * {@link DefaultGenerator} that renders and writes model and API files on a thread pool.
+ *
+ * <p>Schemas and operations are still processed sequentially, and every file path is resolved and
+ * checked (ignore file, duplicates) in the same order as with {@link DefaultGenerator}. Only the
+ * template rendering and writing of a file is handed to the pool:
+ *
+ * <ul>
+ *   <li>model and API files, including their tests and docs → rendered concurrently</li>
+ *   <li>supporting files → rendered on the calling thread, after all pending files are written</li>
+ *   <li>dry runs and {@code enablePostProcessFile} → fully sequential, as in
+ *       {@link DefaultGenerator}</li>
+ * </ul>
+ *
+ * <p>Each file is rendered from its own template data, so the output is identical to sequential
+ * generation, and {@link #generate()} returns the files in {@link DefaultGenerator} order. A
+ * failing write fails the run once all earlier writes have completed.
+ *
+ * <p>Programmatic use only: the OpenAPI Generator Maven plugin and CLI (and therefore the codegen
+ * parent) always create their own {@link DefaultGenerator} and cannot be switched to this class.
+ * Use it where generation is driven from code:
+ *
+ * <pre>
+ * List&lt;File&gt; files = new ParallelGenerator().opts(clientOptInput).generate();
+ * </pre>
+ */
+public class ParallelGenerator extends DefaultGenerator {
+
+    private final int threads;
+
+    /**
+     * Pool of the current {@link #generate()} call; {@code null} outside of it.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Templates rendered asynchronously in the current run, resolved on first write.
+     */
+    private Set<String> deferredTemplates;
+
+    /**
+     * Writes submitted to {@link #executor}, in submission order; only touched by the calling thread.
+     */
+    private final List<PendingWrite> pending = new ArrayList<>();
+
+    /**
+     * Creates a generator with one render thread per available processor.
+     */
+    public ParallelGenerator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelGenerator(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1, got: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    @Override
+    public Generator opts(ClientOptInput opts) {
+        super.opts(opts);
+
+        if (!(templateProcessor instanceof DryRunTemplateManager)) {
+            templateProcessor = new DeferredTemplateProcessor(templateProcessor);
+        }
+
+        return this;
+    }
+
+    @Override
+    public List<File> generate() {
+
+        executor = Executors.newFixedThreadPool(threads, renderThreads());
+
+        try {
+            List<File> files = super.generate();
+            awaitPending();
+            return files;
+        } finally {
+            pending.clear();
+            executor.shutdownNow();
+            executor = null;
+            deferredTemplates = null;
+        }
+    }
+
+    // ================================
+    // DEFERRED WRITES
+    // ================================
+
+    /**
+     * Returns whether the file rendered from the given template can be written asynchronously.
+     *
+     * <p>Model and API templates (and their test/doc templates) are; supporting files read the
+     * collected models and operations and are rendered in order.
+     */
+    private boolean isDeferred(String templateName) {
+
+        if (executor == null || config.isEnablePostProcessFile()) {
+            return false;
+        }
+
+        if (deferredTemplates == null) {
+            deferredTemplates = deferredTemplates(config);
+        }
+
+        return deferredTemplates.contains(templateName);
+    }
+
+    private static Set<String> deferredTemplates(CodegenConfig config) {
+
+        Set<String> templates = new HashSet<>();
+        templates.addAll(config.modelTemplateFiles().keySet());
+        templates.addAll(config.modelTestTemplateFiles().keySet());
+        templates.addAll(config.modelDocTemplateFiles().keySet());
+        templates.addAll(config.apiTemplateFiles().keySet());
+        templates.addAll(config.apiTestTemplateFiles().keySet());
+        templates.addAll(config.apiDocTemplateFiles().keySet());
+
+        return Set.copyOf(templates);
+    }
+
+    /**
+     * Waits for all pending writes, in submission order.
+     *
+     * @throws IllegalStateException if a write failed or the calling thread was interrupted
+     */
+    private void awaitPending() {
+
+        try {
+            for (PendingWrite write : pending) {
+                await(write);
+            }
+        } finally {
+            pending.clear();
+        }
+    }
+
+    private static void await(PendingWrite write) {
+
+        try {
+            write.result().get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(
+                    "Could not write generated file '" + write.target() + "'", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing generated files", e);
+        }
+    }
+
+    private static ThreadFactory renderThreads() {
+
+        AtomicInteger counter = new AtomicInteger();
+
+        return task -> {
+            Thread thread = new Thread(task, "openapi-generics-render-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PendingWrite(File target, Future<File> result) {
+    }
+
+    /**
+     * Submits model and API writes to the pool; writes everything else on the calling thread once
+     * the pending writes are done.
+     */
+    private final class DeferredTemplateProcessor implements TemplateProcessor {
+
+        private final TemplateProcessor delegate;
+
+        private DeferredTemplateProcessor(TemplateProcessor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public File write(Map<String, Object> data, String template, File target) throws IOException {
+
+            if (!isDeferred(template)) {
+                awaitPending();
+                return delegate.write(data, template, target);
+            }
+
+            // top-level entries may still be replaced by the generator after this call
+            Map<String, Object> snapshot = new LinkedHashMap<>(data);
+
+            pending.add(new PendingWrite(
+                    target, executor.submit(() -> delegate.write(snapshot, template, target))));
+
+            return target;
+        }
+
+        @Override
+        public File writeToFile(String filename, byte[] contents) throws IOException {
+            awaitPending();
+            return delegate.writeToFile(filename, contents);
+        }
+
+        @Override
+        public void ignore(Path path, String context) {
+            delegate.ignore(path, context);
+        }
+
+        @Override
+        public void skip(Path path, String context) {
+            delegate.skip(path, context);
+        }
+
+        @Override
+        public void error(Path path, String context) {
+            delegate.error(path, context);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.blueprintplatform.openapi.generics.codegen;
+
+import com.samskivert.mustache.Mustache;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.model.ModelMap;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+
+/**
+ * Mustache engine decorator that renders wrapper models with {@code api_wrapper.mustache}.
+ *
+ * <p>Templates are selected per model instead of preparing a patched template directory at build
+ * time:
+ *
+ * <ul>
+ *   <li>{@code model.mustache} for a model carrying {@value #EXT_MODEL_TEMPLATE} → the template
+ *       named there (set for wrapper models by {@link GenericAwareJavaCodegen})
+ *   <li>{@code api.mustache} for an API bundle carrying {@value #EXT_API_TEMPLATE} → the template
+ *       named there (set for {@code genericResponseTypes} APIs by {@link GenericAwareJavaCodegen})
+ *   <li>{@code api_wrapper.mustache}, {@code streaming_api.mustache}, {@code generic_api.mustache}
+ *       → templates bundled with this module
+ *   <li>any other template → resolved by OpenAPI Generator as usual
+ * </ul>
+ *
+ * <p>The upstream (or user) {@code model.mustache} is used unchanged for all other models.
+ *
+ * <p>Extends {@link MustacheEngineAdapter} so that OpenAPI Generator still applies generator-level
+ * compiler customization; compiler state is shared with the wrapped engine.
+ */
+final class WrapperTemplatingEngineAdapter extends MustacheEngineAdapter {
+
+    static final String MODEL_TEMPLATE = "model.mustache";
+    static final String WRAPPER_TEMPLATE = "api_wrapper.mustache";
+    static final String STREAMING_API_TEMPLATE = "streaming_api.mustache";
+    static final String API_TEMPLATE = "api.mustache";
+    static final String GENERIC_API_TEMPLATE = "generic_api.mustache";
+
+    private static final String TEMPLATE_RESOURCE_DIR = "META-INF/openapi-generics/templates/";
+
+    /**
+     * Model vendor extension naming the template that replaces {@code model.mustache}.
+     */
+    static final String EXT_MODEL_TEMPLATE = "x-generics-model-template";
+
+    /**
+     * API bundle key naming the template that replaces {@code api.mustache}.
+     */
+    static final String EXT_API_TEMPLATE = "x-generics-api-template";
+
+    /** Bundle key of the models rendered into one model file. */
+    private static final String MODELS = "models";
+
+    private final MustacheEngineAdapter delegate;
+    private final Map<String, String> bundledTemplates;
+
+    WrapperTemplatingEngineAdapter(MustacheEngineAdapter delegate) {
+        this.delegate = delegate;
+        this.bundledTemplates = Map.of(
+                WRAPPER_TEMPLATE, loadBundledTemplate(WRAPPER_TEMPLATE),
+                STREAMING_API_TEMPLATE, loadBundledTemplate(STREAMING_API_TEMPLATE),
+                GENERIC_API_TEMPLATE, loadBundledTemplate(GENERIC_API_TEMPLATE));
+    }
+
+    /**
+     * Returns whether this adapter decorates the given engine.
+     */
+    boolean wraps(MustacheEngineAdapter engine) {
+        return delegate == engine;
+    }
+
+    // ================================
+    // ENGINE
+    // ================================
+
+    @Override
+    public String getIdentifier() {
+        return delegate.getIdentifier();
+    }
+
+    @Override
+    public String[] getFileExtensions() {
+        return delegate.getFileExtensions();
+    }
+
+    @Override
+    public String compileTemplate(
+            TemplatingExecutor executor, Map<String, Object> bundle, String templateFile)
+            throws IOException {
+        return delegate.compileTemplate(
+                new WrapperAwareExecutor(executor), bundle, selectTemplate(bundle, templateFile));
+    }
+
+    @Override
+    public Reader findTemplate(TemplatingExecutor executor, String name) {
+        return delegate.findTemplate(new WrapperAwareExecutor(executor), name);
+    }
+
+    @Override
+    public boolean templateExists(TemplatingExecutor executor, String templateFile) {
+        return bundledTemplates.containsKey(templateFile)
+                || delegate.templateExists(executor, templateFile);
+    }
+
+    @Override
+    public Mustache.Compiler getCompiler() {
+        return delegate.getCompiler();
+    }
+
+    @Override
+    public void setCompiler(Mustache.Compiler compiler) {
+        delegate.setCompiler(compiler);
+    }
+
+    // ================================
+    // TEMPLATE SELECTION
+    // ================================
+
+    /**
+     * Returns the template to render for the given bundle.
+     *
+     * <p>Model files hold a single model; its {@value #EXT_MODEL_TEMPLATE} extension, if present,
+     * replaces {@code model.mustache}. API files hold one API; its {@value #EXT_API_TEMPLATE} entry,
+     * if present, replaces {@code api.mustache}.
+     */
+    static String selectTemplate(Map<String, Object> bundle, String templateFile) {
+
+        if (API_TEMPLATE.equals(templateFile)) {
+            return (bundle.get(EXT_API_TEMPLATE) instanceof String name) ? name : templateFile;
+        }
+
+        if (!MODEL_TEMPLATE.equals(templateFile)
+                || !(bundle.get(MODELS) instanceof List<?> models)
+                || models.size() != 1
+                || !(models.get(0) instanceof ModelMap modelMap)
+                || modelMap.getModel() == null) {
+            return templateFile;
+        }
+
+        Object template = modelMap.getModel().vendorExtensions.get(EXT_MODEL_TEMPLATE);
+
+        return (template instanceof String name) ? name : templateFile;
+    }
+
+    private static String loadBundledTemplate(String name) {
+
+        ClassLoader classLoader = WrapperTemplatingEngineAdapter.class.getClassLoader();
+        String resource = TEMPLATE_RESOURCE_DIR + name;
+
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing bundled template: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read bundled template: " + resource, e);
+        }
+    }
+
+    /**
+     * Serves the bundled templates; delegates the rest.
+     */
+    private final class WrapperAwareExecutor implements TemplatingExecutor {
+
+        private final TemplatingExecutor executor;
+
+        private WrapperAwareExecutor(TemplatingExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public String getFullTemplateContents(String name) {
+
+            String bundled = bundledTemplates.get(name);
+
+            return (bundled != null) ? bundled : executor.getFullTemplateContents(name);
+        }
+
+        @Override
+        public Path getFullTemplatePath(String name) {
+            return executor.getFullTemplatePath(name);
+        }
+    }
+}
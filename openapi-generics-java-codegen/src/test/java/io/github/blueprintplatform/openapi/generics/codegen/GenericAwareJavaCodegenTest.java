@@ -0,0 +1,316 @@
+package io.github.blueprintplatform.openapi.generics.codegen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.DefaultGenerator;
+
+@Tag("unit")
+@DisplayName("Unit Test: GenericAwareJavaCodegen")
+class GenericAwareJavaCodegenTest {
+
+    private static final String SPEC = "customer-api.yaml";
+
+    private static final String MODEL_PACKAGE = "x/dto/";
+
+    private static final String CONTRACT = "io.github.blueprintplatform.openapi.generics.contract.";
+
+    private static final Map<String, String> CONTRACT_MAPPINGS = Map.of(
+            "ServiceResponse", CONTRACT + "envelope.ServiceResponse",
+            "StreamingServiceResponse", CONTRACT + "envelope.StreamingServiceResponse",
+            "Meta", CONTRACT + "envelope.Meta",
+            "Page", CONTRACT + "paging.Page",
+            "CursorPage", CONTRACT + "paging.CursorPage",
+            "Sort", CONTRACT + "paging.Sort",
+            "SortDirection", CONTRACT + "paging.SortDirection");
+
+    @TempDir
+    Path output;
+
+    // ================================
+    // TEMPLATE DISPATCH
+    // ================================
+
+    @Test
+    @DisplayName("generate() -> wrappers render via api_wrapper.mustache as contract subclasses")
+    void generate_wrapperModels_useWrapperTemplate() throws Exception {
+        generate(Map.of(), Map.of());
+
+        String single = model("ServiceResponseCustomerDto");
+        String page = model("ServiceResponsePageCustomerDto");
+
+        assertTrue(single.contains(
+                "public class ServiceResponseCustomerDto extends ServiceResponse<CustomerDto> {"));
+        assertTrue(single.contains("import " + CONTRACT + "envelope.ServiceResponse;"));
+
+        assertTrue(page.contains(
+                "public class ServiceResponsePageCustomerDto extends ServiceResponse<Page<CustomerDto>> {"));
+        assertTrue(page.contains("import " + CONTRACT + "paging.Page;"));
+
+        // model.mustache body and imports are not rendered for wrappers
+        assertFalse(single.contains("import java.util.Objects;"));
+        assertFalse(single.contains("@JsonPropertyOrder"));
+    }
+
+    @Test
+    @DisplayName("generate() -> other models are rendered unchanged by model.mustache")
+    void generate_plainModels_useModelTemplate() throws Exception {
+        generate(Map.of(), Map.of());
+
+        String customer = model("CustomerDto");
+
+        assertTrue(customer.contains("import java.util.Objects;"));
+        assertTrue(customer.contains("public class CustomerDto {"));
+        assertTrue(customer.contains("public Integer getCustomerId()"));
+    }
+
+    @Test
+    @DisplayName("generate() -> x-ignore-model schemas are not written as files")
+    void generate_ignoredModels_notGenerated() throws Exception {
+        generate(Map.of(), Map.of());
+
+        for (String ignored : new String[] {"ServiceResponse", "Meta", "Sort", "PageCustomerDto"}) {
+            assertFalse(Files.exists(modelFile(ignored)), ignored);
+        }
+    }
+
+    @Test
+    @DisplayName("generate() -> payload type mapped via importMappings is imported into the wrapper")
+    void generate_mappedPayloadType_importedByWrapper() throws Exception {
+        generate(Map.of(), Map.of("CustomerDto", "com.example.shared.CustomerDto"));
+
+        assertTrue(model("ServiceResponseCustomerDto").contains("import com.example.shared.CustomerDto;"));
+        assertTrue(model("ServiceResponsePageCustomerDto").contains("import com.example.shared.CustomerDto;"));
+    }
+
+    // ================================
+    // IGNORED MODELS
+    // ================================
+
+    @Test
+    @DisplayName("fromModel() -> x-ignore-model schema becomes a placeholder, no properties/imports")
+    void fromModel_ignoredSchema_returnsPlaceholder() throws Exception {
+        OpenAPI openAPI = openAPI();
+        GenericAwareJavaCodegen codegen = preprocessed(openAPI);
+
+        CodegenModel meta = codegen.fromModel("Meta", schema(openAPI, "Meta"));
+        CodegenModel customer = codegen.fromModel("CustomerDto", schema(openAPI, "CustomerDto"));
+
+        assertEquals("Meta", meta.classname);
+        assertTrue(meta.vars.isEmpty());
+        assertTrue(meta.imports.isEmpty());
+
+        assertEquals(2, customer.vars.size());
+    }
+
+    @Test
+    @DisplayName("fromModel() -> ignored types are never imported, regardless of schema order")
+    void fromModel_ignoredImports_removedBeforeIgnoredSchemaIsProcessed() throws Exception {
+        OpenAPI openAPI = openAPI();
+        GenericAwareJavaCodegen codegen = preprocessed(openAPI);
+
+        // wrapper is processed before the ServiceResponse and Meta schemas it references
+        CodegenModel wrapper = codegen.fromModel(
+                "ServiceResponseCustomerDto", schema(openAPI, "ServiceResponseCustomerDto"));
+
+        assertFalse(wrapper.imports.contains("ServiceResponse"));
+        assertFalse(wrapper.imports.contains("Meta"));
+    }
+
+    @Test
+    @DisplayName("generate() -> output is unchanged when ignored schemas come after wrappers")
+    void generate_ignoredSchemasLast_sameOutput() throws Exception {
+        generate(openAPI(), Map.of(), Map.of());
+        String single = model("ServiceResponseCustomerDto");
+        String page = model("ServiceResponsePageCustomerDto");
+
+        OpenAPI reordered = openAPI();
+        Map<String, Schema> schemas = new LinkedHashMap<>(reordered.getComponents().getSchemas());
+        for (String ignored : new String[] {"ServiceResponse", "Meta", "Sort", "PageCustomerDto"}) {
+            schemas.put(ignored, schemas.remove(ignored));
+        }
+        reordered.getComponents().setSchemas(schemas);
+
+        generate(reordered, Map.of(), Map.of());
+
+        assertEquals(single, model("ServiceResponseCustomerDto"));
+        assertEquals(page, model("ServiceResponsePageCustomerDto"));
+        assertFalse(Files.exists(modelFile("Meta")));
+    }
+
+    // ================================
+    // GENERIC RESPONSE TYPES
+    // ================================
+
+    @Test
+    @DisplayName("generate() -> genericResponseTypes returns contract types, no wrapper classes")
+    void generate_genericResponseTypes_returnContractTypes() throws Exception {
+        generate(Map.of(GenericAwareJavaCodegen.GENERIC_RESPONSE_TYPES, true), Map.of());
+
+        String api = api("CustomerControllerApi");
+
+        assertTrue(api.contains("public ServiceResponse<CustomerDto> getCustomer("));
+        assertTrue(api.contains("public ServiceResponse<Page<CustomerDto>> getCustomers("));
+        assertTrue(api.contains("public ResponseEntity<ServiceResponse<Page<CustomerDto>>> getCustomersWithHttpInfo("));
+        assertTrue(api.contains("import " + CONTRACT + "envelope.ServiceResponse;"));
+        assertTrue(api.contains("import " + CONTRACT + "paging.Page;"));
+        assertFalse(api.contains("ServiceResponsePageCustomerDto"));
+
+        assertFalse(Files.exists(modelFile("ServiceResponseCustomerDto")));
+        assertFalse(Files.exists(modelFile("ServiceResponsePageCustomerDto")));
+        assertTrue(Files.exists(modelFile("CustomerDto")));
+    }
+
+    @Test
+    @DisplayName("generate() -> genericResponseTypes declares one type reference per operation")
+    void generate_genericResponseTypes_cacheTypeReferences() throws Exception {
+        generate(Map.of(GenericAwareJavaCodegen.GENERIC_RESPONSE_TYPES, true), Map.of());
+
+        String api = api("CustomerControllerApi");
+
+        assertTrue(api.contains(
+                "private static final ParameterizedTypeReference<ServiceResponse<Page<CustomerDto>>>"
+                        + " GET_CUSTOMERS_RETURN_TYPE = new ParameterizedTypeReference<>() {};"));
+        assertTrue(api.contains("localVarReturnType = GET_CUSTOMERS_RETURN_TYPE;"));
+        assertTrue(api.contains("localVarReturnType = GET_CUSTOMER_RETURN_TYPE;"));
+        assertFalse(api.contains("localVarReturnType = new ParameterizedTypeReference<>() {};"));
+    }
+
+    @Test
+    @DisplayName("generate() -> default mode API template returns the wrapper class")
+    void generate_defaultMode_keepsWrapperReturnTypes() throws Exception {
+        generate(Map.of(), Map.of());
+
+        String api = api("CustomerControllerApi");
+
+        assertTrue(api.contains("public ServiceResponsePageCustomerDto getCustomers("));
+        assertFalse(api.contains("_RETURN_TYPE"));
+    }
+
+    @Test
+    @DisplayName("preprocessOpenAPI() -> container wrapper without x-data-item fails")
+    void preprocessOpenAPI_containerWithoutDataItem_fails() throws Exception {
+        OpenAPI openAPI = openAPI();
+        schema(openAPI, "ServiceResponsePageCustomerDto").getExtensions().remove("x-data-item");
+
+        IllegalStateException error =
+                assertThrows(IllegalStateException.class, () -> preprocessed(openAPI));
+
+        assertTrue(error.getMessage().contains("ServiceResponsePageCustomerDto"));
+        assertTrue(error.getMessage().contains("x-data-item"));
+    }
+
+    @Test
+    @DisplayName("fromModel() -> genericResponseTypes does not ignore the streaming wrapper")
+    void fromModel_genericResponseTypes_keepsStreamingWrappers() throws Exception {
+        OpenAPI openAPI = openAPI();
+        Schema<?> streaming = new ObjectSchema()
+                .addProperty("items", new ArraySchema().items(
+                        new Schema<>().$ref("#/components/schemas/CustomerDto")));
+        streaming.addExtension("x-api-wrapper", true);
+        streaming.addExtension("x-api-stream", true);
+        streaming.addExtension("x-api-wrapper-datatype", "CustomerDto");
+        openAPI.getComponents().addSchemas("StreamingServiceResponseCustomerDto", streaming);
+
+        GenericAwareJavaCodegen codegen = new GenericAwareJavaCodegen();
+        codegen.additionalProperties().put(GenericAwareJavaCodegen.GENERIC_RESPONSE_TYPES, true);
+        codegen.processOpts();
+        codegen.setOpenAPI(openAPI);
+        codegen.preprocessOpenAPI(openAPI);
+
+        CodegenModel wrapper = codegen.fromModel(
+                "ServiceResponseCustomerDto", schema(openAPI, "ServiceResponseCustomerDto"));
+        CodegenModel stream = codegen.fromModel("StreamingServiceResponseCustomerDto", streaming);
+
+        assertTrue(wrapper.vars.isEmpty());
+        assertEquals(1, stream.vars.size());
+    }
+
+    // ================================
+    // HELPERS
+    // ================================
+
+    private void generate(Map<String, Object> options, Map<String, String> importMappings)
+            throws URISyntaxException {
+        generate(openAPI(), options, importMappings);
+    }
+
+    private void generate(
+            OpenAPI openAPI, Map<String, Object> options, Map<String, String> importMappings) {
+
+        GenericAwareJavaCodegen codegen = new GenericAwareJavaCodegen();
+        codegen.setOutputDir(output.toString());
+        codegen.setLibrary("restclient");
+        codegen.setModelPackage("x.dto");
+        codegen.setApiPackage("x.api");
+        codegen.additionalProperties().put(CodegenConstants.INVOKER_PACKAGE, "x.invoker");
+        codegen.additionalProperties().put("useSpringBoot3", true);
+        codegen.additionalProperties().put("openApiNullable", false);
+        codegen.additionalProperties().putAll(options);
+        codegen.importMapping().putAll(CONTRACT_MAPPINGS);
+        codegen.importMapping().putAll(importMappings);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_TESTS, "false");
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_DOCS, "false");
+        generator.setGeneratorPropertyDefault(CodegenConstants.API_TESTS, "false");
+        generator.setGeneratorPropertyDefault(CodegenConstants.API_DOCS, "false");
+        generator.opts(new ClientOptInput().openAPI(openAPI).config(codegen)).generate();
+    }
+
+    private static GenericAwareJavaCodegen preprocessed(OpenAPI openAPI) {
+        GenericAwareJavaCodegen codegen = new GenericAwareJavaCodegen();
+        codegen.setOpenAPI(openAPI);
+        codegen.preprocessOpenAPI(openAPI);
+        return codegen;
+    }
+
+    private static Schema schema(OpenAPI openAPI, String name) {
+        return openAPI.getComponents().getSchemas().get(name);
+    }
+
+    private static OpenAPI openAPI() throws URISyntaxException {
+
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+
+        return new OpenAPIParser()
+                .readLocation(specLocation(), null, parseOptions)
+                .getOpenAPI();
+    }
+
+    private String model(String name) throws IOException {
+        return Files.readString(modelFile(name));
+    }
+
+    private String api(String name) throws IOException {
+        return Files.readString(output.resolve("src/main/java/x/api/" + name + ".java"));
+    }
+
+    private Path modelFile(String name) {
+        return output.resolve("src/main/java/" + MODEL_PACKAGE + name + ".java");
+    }
+
+    private static String specLocation() throws URISyntaxException {
+        return Path.of(GenericAwareJavaCodegenTest.class.getClassLoader().getResource(SPEC).toURI())
+                .toString();
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.blueprintplatform.openapi.generics.codegen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.DefaultGenerator;
+
+@Tag("unit")
+@DisplayName("Unit Test: ParallelGenerator")
+class ParallelGeneratorTest {
+
+    private static final String SPEC = "customer-api.yaml";
+
+    private static final String CONTRACT = "io.github.blueprintplatform.openapi.generics.contract.";
+
+    @TempDir
+    Path sequential;
+
+    @TempDir
+    Path parallel;
+
+    @Test
+    @DisplayName("generate() -> same files, order and content as DefaultGenerator")
+    void generate_sameOutputAsDefaultGenerator() throws Exception {
+        List<File> expected = generate(new DefaultGenerator(), sequential, false);
+        List<File> actual = generate(new ParallelGenerator(4), parallel, false);
+
+        assertEquals(relative(sequential, expected), relative(parallel, actual));
+        assertSameFiles(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("generate() -> model/API test and doc files are produced identically")
+    void generate_withTestsAndDocs_sameOutputAsDefaultGenerator() throws Exception {
+        List<File> expected = generate(new DefaultGenerator(), sequential, true);
+        List<File> actual = generate(new ParallelGenerator(4), parallel, true);
+
+        assertEquals(relative(sequential, expected), relative(parallel, actual));
+        assertSameFiles(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("ParallelGenerator(threads) -> thread count below 1 is rejected")
+    void constructor_invalidThreads_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelGenerator(0));
+    }
+
+    // ================================
+    // HELPERS
+    // ================================
+
+    private static List<File> generate(DefaultGenerator generator, Path output, boolean testsAndDocs)
+            throws URISyntaxException {
+
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+
+        OpenAPI openAPI = new OpenAPIParser()
+                .readLocation(specLocation(), null, parseOptions)
+                .getOpenAPI();
+
+        GenericAwareJavaCodegen codegen = new GenericAwareJavaCodegen();
+        codegen.setOutputDir(output.toString());
+        codegen.setLibrary("restclient");
+        codegen.setModelPackage("x.dto");
+        codegen.setApiPackage("x.api");
+        codegen.additionalProperties().put(CodegenConstants.INVOKER_PACKAGE, "x.invoker");
+        codegen.additionalProperties().put("useSpringBoot3", true);
+        codegen.additionalProperties().put("openApiNullable", false);
+        codegen.additionalProperties().put("hideGenerationTimestamp", true);
+        codegen.importMapping().putAll(Map.of(
+                "ServiceResponse", CONTRACT + "envelope.ServiceResponse",
+                "Meta", CONTRACT + "envelope.Meta",
+                "Page", CONTRACT + "paging.Page",
+                "Sort", CONTRACT + "paging.Sort"));
+
+        String enabled = String.valueOf(testsAndDocs);
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_TESTS, enabled);
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_DOCS, enabled);
+        generator.setGeneratorPropertyDefault(CodegenConstants.API_TESTS, enabled);
+        generator.setGeneratorPropertyDefault(CodegenConstants.API_DOCS, enabled);
+
+        return generator.opts(new ClientOptInput().openAPI(openAPI).config(codegen)).generate();
+    }
+
+    private static List<String> relative(Path root, List<File> files) {
+        return files.stream()
+                .map(file -> root.relativize(file.toPath().toAbsolutePath()).toString())
+                .toList();
+    }
+
+    private static void assertSameFiles(Path expected, Path actual) throws IOException {
+
+        List<Path> files = files(expected);
+
+        assertEquals(files, files(actual));
+
+        for (Path file : files) {
+            assertEquals(-1L, Files.mismatch(expected.resolve(file), actual.resolve(file)),
+                    file.toString());
+        }
+    }
+
+    private static List<Path> files(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).map(root::relativize).sorted().toList();
+        }
+    }
+
+    private static String specLocation() throws URISyntaxException {
+        return Path.of(ParallelGeneratorTest.class.getClassLoader().getResource(SPEC).toURI())
+                .toString();
+    }
+}
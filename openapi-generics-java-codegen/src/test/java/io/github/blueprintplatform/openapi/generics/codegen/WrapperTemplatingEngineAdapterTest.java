@@ -0,0 +1,67 @@
+package io.github.blueprintplatform.openapi.generics.codegen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.model.ModelMap;
+
+@Tag("unit")
+@DisplayName("Unit Test: WrapperTemplatingEngineAdapter")
+class WrapperTemplatingEngineAdapterTest {
+
+    private static final String MODEL = WrapperTemplatingEngineAdapter.MODEL_TEMPLATE;
+    private static final String WRAPPER = WrapperTemplatingEngineAdapter.WRAPPER_TEMPLATE;
+
+    @Test
+    @DisplayName("selectTemplate() -> model with x-generics-model-template selects that template")
+    void selectTemplate_modelWithExtension_usesSelectedTemplate() {
+        CodegenModel model = model(Map.of(WrapperTemplatingEngineAdapter.EXT_MODEL_TEMPLATE, WRAPPER));
+
+        assertEquals(WRAPPER, WrapperTemplatingEngineAdapter.selectTemplate(bundle(model), MODEL));
+    }
+
+    @Test
+    @DisplayName("selectTemplate() -> without the extension, model.mustache is kept")
+    void selectTemplate_modelWithoutExtension_keepsModelTemplate() {
+        CodegenModel model = model(Map.of());
+
+        assertEquals(MODEL, WrapperTemplatingEngineAdapter.selectTemplate(bundle(model), MODEL));
+    }
+
+    @Test
+    @DisplayName("selectTemplate() -> non-model templates are left unchanged")
+    void selectTemplate_otherTemplates_unchanged() {
+        CodegenModel model = model(Map.of(WrapperTemplatingEngineAdapter.EXT_MODEL_TEMPLATE, WRAPPER));
+
+        assertEquals("api.mustache", WrapperTemplatingEngineAdapter.selectTemplate(bundle(model), "api.mustache"));
+        assertEquals(MODEL, WrapperTemplatingEngineAdapter.selectTemplate(Map.of(), MODEL));
+    }
+
+    @Test
+    @DisplayName("selectTemplate() -> API with x-generics-api-template selects that template")
+    void selectTemplate_apiWithTemplate_usesSelectedTemplate() {
+        String api = WrapperTemplatingEngineAdapter.API_TEMPLATE;
+        String generic = WrapperTemplatingEngineAdapter.GENERIC_API_TEMPLATE;
+
+        assertEquals(generic, WrapperTemplatingEngineAdapter.selectTemplate(
+                Map.of(WrapperTemplatingEngineAdapter.EXT_API_TEMPLATE, generic), api));
+        assertEquals(api, WrapperTemplatingEngineAdapter.selectTemplate(Map.of(), api));
+    }
+
+    private static CodegenModel model(Map<String, Object> extensions) {
+        CodegenModel model = new CodegenModel();
+        model.vendorExtensions.putAll(extensions);
+        return model;
+    }
+
+    private static Map<String, Object> bundle(CodegenModel model) {
+        ModelMap modelMap = new ModelMap();
+        modelMap.setModel(model);
+        return Map.of("models", List.of(modelMap));
+    }
+}
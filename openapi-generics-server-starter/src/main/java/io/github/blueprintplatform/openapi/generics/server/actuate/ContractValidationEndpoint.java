@@ -0,0 +1,50 @@
+package io.github.blueprintplatform.openapi.generics.server.actuate;
+
+import io.github.blueprintplatform.openapi.generics.server.core.validation.ContractViolationReport;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint exposing the most recent contract validation report.
+ *
+ * <p>Available at {@code /actuator/openapicontract} once exposed (e.g. {@code
+ * management.endpoints.web.exposure.include=openapicontract}).
+ *
+ * <p>Validation runs when Springdoc builds the first document, so the endpoint reports {@code
+ * NOT_VALIDATED} until {@code /v3/api-docs} has been requested.
+ */
+@Endpoint(id = "openapicontract")
+public class ContractValidationEndpoint {
+
+  private static final String STATUS = "status";
+
+  private final OpenApiContractGuard guard;
+
+  public ContractValidationEndpoint(OpenApiContractGuard guard) {
+    this.guard = guard;
+  }
+
+  /**
+   * Returns the machine-readable report of the most recent validation.
+   *
+   * @return report payload
+   */
+  @ReadOperation
+  public Map<String, Object> report() {
+    ContractViolationReport report = guard.lastReport();
+
+    Map<String, Object> payload = new LinkedHashMap<>();
+
+    if (report == null) {
+      payload.put(STATUS, "NOT_VALIDATED");
+      return payload;
+    }
+
+    payload.put(STATUS, report.isValid() ? "VALID" : "INVALID");
+    payload.putAll(report.toMap());
+    return payload;
+  }
+}
@@ -0,0 +1,36 @@
+package io.github.blueprintplatform.openapi.generics.server.autoconfigure;
+
+import io.github.blueprintplatform.openapi.generics.server.actuate.ContractValidationEndpoint;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration for the contract validation actuator endpoint.
+ *
+ * <p>Registers {@link ContractValidationEndpoint} when Spring Boot Actuator is present and the
+ * endpoint is available (enabled and exposed).
+ */
+@AutoConfiguration(after = OpenApiGenericsAutoConfiguration.class)
+@ConditionalOnClass(
+    name = "org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint")
+@ConditionalOnBean(OpenApiContractGuard.class)
+public class OpenApiGenericsActuatorAutoConfiguration {
+
+  /**
+   * Creates the contract validation endpoint.
+   *
+   * @param guard contract guard
+   * @return actuator endpoint
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnAvailableEndpoint
+  public ContractValidationEndpoint contractValidationEndpoint(OpenApiContractGuard guard) {
+    return new ContractValidationEndpoint(guard);
+  }
+}
@@ -1,20 +1,38 @@
 package io.github.blueprintplatform.openapi.generics.server.autoconfigure;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeDiscoveryStrategy;
 import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeIntrospector;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.DocumentGeneration;
 import io.github.blueprintplatform.openapi.generics.server.core.pipeline.OpenApiPipelineOrchestrator;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PipelineListener;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PrecomputedOpenApiDocument;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaEnricher;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaProcessor;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.base.BaseSchemaRegistrar;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.base.SchemaGenerationControlMarker;
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaVisitor;
 import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.ValidationMode;
+import io.github.blueprintplatform.openapi.generics.server.mvc.ApiDocsResponseCacheFilter;
 import io.github.blueprintplatform.openapi.generics.server.mvc.MvcResponseTypeDiscoveryStrategy;
+import io.github.blueprintplatform.openapi.generics.server.mvc.StreamingServiceResponseHttpMessageConverter;
+import io.github.blueprintplatform.openapi.generics.server.webflux.WebFluxResponseTypeDiscoveryStrategy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
 import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springdoc.core.models.GroupedOpenApi;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.*;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 /**
@@ -64,6 +82,18 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
  *   <li>This class performs <b>dependency wiring only</b></li>
  *   <li>Execution logic resides in {@link OpenApiPipelineOrchestrator}</li>
  *   <li>{@link SchemaGenerationControlMarker} is injected into the pipeline but executed there</li>
+ *   <li>When {@code app.openapi.precomputed.location} is set, the precomputed document is served
+ *       and the pipeline is skipped</li>
+ * </ul>
+ *
+ * <h2>Optional Features</h2>
+ *
+ * <ul>
+ *   <li>{@code app.openapi.docs-cache.enabled=true} → serves pre-serialized api-docs responses
+ *       (servlet only), see {@link ApiDocsResponseCacheFilter}</li>
+ *   <li>{@link PipelineListener} beans → receive per-stage timings (Micrometer metrics are
+ *       registered by {@link OpenApiGenericsMetricsAutoConfiguration})</li>
+ *   <li>{@link SchemaVisitor} beans → custom checks sharing the single schema traversal</li>
  * </ul>
  */
 @AutoConfiguration
@@ -75,25 +105,53 @@ public class OpenApiGenericsAutoConfiguration {
    * Creates MVC-based response type discovery strategy.
    *
    * @param beanFactory Spring bean factory
+   * @param parallel whether handler return types are resolved concurrently
    * @return discovery strategy for MVC environments
    */
   @Bean
   @ConditionalOnClass(RequestMappingHandlerMapping.class)
   @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
   @ConditionalOnMissingBean(ResponseTypeDiscoveryStrategy.class)
-  public ResponseTypeDiscoveryStrategy mvcStrategy(ListableBeanFactory beanFactory) {
-    return new MvcResponseTypeDiscoveryStrategy(beanFactory);
+  public ResponseTypeDiscoveryStrategy mvcStrategy(
+          ListableBeanFactory beanFactory,
+          @Value("${app.openapi.discovery.parallel:false}") boolean parallel) {
+    return new MvcResponseTypeDiscoveryStrategy(beanFactory, parallel);
+  }
+
+  /**
+   * Creates WebFlux-based response type discovery strategy.
+   *
+   * @param beanFactory Spring bean factory
+   * @param parallel whether handler return types are resolved concurrently
+   * @return discovery strategy for reactive environments
+   */
+  @Bean
+  @ConditionalOnClass(
+          name = "org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping")
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+  @ConditionalOnMissingBean(ResponseTypeDiscoveryStrategy.class)
+  public ResponseTypeDiscoveryStrategy webFluxStrategy(
+          ListableBeanFactory beanFactory,
+          @Value("${app.openapi.discovery.parallel:false}") boolean parallel) {
+    return new WebFluxResponseTypeDiscoveryStrategy(beanFactory, parallel);
   }
 
   /**
    * Provides response type introspection logic.
    *
+   * @param cacheSize maximum number of memoized type signatures ({@code 0} disables caching)
+   * @param containers fully qualified container class names (empty → {@code Page}, {@code
+   *     CursorPage})
    * @return introspector instance
    */
   @Bean
   @ConditionalOnMissingBean
-  public ResponseTypeIntrospector responseTypeIntrospector() {
-    return new ResponseTypeIntrospector();
+  public ResponseTypeIntrospector responseTypeIntrospector(
+          @Value("${app.openapi.introspection.cache-size:"
+                  + ResponseTypeIntrospector.DEFAULT_CACHE_SIZE
+                  + "}") int cacheSize,
+          @Value("${app.openapi.wrapper.containers:}") Set<String> containers) {
+    return new ResponseTypeIntrospector(cacheSize, containers);
   }
 
   /**
@@ -121,12 +179,17 @@ public class OpenApiGenericsAutoConfiguration {
   /**
    * Provides wrapper schema enrichment logic.
    *
+   * <p>Uses the same container set as {@link #responseTypeIntrospector(int, Set)}.
+   *
+   * @param containers fully qualified container class names (empty → {@code Page}, {@code
+   *     CursorPage})
    * @return wrapper schema enricher
    */
   @Bean
   @ConditionalOnMissingBean
-  public WrapperSchemaEnricher wrapperSchemaEnricher() {
-    return new WrapperSchemaEnricher();
+  public WrapperSchemaEnricher wrapperSchemaEnricher(
+          @Value("${app.openapi.wrapper.containers:}") Set<String> containers) {
+    return new WrapperSchemaEnricher(containers);
   }
 
   /**
@@ -134,26 +197,36 @@ public class OpenApiGenericsAutoConfiguration {
    *
    * @param enricher wrapper enricher
    * @param extraAnnotation optional extra annotation applied to generated wrappers
+   * @param shareBaseRef whether wrappers of one document share the {@code ServiceResponse} ref
    * @return wrapper schema processor
    */
   @Bean
   @ConditionalOnMissingBean
   public WrapperSchemaProcessor wrapperSchemaProcessor(
           WrapperSchemaEnricher enricher,
-          @Value("${app.openapi.wrapper.class-extra-annotation:}") String extraAnnotation) {
+          @Value("${app.openapi.wrapper.class-extra-annotation:}") String extraAnnotation,
+          @Value("${app.openapi.wrapper.share-base-ref:true}") boolean shareBaseRef) {
 
-    return new WrapperSchemaProcessor(enricher, extraAnnotation);
+    return new WrapperSchemaProcessor(enricher, extraAnnotation, shareBaseRef);
   }
 
   /**
    * Provides contract validation logic.
    *
+   * @param deepValidation whether the schema graph reachable from wrappers is validated
+   * @param mode violation handling ({@code fail-fast} or {@code collect})
+   * @param parallelThreshold minimum number of wrappers for parallel deep validation
    * @return contract guard
    */
   @Bean
   @ConditionalOnMissingBean
-  public OpenApiContractGuard openApiContractGuard() {
-    return new OpenApiContractGuard();
+  public OpenApiContractGuard openApiContractGuard(
+          @Value("${app.openapi.validation.deep:false}") boolean deepValidation,
+          @Value("${app.openapi.validation.mode:fail-fast}") String mode,
+          @Value("${app.openapi.validation.parallel-threshold:"
+                  + OpenApiContractGuard.DEFAULT_PARALLEL_THRESHOLD
+                  + "}") int parallelThreshold) {
+    return new OpenApiContractGuard(deepValidation, ValidationMode.from(mode), parallelThreshold);
   }
 
   /**
@@ -165,6 +238,8 @@ public class OpenApiGenericsAutoConfiguration {
    * @param introspector response type introspector
    * @param wrapperSchemaProcessor wrapper processor
    * @param contractGuard contract guard
+   * @param listeners optional pipeline listeners (e.g. metrics)
+   * @param schemaVisitors optional custom schema visitors, run after marking and validation
    * @return orchestrator instance
    */
   @Bean
@@ -175,7 +250,9 @@ public class OpenApiGenericsAutoConfiguration {
           ResponseTypeDiscoveryStrategy discoveryStrategy,
           ResponseTypeIntrospector introspector,
           WrapperSchemaProcessor wrapperSchemaProcessor,
-          OpenApiContractGuard contractGuard) {
+          OpenApiContractGuard contractGuard,
+          ObjectProvider<PipelineListener> listeners,
+          ObjectProvider<SchemaVisitor> schemaVisitors) {
 
     return new OpenApiPipelineOrchestrator(
             baseSchemaRegistrar,
@@ -183,18 +260,156 @@ public class OpenApiGenericsAutoConfiguration {
             discoveryStrategy,
             introspector,
             wrapperSchemaProcessor,
-            contractGuard);
+            contractGuard,
+            PipelineListener.composite(listeners.orderedStream().toList()),
+            schemaVisitors.orderedStream().toList());
+  }
+
+  /**
+   * Loads a precomputed (build-time) OpenAPI document.
+   *
+   * <p>Activated only when {@code app.openapi.precomputed.location} is set. A configured but
+   * missing document fails startup, as does a document configured next to {@link GroupedOpenApi}
+   * groups: the snapshot describes a single document and would replace the paths of every group.
+   *
+   * @param resourceLoader Spring resource loader
+   * @param location document location (e.g. {@code classpath:META-INF/openapi-generics/openapi.json})
+   * @param groups grouped documents declared by the application
+   * @return precomputed document
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "app.openapi.precomputed", name = "location")
+  public PrecomputedOpenApiDocument precomputedOpenApiDocument(
+          ResourceLoader resourceLoader,
+          @Value("${app.openapi.precomputed.location}") String location,
+          ObjectProvider<GroupedOpenApi> groups) {
+
+    if (groups.stream().findAny().isPresent()) {
+      throw new IllegalStateException(
+              "Precomputed OpenAPI document '"
+                      + location
+                      + "' cannot be used with GroupedOpenApi groups; remove"
+                      + " app.openapi.precomputed.location or the groups");
+    }
+
+    Resource resource = resourceLoader.getResource(location);
+
+    if (!resource.exists()) {
+      throw new IllegalStateException(
+              "Precomputed OpenAPI document not found: '" + location + "'");
+    }
+
+    try (InputStream content = resource.getInputStream()) {
+      return PrecomputedOpenApiDocument.load(location, content);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+              "Failed to read precomputed OpenAPI document: '" + location + "'", e);
+    }
+  }
+
+  /**
+   * Tracks documents built by Springdoc and customized by the starter.
+   *
+   * @return document generation counter
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public DocumentGeneration openApiDocumentGeneration() {
+    return new DocumentGeneration();
   }
 
   /**
    * Registers the single Springdoc customization entry point.
    *
+   * <p>Delegates to the precomputed document when available, otherwise to the orchestrator. Every
+   * customized document advances the {@link DocumentGeneration}.
+   *
    * @param orchestrator pipeline orchestrator
-   * @return OpenApiCustomizer delegating to orchestrator
+   * @param precomputedDocument optional precomputed document
+   * @param generation document generation counter
+   * @return OpenApiCustomizer delegating to the precomputed document or orchestrator
    */
   @Bean
   @ConditionalOnMissingBean(name = "openApiGenericsCustomizer")
-  public OpenApiCustomizer openApiGenericsCustomizer(OpenApiPipelineOrchestrator orchestrator) {
-    return orchestrator::run;
+  public OpenApiCustomizer openApiGenericsCustomizer(
+          OpenApiPipelineOrchestrator orchestrator,
+          ObjectProvider<PrecomputedOpenApiDocument> precomputedDocument,
+          DocumentGeneration generation) {
+
+    PrecomputedOpenApiDocument precomputed = precomputedDocument.getIfAvailable();
+    OpenApiCustomizer delegate = precomputed != null ? precomputed::applyTo : orchestrator::run;
+
+    return openApi -> {
+      delegate.customise(openApi);
+      generation.advance();
+    };
+  }
+
+  /**
+   * Servlet-only registration of the pre-serialized api-docs response cache.
+   *
+   * <p>Isolated in a nested configuration so that servlet types are never loaded in reactive
+   * applications.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "jakarta.servlet.Filter")
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  @ConditionalOnProperty(prefix = "app.openapi.docs-cache", name = "enabled", havingValue = "true")
+  static class ApiDocsResponseCacheConfiguration {
+
+    /**
+     * Creates the api-docs response cache filter.
+     *
+     * <p>When Springdoc's own document cache is disabled, every request rebuilds the document,
+     * so the filter revalidates each response against the freshly produced body.
+     *
+     * @param generation document generation (source of cache invalidation)
+     * @param apiDocsPath Springdoc api-docs path
+     * @param maxEntries maximum number of cached response variants
+     * @param springdocCacheDisabled whether Springdoc rebuilds the document on every request
+     * @return api-docs response cache filter
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ApiDocsResponseCacheFilter apiDocsResponseCacheFilter(
+            DocumentGeneration generation,
+            @Value("${springdoc.api-docs.path:/v3/api-docs}") String apiDocsPath,
+            @Value("${app.openapi.docs-cache.max-entries:64}") int maxEntries,
+            @Value("${springdoc.cache.disabled:false}") boolean springdocCacheDisabled) {
+
+      return new ApiDocsResponseCacheFilter(
+              apiDocsPath, generation::current, maxEntries, springdocCacheDisabled);
+    }
+  }
+
+  /**
+   * Servlet-only registration of the NDJSON writer for {@code StreamingServiceResponse<T>}.
+   *
+   * <p>Spring Boot adds {@code HttpMessageConverter} beans to the MVC converter chain. The converter
+   * only handles streaming envelopes and leaves all other responses untouched.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(
+          name = {
+            "org.springframework.web.servlet.DispatcherServlet",
+            "com.fasterxml.jackson.databind.ObjectMapper"
+          })
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  static class StreamingResponseConfiguration {
+
+    /**
+     * Creates the streaming response converter.
+     *
+     * @param objectMapper application object mapper (a default mapper is used if absent)
+     * @return NDJSON converter for streaming envelopes
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public StreamingServiceResponseHttpMessageConverter streamingServiceResponseHttpMessageConverter(
+            ObjectProvider<ObjectMapper> objectMapper) {
+      return new StreamingServiceResponseHttpMessageConverter(
+              objectMapper.getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build()));
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package io.github.blueprintplatform.openapi.generics.server.autoconfigure;
+
+import io.github.blueprintplatform.openapi.generics.server.metrics.MicrometerPipelineListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration for Micrometer pipeline metrics.
+ *
+ * <p>Registers a {@link MicrometerPipelineListener} that the {@link
+ * io.github.blueprintplatform.openapi.generics.server.core.pipeline.OpenApiPipelineOrchestrator}
+ * picks up as a pipeline listener.
+ *
+ * <h2>Activation</h2>
+ *
+ * <ul>
+ *   <li>Micrometer is on the classpath and a {@link MeterRegistry} bean exists (e.g. via Spring
+ *       Boot Actuator)</li>
+ *   <li>{@code app.openapi.metrics.enabled} is not {@code false}</li>
+ * </ul>
+ *
+ * <p>Without this configuration, the pipeline takes no measurements.
+ */
+@AutoConfiguration(
+    afterName = {
+      "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+      "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+    })
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(
+    prefix = "app.openapi.metrics",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OpenApiGenericsMetricsAutoConfiguration {
+
+  /**
+   * Creates the Micrometer pipeline listener.
+   *
+   * @param registry meter registry
+   * @return pipeline listener recording stage timings and counts
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public MicrometerPipelineListener openApiGenericsMetricsListener(MeterRegistry registry) {
+    return new MicrometerPipelineListener(registry);
+  }
+}
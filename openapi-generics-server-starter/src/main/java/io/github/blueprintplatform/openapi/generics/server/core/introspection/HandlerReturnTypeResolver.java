@@ -0,0 +1,86 @@
+package io.github.blueprintplatform.openapi.generics.server.core.introspection;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Resolves handler method return types into {@link ResolvableType} representations.
+ *
+ * <p>Shared by framework-specific {@link ResponseTypeDiscoveryStrategy} implementations so that
+ * MVC and WebFlux discovery behave identically.
+ *
+ * <h2>Ordering Guarantee</h2>
+ *
+ * <ul>
+ *   <li>Results preserve the encounter order of the given methods
+ *   <li>Parallel resolution merges results in that same order → identical output to sequential
+ * </ul>
+ */
+public final class HandlerReturnTypeResolver {
+
+  private HandlerReturnTypeResolver() {}
+
+  /**
+   * Collects the handler methods of all mapping beans of the given type and resolves their return
+   * types.
+   *
+   * <p>Methods are collected in bean and mapping order before resolution, so parallel and
+   * sequential discovery produce the same set.
+   *
+   * @param beanFactory bean factory holding the handler mappings
+   * @param mappingType framework-specific handler mapping type
+   * @param handlerMethods accessor of a mapping's registered handler methods
+   * @param parallel whether return types are resolved concurrently (common fork-join pool)
+   * @param <M> handler mapping type
+   * @return ordered set of resolved return types
+   */
+  public static <M> Set<ResolvableType> resolve(
+      ListableBeanFactory beanFactory,
+      Class<M> mappingType,
+      Function<? super M, ? extends Map<?, HandlerMethod>> handlerMethods,
+      boolean parallel) {
+
+    List<Method> methods = new ArrayList<>();
+
+    for (M mapping : beanFactory.getBeansOfType(mappingType).values()) {
+      handlerMethods.apply(mapping).values().forEach(handler -> methods.add(handler.getMethod()));
+    }
+
+    return resolve(methods, parallel);
+  }
+
+  /**
+   * Resolves the return types of the given handler methods.
+   *
+   * @param methods handler methods in discovery order
+   * @param parallel whether return types are resolved concurrently (common fork-join pool)
+   * @return ordered set of resolved return types; completely unresolved types are skipped
+   */
+  public static Set<ResolvableType> resolve(Collection<Method> methods, boolean parallel) {
+    Stream<Method> stream = parallel ? methods.parallelStream() : methods.stream();
+
+    return stream
+        .map(HandlerReturnTypeResolver::resolveReturnType)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private static ResolvableType resolveReturnType(Method method) {
+    ResolvableType type = ResolvableType.forMethodReturnType(method);
+
+    // Defensive: skip completely unresolved types
+    return type.resolve() == null ? null : type;
+  }
+}
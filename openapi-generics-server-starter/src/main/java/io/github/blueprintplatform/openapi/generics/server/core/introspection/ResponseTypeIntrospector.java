@@ -1,12 +1,23 @@
 package io.github.blueprintplatform.openapi.generics.server.core.introspection;
 
 import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
-import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SupportedContainers;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.ResolvableType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.async.DeferredResult;
@@ -24,14 +35,46 @@ import org.springframework.web.context.request.async.WebAsyncTask;
  *
  * <ul>
  *   <li>{@code ServiceResponse<T>} where {@code T} is a plain non-generic DTO
- *   <li>{@code ServiceResponse<Page<T>>}
+ *   <li>{@code ServiceResponse<C<T>>} where {@code C} is a supported container (by default {@code
+ *       Page} and {@code CursorPage})
  * </ul>
  *
+ * <p>Streaming envelopes ({@code StreamingServiceResponse<T>} with a plain DTO {@code T}) are
+ * detected separately via {@link #extractStreamItemRefName(ResolvableType)}.
+ *
  * <p>All other shapes (e.g. {@code ServiceResponse<List<T>>}, nested generics, maps, etc.) are
  * intentionally ignored and left to default OpenAPI generation.
  *
+ * <p>Transport wrappers are unwrapped before shape detection: {@code ResponseEntity}, async types
+ * ({@code CompletionStage}, {@code Future}, {@code DeferredResult}, {@code WebAsyncTask}) and
+ * single-value reactive types (e.g. {@code Mono}). Multi-value reactive types (e.g. {@code Flux})
+ * are not unwrapped, as they do not describe a single {@code ServiceResponse} body.
+ *
  * <p>This class defines the boundary of what is considered "contract-aware" in the published
  * OpenAPI specification.
+ *
+ * <h2>Memoization</h2>
+ *
+ * <p>Results are memoized in a bounded, thread-safe LRU cache keyed by the generic type itself
+ * (e.g. {@code ResponseEntity<ServiceResponse<CustomerDto>>}), so repeated response shapes across
+ * endpoints and OpenAPI groups are introspected only once:
+ *
+ * <ul>
+ *   <li>fully concrete types → keyed by the reflective {@link Type} (structural equality, shared
+ *       across declaring classes)
+ *   <li>types with type variables or wildcards → keyed by the {@link ResolvableType}, whose
+ *       equality includes the owner the variables resolve against
+ * </ul>
+ *
+ * <p>No type signature strings are built for lookups. Hit/miss counters are exposed for
+ * diagnostics. A cache size of {@code 0} disables memoization.
+ *
+ * <h2>Containers</h2>
+ *
+ * <p>Container types are matched by fully qualified class name against a configurable {@link
+ * SupportedContainers} set, shared with {@code WrapperSchemaEnricher}. Any single-type-parameter
+ * class listed there (e.g. a custom {@code Slice<T>}) yields a {@code container + item} schema name;
+ * same-named foreign types (e.g. Spring Data's {@code Page}) are ignored.
  */
 public final class ResponseTypeIntrospector {
 
@@ -39,6 +82,58 @@ public final class ResponseTypeIntrospector {
 
   private static final int MAX_UNWRAP_DEPTH = 8;
 
+  private static final ReactiveAdapterRegistry REACTIVE_ADAPTERS =
+      ReactiveAdapterRegistry.getSharedInstance();
+
+  /** Default maximum number of memoized type signatures. */
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  private final SupportedContainers supportedContainers;
+
+  private final int cacheSize;
+  private final Map<Object, Optional<String>> cache;
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+
+  /** Creates an introspector with the default cache size. */
+  public ResponseTypeIntrospector() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Creates an introspector with a bounded memo cache.
+   *
+   * @param cacheSize maximum number of memoized type signatures ({@code 0} disables caching)
+   */
+  public ResponseTypeIntrospector(int cacheSize) {
+    this(cacheSize, SupportedContainers.DEFAULT);
+  }
+
+  /**
+   * Creates an introspector with a bounded memo cache and custom container support.
+   *
+   * @param cacheSize maximum number of memoized type signatures ({@code 0} disables caching)
+   * @param supportedContainers fully qualified names of container types (empty → defaults; simple
+   *     names of the default containers are accepted, see {@link SupportedContainers#of})
+   * @throws IllegalStateException if a simple name does not denote a default container
+   */
+  public ResponseTypeIntrospector(int cacheSize, Set<String> supportedContainers) {
+    this(cacheSize, SupportedContainers.of(supportedContainers));
+  }
+
+  /**
+   * Creates an introspector with a bounded memo cache and custom container support.
+   *
+   * @param cacheSize maximum number of memoized type signatures ({@code 0} disables caching)
+   * @param supportedContainers supported container types
+   */
+  public ResponseTypeIntrospector(int cacheSize, SupportedContainers supportedContainers) {
+    this.supportedContainers =
+        supportedContainers != null ? supportedContainers : SupportedContainers.DEFAULT;
+    this.cacheSize = Math.max(cacheSize, 0);
+    this.cache = this.cacheSize > 0 ? createCache(this.cacheSize) : null;
+  }
+
   /**
    * Extracts a deterministic schema reference name for the {@code data} field inside {@code
    * ServiceResponse<T>}.
@@ -48,6 +143,7 @@ public final class ResponseTypeIntrospector {
    * <ul>
    *   <li>{@code ServiceResponse<CustomerDto>} → {@code CustomerDto}
    *   <li>{@code ServiceResponse<Page<CustomerDto>>} → {@code PageCustomerDto}
+   *   <li>{@code ServiceResponse<CursorPage<CustomerDto>>} → {@code CursorPageCustomerDto}
    * </ul>
    *
    * <p>If the provided type does not match a supported contract-aware shape, {@link
@@ -59,6 +155,94 @@ public final class ResponseTypeIntrospector {
   public Optional<String> extractDataRefName(ResolvableType type) {
     if (type == null) return Optional.empty();
 
+    if (cache == null) {
+      return introspect(type);
+    }
+
+    Object key = cacheKey(type);
+
+    Optional<String> cached = cache.get(key);
+    if (cached != null) {
+      cacheHits.increment();
+      return cached;
+    }
+
+    cacheMisses.increment();
+
+    Optional<String> refOpt = introspect(type);
+    cache.put(key, refOpt);
+
+    return refOpt;
+  }
+
+  /**
+   * Extracts the item schema name of a streaming envelope ({@code StreamingServiceResponse<T>}).
+   *
+   * <p>Examples:
+   *
+   * <ul>
+   *   <li>{@code StreamingServiceResponse<CustomerDto>} → {@code CustomerDto}
+   *   <li>{@code ResponseEntity<StreamingServiceResponse<CustomerDto>>} → {@code CustomerDto}
+   * </ul>
+   *
+   * <p>Only plain non-generic item types are supported; any other type yields {@link
+   * Optional#empty()}. Results share the memo cache of {@link #extractDataRefName(ResolvableType)}.
+   *
+   * @param type response type (framework-agnostic)
+   * @return item schema name or empty if not a supported streaming envelope
+   */
+  public Optional<String> extractStreamItemRefName(ResolvableType type) {
+    if (type == null) return Optional.empty();
+
+    if (cache == null) {
+      return introspectStream(type);
+    }
+
+    Object key = new StreamKey(cacheKey(type));
+
+    Optional<String> cached = cache.get(key);
+    if (cached != null) {
+      cacheHits.increment();
+      return cached;
+    }
+
+    cacheMisses.increment();
+
+    Optional<String> refOpt = introspectStream(type);
+    cache.put(key, refOpt);
+
+    return refOpt;
+  }
+
+  /**
+   * Returns the number of memoized lookups served from the cache.
+   *
+   * @return cache hit count
+   */
+  public long getCacheHits() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * Returns the number of lookups that required full introspection.
+   *
+   * @return cache miss count
+   */
+  public long getCacheMisses() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * Returns the maximum number of memoized type signatures.
+   *
+   * @return configured cache size ({@code 0} if caching is disabled)
+   */
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
+  /** Performs uncached introspection of a response type. */
+  private Optional<String> introspect(ResolvableType type) {
     type = unwrapToServiceResponse(type);
 
     Class<?> raw = type.resolve();
@@ -84,14 +268,35 @@ public final class ResponseTypeIntrospector {
     return refOpt;
   }
 
+  /** Performs uncached introspection of a potential streaming envelope. */
+  private Optional<String> introspectStream(ResolvableType type) {
+    type = unwrapToServiceResponse(type);
+
+    Class<?> raw = type.resolve();
+    if (raw == null || !StreamingServiceResponse.class.isAssignableFrom(raw)) {
+      return Optional.empty();
+    }
+
+    ResolvableType itemType = type.as(StreamingServiceResponse.class).getGeneric(0);
+    Class<?> itemRaw = itemType.resolve();
+
+    if (itemRaw == null || itemType.hasGenerics()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(itemRaw.getSimpleName());
+  }
+
   /**
-   * Unwraps known wrapper types until {@code ServiceResponse<?>} is reached or no further
-   * unwrapping is possible.
+   * Unwraps known wrapper types until {@code ServiceResponse<?>} (or its streaming counterpart) is
+   * reached or no further unwrapping is possible.
    */
   private ResolvableType unwrapToServiceResponse(ResolvableType type) {
     for (int i = 0; i < MAX_UNWRAP_DEPTH; i++) {
       Class<?> raw = type.resolve();
-      if (raw == null || ServiceResponse.class.isAssignableFrom(raw)) {
+      if (raw == null
+          || ServiceResponse.class.isAssignableFrom(raw)
+          || StreamingServiceResponse.class.isAssignableFrom(raw)) {
         return type;
       }
 
@@ -120,9 +325,19 @@ public final class ResponseTypeIntrospector {
       return current.getGeneric(0);
     }
 
+    if (isSingleValueReactiveType(raw)) {
+      return current.getGeneric(0);
+    }
+
     return null;
   }
 
+  /** Detects single-value reactive types (e.g. {@code Mono}) without a hard Reactor dependency. */
+  private boolean isSingleValueReactiveType(Class<?> raw) {
+    ReactiveAdapter adapter = REACTIVE_ADAPTERS.getAdapter(raw);
+    return adapter != null && !adapter.isMultiValue() && !adapter.isNoValue();
+  }
+
   /** Builds deterministic schema name only for explicitly supported shapes. */
   private Optional<String> buildGuaranteedRefName(ResolvableType dataType) {
     if (dataType == null) return Optional.empty();
@@ -130,7 +345,7 @@ public final class ResponseTypeIntrospector {
     Class<?> raw = dataType.resolve();
     if (raw == null) return Optional.empty();
 
-    if (Page.class.isAssignableFrom(raw)) {
+    if (isSupportedContainer(raw)) {
       ResolvableType itemType = safeGeneric(dataType, 0);
       Class<?> itemRaw = itemType.resolve();
       if (itemRaw == null) return Optional.empty();
@@ -145,6 +360,11 @@ public final class ResponseTypeIntrospector {
     return Optional.empty();
   }
 
+  /** Matches single-type-parameter classes whose qualified name is a configured container. */
+  private boolean isSupportedContainer(Class<?> raw) {
+    return supportedContainers.matches(raw);
+  }
+
   private ResolvableType safeGeneric(ResolvableType type, int index) {
     if (type == null || !type.hasGenerics()) {
       return ResolvableType.forClass(Object.class);
@@ -159,6 +379,49 @@ public final class ResponseTypeIntrospector {
     return generic.resolve() == null ? ResolvableType.forClass(Object.class) : generic;
   }
 
+  /**
+   * Returns the memo key of a type: the reflective type when it is fully concrete, otherwise the
+   * {@link ResolvableType} (which also carries the variable resolution context).
+   */
+  private static Object cacheKey(ResolvableType type) {
+    Type javaType = type.getType();
+    return isConcrete(javaType) ? javaType : type;
+  }
+
+  private static boolean isConcrete(Type type) {
+    if (type instanceof Class<?>) {
+      return true;
+    }
+
+    if (type instanceof ParameterizedType parameterized) {
+      for (Type argument : parameterized.getActualTypeArguments()) {
+        if (!isConcrete(argument)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    if (type instanceof GenericArrayType array) {
+      return isConcrete(array.getGenericComponentType());
+    }
+
+    return false;
+  }
+
+  /** Separates streaming lookups from {@code data} lookups in the shared cache. */
+  private record StreamKey(Object type) {}
+
+  private static Map<Object, Optional<String>> createCache(int maxSize) {
+    return Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Object, Optional<String>> eldest) {
+            return size() > maxSize;
+          }
+        });
+  }
+
   private String safeToString(ResolvableType type) {
     try {
       return String.valueOf(type);
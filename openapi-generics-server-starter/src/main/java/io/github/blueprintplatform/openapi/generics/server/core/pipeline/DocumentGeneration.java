@@ -0,0 +1,31 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the OpenAPI documents built by Springdoc and handed to the starter's customizer.
+ *
+ * <p>Springdoc invokes customizers only when it (re)builds a document. The generation therefore
+ * advances exactly when the served document may have changed, regardless of whether the document
+ * was produced by the pipeline or restored from a precomputed snapshot.
+ *
+ * <p>Thread-safe.
+ */
+public final class DocumentGeneration {
+
+  private final AtomicLong current = new AtomicLong();
+
+  /** Records that a freshly built document has been customized. */
+  public void advance() {
+    current.incrementAndGet();
+  }
+
+  /**
+   * Returns the current generation.
+   *
+   * @return number of documents customized since creation
+   */
+  public long current() {
+    return current.get();
+  }
+}
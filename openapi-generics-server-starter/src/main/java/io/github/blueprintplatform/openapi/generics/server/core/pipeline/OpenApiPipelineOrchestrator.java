@@ -2,17 +2,29 @@ package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
 
 import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeDiscoveryStrategy;
 import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeIntrospector;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperProcessingResult;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaProcessor;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SchemaNames;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.base.BaseSchemaRegistrar;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.base.SchemaGenerationControlMarker;
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaGraphTraversal;
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaVisitor;
 import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import java.util.Collections;
-import java.util.IdentityHashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
 
 /**
  * Central orchestrator for the generics-aware OpenAPI system.
@@ -26,9 +38,12 @@ import org.slf4j.LoggerFactory;
  * 1. Base Schema Registration   → ensure canonical envelope schemas exist
  * 2. Discovery                 → collect response types from runtime
  * 3. Introspection             → extract contract-aware type references
- * 4. Wrapper Processing        → generate wrapper schemas (ServiceResponse&lt;T&gt;, etc.)
- * 5. Ignore Marking            → mark infrastructure schemas as non-generatable
- * 6. Validation                → enforce contract correctness (fail-fast)
+ * 4. Wrapper Processing        → generate wrapper schemas (ServiceResponse&lt;T&gt;,
+ *                                StreamingServiceResponse&lt;T&gt;, etc.)
+ * 5. Validation                → one pass over components.schemas shared by:
+ *      a. Ignore marking        → mark infrastructure schemas as non-generatable
+ *      b. Contract validation   → enforce contract correctness (fail-fast)
+ *      c. Custom visitors       → additional {@link SchemaVisitor} checks
  * </pre>
  *
  * <h2>Design Guarantees</h2>
@@ -54,27 +69,60 @@ import org.slf4j.LoggerFactory;
  * <ul>
  *   <li>This class coordinates execution and does not implement schema logic
  *   <li>All schema-related behavior is delegated to dedicated components
- *   <li>Ignore marking is applied <b>after schema creation</b> but <b>before validation</b>
+ *   <li>Ignore marking is applied <b>after schema creation</b> and before each schema is validated
+ *   <li>Marking, validation and custom visitors share a single {@link SchemaGraphTraversal}. The
+ *       marker is registered first and only tags the schema being visited (or base schemas before
+ *       traversal), so validators always see final {@code x-ignore-model} markers
  * </ul>
+ *
+ * <h2>Multiple Documents (Groups)</h2>
+ *
+ * <ul>
+ *   <li>Discovery + introspection depend only on the application context → computed <b>once</b>
+ *       and reused for every document (e.g. each {@code GroupedOpenApi})
+ *   <li>Wrapper processing is applied per document, restricted to the refs that document returns:
+ *       a response of one of its own operations references the Springdoc-generated wrapper (e.g.
+ *       {@code ServiceResponseCustomerDto}). A DTO that only appears in a request body or as a
+ *       nested property gets no wrapper
+ *   <li>Wrapper schemas are still created per document → documents never share mutable schema
+ *       instances
+ * </ul>
+ *
+ * <h2>Instrumentation</h2>
+ *
+ * <p>An optional {@link PipelineListener} receives per-{@link PipelineStage} duration and
+ * allocated bytes, and a {@link PipelineSummary} per document. Without a listener, no measurement
+ * is taken.
  */
 public class OpenApiPipelineOrchestrator {
 
-    private static final Logger log = LoggerFactory.getLogger(OpenApiPipelineOrchestrator.class);
+  private static final Logger log = LoggerFactory.getLogger(OpenApiPipelineOrchestrator.class);
+
+  private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+  private static final String RESPONSE_REF_PREFIX = "#/components/responses/";
+
+  /**
+   * Internal execution guard to prevent multiple pipeline runs on the same OpenAPI instance.
+   *
+   * <p>Uses weak identity-based tracking to avoid leaking runtime state into the OpenAPI model
+   * and to avoid retaining documents Springdoc has discarded.
+   */
+  private final ProcessedDocumentTracker processed = new ProcessedDocumentTracker();
+
+  private final BaseSchemaRegistrar baseSchemaRegistrar;
+  private final ResponseTypeDiscoveryStrategy discoveryStrategy;
+  private final ResponseTypeIntrospector introspector;
+  private final WrapperSchemaProcessor wrapperSchemaProcessor;
+
+  private final SchemaGraphTraversal schemaTraversal;
+  private final PipelineListener listener;
+  private final StageTimer timer;
 
-    /**
-     * Internal execution guard to prevent multiple pipeline runs on the same OpenAPI instance.
-     *
-     * <p>Uses identity-based tracking to avoid leaking runtime state into the OpenAPI model.
-     */
-    private final Set<OpenAPI> processed =
-            Collections.newSetFromMap(new IdentityHashMap<>());
+  /** Discovery result, computed once per application context (lazily, on first run). */
+  private volatile Discovery discovery;
 
-    private final BaseSchemaRegistrar baseSchemaRegistrar;
-  private final SchemaGenerationControlMarker schemaGenerationControlMarker;
-    private final ResponseTypeDiscoveryStrategy discoveryStrategy;
-    private final ResponseTypeIntrospector introspector;
-    private final WrapperSchemaProcessor wrapperSchemaProcessor;
-    private final OpenApiContractGuard contractGuard;
+  /** Summary of the most recent pipeline execution. */
+  private volatile PipelineSummary lastSummary;
 
   public OpenApiPipelineOrchestrator(
       BaseSchemaRegistrar baseSchemaRegistrar,
@@ -84,65 +132,318 @@ public class OpenApiPipelineOrchestrator {
       WrapperSchemaProcessor wrapperSchemaProcessor,
       OpenApiContractGuard contractGuard) {
 
-        this.baseSchemaRegistrar = baseSchemaRegistrar;
-    this.schemaGenerationControlMarker = schemaGenerationControlMarker;
-        this.discoveryStrategy = discoveryStrategy;
-        this.introspector = introspector;
-        this.wrapperSchemaProcessor = wrapperSchemaProcessor;
-        this.contractGuard = contractGuard;
+    this(
+        baseSchemaRegistrar,
+        schemaGenerationControlMarker,
+        discoveryStrategy,
+        introspector,
+        wrapperSchemaProcessor,
+        contractGuard,
+        PipelineListener.NOOP);
+  }
+
+  /**
+   * Creates the orchestrator with a pipeline listener.
+   *
+   * @param baseSchemaRegistrar base schema registrar
+   * @param schemaGenerationControlMarker generation control marker
+   * @param discoveryStrategy response type discovery strategy
+   * @param introspector response type introspector
+   * @param wrapperSchemaProcessor wrapper processor
+   * @param contractGuard contract guard
+   * @param listener pipeline listener ({@link PipelineListener#NOOP} to disable instrumentation)
+   */
+  public OpenApiPipelineOrchestrator(
+      BaseSchemaRegistrar baseSchemaRegistrar,
+      SchemaGenerationControlMarker schemaGenerationControlMarker,
+      ResponseTypeDiscoveryStrategy discoveryStrategy,
+      ResponseTypeIntrospector introspector,
+      WrapperSchemaProcessor wrapperSchemaProcessor,
+      OpenApiContractGuard contractGuard,
+      PipelineListener listener) {
+
+    this(
+        baseSchemaRegistrar,
+        schemaGenerationControlMarker,
+        discoveryStrategy,
+        introspector,
+        wrapperSchemaProcessor,
+        contractGuard,
+        listener,
+        List.of());
+  }
+
+  /**
+   * Creates the orchestrator with a pipeline listener and additional schema visitors.
+   *
+   * @param baseSchemaRegistrar base schema registrar
+   * @param schemaGenerationControlMarker generation control marker
+   * @param discoveryStrategy response type discovery strategy
+   * @param introspector response type introspector
+   * @param wrapperSchemaProcessor wrapper processor
+   * @param contractGuard contract guard
+   * @param listener pipeline listener ({@link PipelineListener#NOOP} to disable instrumentation)
+   * @param schemaVisitors additional visitors, run after marking and validation in the same pass
+   */
+  public OpenApiPipelineOrchestrator(
+      BaseSchemaRegistrar baseSchemaRegistrar,
+      SchemaGenerationControlMarker schemaGenerationControlMarker,
+      ResponseTypeDiscoveryStrategy discoveryStrategy,
+      ResponseTypeIntrospector introspector,
+      WrapperSchemaProcessor wrapperSchemaProcessor,
+      OpenApiContractGuard contractGuard,
+      PipelineListener listener,
+      List<? extends SchemaVisitor> schemaVisitors) {
+
+    this.baseSchemaRegistrar = baseSchemaRegistrar;
+    this.discoveryStrategy = discoveryStrategy;
+    this.introspector = introspector;
+    this.wrapperSchemaProcessor = wrapperSchemaProcessor;
+    this.listener = listener;
+    this.timer = new StageTimer(listener);
+
+    List<SchemaVisitor> visitors = new ArrayList<>();
+    visitors.add(schemaGenerationControlMarker.visitor());
+    visitors.add(contractGuard.visitor());
+    visitors.addAll(schemaVisitors);
+
+    this.schemaTraversal = new SchemaGraphTraversal(visitors);
+  }
+
+  /**
+   * Executes the full OpenAPI transformation pipeline.
+   *
+   * @param openApi the OpenAPI document
+   */
+  public void run(OpenAPI openApi) {
+
+    if (!processed.markProcessed(openApi)) {
+      log.debug("Pipeline already executed → skipping");
+      return;
     }
 
-    /**
-     * Executes the full OpenAPI transformation pipeline.
-     *
-     * @param openApi the OpenAPI document
-     */
-    public void run(OpenAPI openApi) {
+    log.debug("OpenAPI pipeline started");
 
-        if (!processed.add(openApi)) {
-            log.debug("Pipeline already executed → skipping");
-            return;
-        }
+    // 1. Base schemas
+    timer.run(PipelineStage.BASE_SCHEMA_REGISTRATION, () -> baseSchemaRegistrar.register(openApi));
+
+    // 2–3. Discovery + Introspection (once per application context)
+    Discovery discovered = discover();
+    Set<String> returned = responseSchemaNames(openApi);
+    Set<String> refs = selectUsedRefs(returned, discovered.refs(), SchemaNames.SERVICE_RESPONSE);
+    Set<String> streamRefs =
+        selectUsedRefs(returned, discovered.streamRefs(), SchemaNames.STREAMING_SERVICE_RESPONSE);
+    log.debug(
+        "Using {} contract-aware and {} streaming response types for this document",
+        refs.size(),
+        streamRefs.size());
 
-        log.debug("OpenAPI pipeline started");
+    // 4. Wrapper processing
+    int[] outcomes = new int[WrapperProcessingResult.values().length];
+    timer.run(
+        PipelineStage.WRAPPER_PROCESSING,
+        () -> {
+          WrapperSchemaProcessor.DocumentScope document = wrapperSchemaProcessor.forDocument(openApi);
+          refs.forEach(ref -> outcomes[document.process(ref).ordinal()]++);
+          streamRefs.forEach(ref -> outcomes[document.processStreaming(ref).ordinal()]++);
+        });
 
-        // 1. Base schemas
-        baseSchemaRegistrar.register(openApi);
+    PipelineSummary summary =
+        new PipelineSummary(
+            discovered.typeCount(),
+            discovered.refs().size() + discovered.streamRefs().size(),
+            refs.size() + streamRefs.size(),
+            outcomes[WrapperProcessingResult.CREATED.ordinal()],
+            outcomes[WrapperProcessingResult.REPLACED.ordinal()]);
 
-        // 2–3. Discovery + Introspection
-        Set<String> refs = discoverRefs();
-        log.debug("Discovered {} contract-aware response types", refs.size());
+    log.debug(
+        "Processed {} wrapper schemas (created={}, replaced={})",
+        summary.usedRefs(),
+        summary.created(),
+        summary.replaced());
 
-        // 4. Wrapper processing
-        refs.forEach(ref -> wrapperSchemaProcessor.process(openApi, ref));
-        log.debug("Processed {} wrapper schemas", refs.size());
+    // 5. Ignore marking + validation + custom visitors (one traversal)
+    timer.run(PipelineStage.VALIDATION, () -> schemaTraversal.traverse(openApi));
+    log.debug("Applied ignore markers and validated contract");
 
-    // 5. Ignore marking
-    schemaGenerationControlMarker.mark(openApi);
-        log.debug("Applied ignore markers to base schemas");
+    lastSummary = summary;
+    listener.onPipelineCompleted(summary);
 
-        // 6. Validation
-        contractGuard.validate(openApi);
+    log.debug("OpenAPI pipeline completed successfully");
+  }
 
-        log.debug("OpenAPI pipeline completed successfully");
+  /**
+   * Returns the total number of OpenAPI documents processed by this orchestrator.
+   *
+   * @return processed document count
+   */
+  public long getProcessedDocumentCount() {
+    return processed.processedCount();
+  }
+
+  /**
+   * Returns the number of processed OpenAPI documents that are still reachable.
+   *
+   * <p>Documents discarded by Springdoc are released and no longer counted here.
+   *
+   * @return live tracked document count
+   */
+  public int getTrackedDocumentCount() {
+    return processed.trackedCount();
+  }
+
+  /**
+   * Returns the summary of the most recent pipeline execution.
+   *
+   * @return last summary, or {@code null} if the pipeline has not run yet
+   */
+  public PipelineSummary getLastSummary() {
+    return lastSummary;
+  }
+
+  /**
+   * Returns the discovery result, computing it on first access.
+   *
+   * <p>Discovery scans the application context, which does not change between documents, so the
+   * result is shared across all documents produced by this context.
+   *
+   * @return discovery result with an immutable, ordered set of schema reference names
+   */
+  private Discovery discover() {
+    Discovery result = discovery;
+
+    if (result == null) {
+      synchronized (this) {
+        result = discovery;
+
+        if (result == null) {
+          result = computeDiscovery();
+          discovery = result;
+          log.debug(
+              "Discovered {} contract-aware and {} streaming response types from {} handler types",
+              result.refs().size(),
+              result.streamRefs().size(),
+              result.typeCount());
+        }
+      }
     }
 
+    return result;
+  }
+
   /**
-   * Discovers and extracts contract-aware schema reference names.
+   * Discovers response types and extracts contract-aware schema reference names.
    *
    * <p>This method represents the combined discovery + introspection stage.
    *
-   * @return discovered schema reference names derived from contract types
+   * @return discovery result derived from contract types
    */
-  private Set<String> discoverRefs() {
-        Set<String> discoveredRefs = new LinkedHashSet<>();
+  private Discovery computeDiscovery() {
+    Set<ResolvableType> types = timer.call(PipelineStage.DISCOVERY, discoveryStrategy::discover);
+
+    return timer.call(PipelineStage.INTROSPECTION, () -> extractRefs(types));
+  }
 
-        discoveryStrategy
-                .discover()
-                .forEach(type ->
-                        introspector.extractDataRefName(type)
-                                .ifPresent(discoveredRefs::add));
+  /**
+   * Extracts contract-aware and streaming schema reference names from discovered types.
+   *
+   * @param types discovered response types
+   * @return discovery result with ordered sets of schema reference names
+   */
+  private Discovery extractRefs(Set<ResolvableType> types) {
+    Set<String> refs = new LinkedHashSet<>();
+    Set<String> streamRefs = new LinkedHashSet<>();
 
-        return discoveredRefs;
+    for (ResolvableType type : types) {
+      introspector.extractDataRefName(type).ifPresent(refs::add);
+      introspector.extractStreamItemRefName(type).ifPresent(streamRefs::add);
     }
-}
\ No newline at end of file
+
+    return new Discovery(
+        types.size(),
+        Collections.unmodifiableSet(refs),
+        Collections.unmodifiableSet(streamRefs));
+  }
+
+  /**
+   * Restricts discovered refs to those returned by the given document.
+   *
+   * <p>A ref is considered used when a response of the document's own operations references its
+   * Springdoc-generated wrapper schema. This keeps grouped documents free of wrappers for
+   * responses they do not return, even when the DTO itself is part of the group (e.g. as a request
+   * body).
+   *
+   * @param returned schema names referenced by the document's responses
+   * @param refs all discovered refs
+   * @param wrapperPrefix wrapper schema name prefix (e.g. {@code ServiceResponse})
+   * @return ordered subset of refs returned by the document
+   */
+  private Set<String> selectUsedRefs(Set<String> returned, Set<String> refs, String wrapperPrefix) {
+    Set<String> used = new LinkedHashSet<>();
+
+    for (String ref : refs) {
+      if (returned.contains(wrapperPrefix + ref)) {
+        used.add(ref);
+      }
+    }
+
+    return used;
+  }
+
+  /**
+   * Collects the schema names referenced directly by the response bodies of the document's
+   * operations, following {@code #/components/responses} references.
+   *
+   * @param openApi OpenAPI document
+   * @return referenced schema names
+   */
+  private static Set<String> responseSchemaNames(OpenAPI openApi) {
+    Set<String> names = new HashSet<>();
+
+    if (openApi.getPaths() == null) {
+      return names;
+    }
+
+    Map<String, ApiResponse> shared =
+        openApi.getComponents() != null ? openApi.getComponents().getResponses() : null;
+
+    for (PathItem pathItem : openApi.getPaths().values()) {
+      for (Operation operation : pathItem.readOperations()) {
+        if (operation.getResponses() == null) {
+          continue;
+        }
+
+        for (ApiResponse response : operation.getResponses().values()) {
+          ApiResponse resolved = resolve(response, shared);
+
+          if (resolved == null || resolved.getContent() == null) {
+            continue;
+          }
+
+          for (MediaType mediaType : resolved.getContent().values()) {
+            String ref = mediaType.getSchema() != null ? mediaType.getSchema().get$ref() : null;
+
+            if (ref != null && ref.startsWith(SCHEMA_REF_PREFIX)) {
+              names.add(ref.substring(SCHEMA_REF_PREFIX.length()));
+            }
+          }
+        }
+      }
+    }
+
+    return names;
+  }
+
+  private static ApiResponse resolve(ApiResponse response, Map<String, ApiResponse> shared) {
+    String ref = response.get$ref();
+
+    if (ref == null || !ref.startsWith(RESPONSE_REF_PREFIX)) {
+      return response;
+    }
+
+    return shared != null ? shared.get(ref.substring(RESPONSE_REF_PREFIX.length())) : null;
+  }
+
+  /** Result of discovery + introspection, shared across documents. */
+  private record Discovery(int typeCount, Set<String> refs, Set<String> streamRefs) {}
+}
@@ -0,0 +1,80 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import java.util.List;
+
+/**
+ * Observes the execution of the OpenAPI pipeline.
+ *
+ * <p>Listeners receive per-stage measurements and a summary after each processed document. They
+ * are intended for instrumentation (metrics, tracing, diagnostics) and must not modify the
+ * document.
+ *
+ * <h2>Measurements</h2>
+ *
+ * <ul>
+ *   <li>Duration → wall-clock nanoseconds of the stage
+ *   <li>Allocated bytes → heap allocated by the executing thread during the stage, or {@code -1}
+ *       when the JVM does not support per-thread allocation accounting
+ * </ul>
+ *
+ * <p>Allocation is measured on the calling thread only; work delegated to other threads (e.g.
+ * parallel discovery) is not included.
+ *
+ * <h2>Important</h2>
+ *
+ * <ul>
+ *   <li>Callbacks run synchronously on the pipeline thread → keep them cheap
+ *   <li>Exceptions thrown by listeners propagate and fail the pipeline
+ * </ul>
+ */
+public interface PipelineListener {
+
+  /** Listener that ignores all events. */
+  PipelineListener NOOP = new PipelineListener() {};
+
+  /**
+   * Called after a stage has completed.
+   *
+   * @param stage completed stage
+   * @param durationNanos stage duration in nanoseconds
+   * @param allocatedBytes bytes allocated during the stage, or {@code -1} if unavailable
+   */
+  default void onStageCompleted(PipelineStage stage, long durationNanos, long allocatedBytes) {}
+
+  /**
+   * Called after a document has been processed successfully.
+   *
+   * @param summary pipeline summary for the document
+   */
+  default void onPipelineCompleted(PipelineSummary summary) {}
+
+  /**
+   * Combines listeners into one, invoked in the given order.
+   *
+   * @param listeners listeners to combine
+   * @return combined listener ({@link #NOOP} if empty)
+   */
+  static PipelineListener composite(List<? extends PipelineListener> listeners) {
+    if (listeners.isEmpty()) {
+      return NOOP;
+    }
+
+    if (listeners.size() == 1) {
+      return listeners.get(0);
+    }
+
+    List<PipelineListener> delegates = List.copyOf(listeners);
+
+    return new PipelineListener() {
+      @Override
+      public void onStageCompleted(PipelineStage stage, long durationNanos, long allocatedBytes) {
+        delegates.forEach(l -> l.onStageCompleted(stage, durationNanos, allocatedBytes));
+      }
+
+      @Override
+      public void onPipelineCompleted(PipelineSummary summary) {
+        delegates.forEach(l -> l.onPipelineCompleted(summary));
+      }
+    };
+  }
+}
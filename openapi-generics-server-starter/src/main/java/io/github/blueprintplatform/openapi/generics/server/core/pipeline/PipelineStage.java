@@ -0,0 +1,17 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+/**
+ * Stages of the OpenAPI pipeline, in execution order.
+ *
+ * <p>{@link #DISCOVERY} and {@link #INTROSPECTION} run once per application context; all other
+ * stages run once per processed document.
+ */
+public enum PipelineStage {
+  BASE_SCHEMA_REGISTRATION,
+  DISCOVERY,
+  INTROSPECTION,
+  WRAPPER_PROCESSING,
+
+  /** Single pass over component schemas: ignore marking, contract validation, custom visitors. */
+  VALIDATION
+}
@@ -0,0 +1,20 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+/**
+ * Summary of a single pipeline execution.
+ *
+ * <p>Captures how many contract-aware response types were discovered and how the wrapper schemas
+ * of a document were processed.
+ *
+ * @param discoveredTypes handler return types discovered in the application context
+ * @param discoveredRefs refs discovered in the application context
+ * @param usedRefs refs used by the processed document
+ * @param created wrappers newly created
+ * @param replaced existing wrappers rebuilt (normalized)
+ */
+public record PipelineSummary(
+    int discoveredTypes,
+    int discoveredRefs,
+    int usedRefs,
+    int created,
+    int replaced) {}
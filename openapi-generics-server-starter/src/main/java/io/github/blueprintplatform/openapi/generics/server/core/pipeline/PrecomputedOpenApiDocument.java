@@ -0,0 +1,201 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.core.util.Yaml31;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fully enriched OpenAPI document produced ahead of time and served instead of running the
+ * pipeline.
+ *
+ * <p>The snapshot is the output of a previous {@link OpenApiPipelineOrchestrator} run (typically
+ * exported from {@code /v3/api-docs} at build time). Applying it skips discovery, introspection,
+ * wrapper processing and validation entirely. Springdoc still scans the controllers and builds its
+ * own model before the snapshot is applied; only the starter pipeline is skipped.
+ *
+ * <h2>Applied Sections</h2>
+ *
+ * <ul>
+ *   <li>{@code paths}, {@code tags}, {@code webhooks} → taken from the snapshot
+ *   <li>{@code components} → snapshot entries merged into the runtime components (snapshot wins),
+ *       except {@code securitySchemes}, where runtime entries win
+ *   <li>{@code info}, {@code servers}, {@code security} → left as provided at runtime
+ * </ul>
+ *
+ * <h2>Important</h2>
+ *
+ * <ul>
+ *   <li>The snapshot is parsed once and reduced to the applied sections; each application
+ *       materializes a fresh model of those sections only, so that downstream customizers cannot
+ *       mutate shared state
+ *   <li>The snapshot describes ONE document → it cannot be used together with {@code
+ *       GroupedOpenApi} groups, since every group would serve the full API
+ *   <li>The snapshot is trusted as-is → it is NOT re-validated
+ *   <li>It must be regenerated whenever the contract changes
+ * </ul>
+ */
+public final class PrecomputedOpenApiDocument {
+
+  private static final Logger log = LoggerFactory.getLogger(PrecomputedOpenApiDocument.class);
+
+  private static final String OPENAPI_VERSION_FIELD = "openapi";
+  private static final String OPENAPI_31_PREFIX = "3.1";
+
+  /** Top-level fields materialized on each application; everything else is dropped on load. */
+  private static final List<String> APPLIED_FIELDS =
+      List.of(OPENAPI_VERSION_FIELD, "paths", "components", "tags", "webhooks");
+
+  private final String location;
+  private final JsonNode snapshot;
+  private final ObjectMapper mapper;
+
+  private PrecomputedOpenApiDocument(String location, JsonNode snapshot, ObjectMapper mapper) {
+    this.location = location;
+    this.snapshot = snapshot;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Reads a precomputed OpenAPI document (JSON or YAML).
+   *
+   * @param location logical location of the document (used for format detection and diagnostics)
+   * @param content document content
+   * @return precomputed document
+   * @throws IllegalStateException if the document cannot be parsed
+   */
+  public static PrecomputedOpenApiDocument load(String location, InputStream content) {
+    boolean yaml = isYaml(location);
+
+    try {
+      JsonNode snapshot = (yaml ? Yaml.mapper() : Json.mapper()).readTree(content);
+
+      if (snapshot == null || !snapshot.hasNonNull(OPENAPI_VERSION_FIELD)) {
+        throw new IllegalStateException(
+            "Precomputed OpenAPI document is not a valid OpenAPI document: '" + location + "'");
+      }
+
+      boolean openApi31 =
+          snapshot.get(OPENAPI_VERSION_FIELD).asText().startsWith(OPENAPI_31_PREFIX);
+
+      ObjectMapper mapper;
+      if (openApi31) {
+        mapper = yaml ? Yaml31.mapper() : Json31.mapper();
+      } else {
+        mapper = yaml ? Yaml.mapper() : Json.mapper();
+      }
+
+      ObjectNode applied = mapper.createObjectNode();
+      for (String field : APPLIED_FIELDS) {
+        if (snapshot.has(field)) {
+          applied.set(field, snapshot.get(field));
+        }
+      }
+
+      log.debug("Loaded precomputed OpenAPI document from '{}'", location);
+
+      return new PrecomputedOpenApiDocument(location, applied, mapper);
+
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to read precomputed OpenAPI document: '" + location + "'", e);
+    }
+  }
+
+  /**
+   * Applies the precomputed contract sections to the given OpenAPI document.
+   *
+   * @param openApi the OpenAPI document provided by Springdoc
+   */
+  public void applyTo(OpenAPI openApi) {
+    OpenAPI precomputed;
+
+    try {
+      precomputed = mapper.treeToValue(snapshot, OpenAPI.class);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to materialize precomputed OpenAPI document: '" + location + "'", e);
+    }
+
+    openApi.setPaths(precomputed.getPaths());
+    mergeComponents(openApi, precomputed.getComponents());
+    openApi.setTags(precomputed.getTags());
+    openApi.setWebhooks(precomputed.getWebhooks());
+
+    log.debug("Applied precomputed OpenAPI document from '{}' (pipeline skipped)", location);
+  }
+
+  /**
+   * Merges the snapshot components into the runtime components instead of replacing them, so that
+   * runtime-only entries (e.g. security schemes declared on the {@link OpenAPI} bean) survive.
+   */
+  private static void mergeComponents(OpenAPI openApi, Components snapshot) {
+    if (snapshot == null) {
+      return;
+    }
+
+    Components components = openApi.getComponents();
+    if (components == null) {
+      components = new Components();
+      openApi.setComponents(components);
+    }
+
+    components.setSchemas(merge(components.getSchemas(), snapshot.getSchemas()));
+    components.setResponses(merge(components.getResponses(), snapshot.getResponses()));
+    components.setParameters(merge(components.getParameters(), snapshot.getParameters()));
+    components.setExamples(merge(components.getExamples(), snapshot.getExamples()));
+    components.setRequestBodies(merge(components.getRequestBodies(), snapshot.getRequestBodies()));
+    components.setHeaders(merge(components.getHeaders(), snapshot.getHeaders()));
+    components.setLinks(merge(components.getLinks(), snapshot.getLinks()));
+    components.setCallbacks(merge(components.getCallbacks(), snapshot.getCallbacks()));
+    components.setPathItems(merge(components.getPathItems(), snapshot.getPathItems()));
+
+    // security is owned by the runtime bean → snapshot only fills in missing schemes
+    components.setSecuritySchemes(
+        merge(snapshot.getSecuritySchemes(), components.getSecuritySchemes()));
+  }
+
+  /** Returns {@code base} overlaid with {@code overrides}; {@code null} if both are absent. */
+  private static <T> Map<String, T> merge(Map<String, T> base, Map<String, T> overrides) {
+    if (base == null && overrides == null) {
+      return null;
+    }
+
+    Map<String, T> merged = (base != null) ? new LinkedHashMap<>(base) : new LinkedHashMap<>();
+    if (overrides != null) {
+      merged.putAll(overrides);
+    }
+    return merged;
+  }
+
+  /**
+   * Returns the location the document was loaded from.
+   *
+   * @return document location
+   */
+  public String getLocation() {
+    return location;
+  }
+
+  private static boolean isYaml(String location) {
+    if (location == null) {
+      return false;
+    }
+
+    String lower = location.toLowerCase(Locale.ROOT);
+    return lower.endsWith(".yaml") || lower.endsWith(".yml");
+  }
+}
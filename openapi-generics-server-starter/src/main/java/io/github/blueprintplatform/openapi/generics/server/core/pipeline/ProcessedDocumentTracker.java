@@ -0,0 +1,97 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks which OpenAPI documents have already been processed by the pipeline.
+ *
+ * <p>Documents are tracked by <b>identity</b> through weak references:
+ *
+ * <ul>
+ *   <li>Identity → {@link OpenAPI#equals(Object)} is structural and expensive, and must not be used
+ *   <li>Weak → documents discarded by Springdoc (e.g. cache disabled, per-server-URL variants) are
+ *       not pinned in memory by the pipeline
+ * </ul>
+ *
+ * <p>Stale entries are expunged lazily on access. Thread-safe.
+ */
+final class ProcessedDocumentTracker {
+
+  private final Set<IdentityWeakReference> tracked = ConcurrentHashMap.newKeySet();
+  private final ReferenceQueue<OpenAPI> queue = new ReferenceQueue<>();
+  private final LongAdder processedCount = new LongAdder();
+
+  /**
+   * Marks a document as processed.
+   *
+   * @param openApi OpenAPI document
+   * @return {@code true} if the document was not processed before
+   */
+  boolean markProcessed(OpenAPI openApi) {
+    expungeStaleEntries();
+
+    if (!tracked.add(new IdentityWeakReference(openApi, queue))) {
+      return false;
+    }
+
+    processedCount.increment();
+    return true;
+  }
+
+  /**
+   * Returns the total number of documents processed since creation.
+   *
+   * @return processed document count
+   */
+  long processedCount() {
+    return processedCount.sum();
+  }
+
+  /**
+   * Returns the number of processed documents that are still reachable.
+   *
+   * @return live tracked document count
+   */
+  int trackedCount() {
+    expungeStaleEntries();
+    return tracked.size();
+  }
+
+  private void expungeStaleEntries() {
+    Reference<? extends OpenAPI> stale;
+    while ((stale = queue.poll()) != null) {
+      tracked.remove(stale);
+    }
+  }
+
+  /** Weak reference with identity-based equality on the referent. */
+  private static final class IdentityWeakReference extends WeakReference<OpenAPI> {
+
+    private final int hash;
+
+    IdentityWeakReference(OpenAPI referent, ReferenceQueue<OpenAPI> queue) {
+      super(referent, queue);
+      this.hash = System.identityHashCode(referent);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof IdentityWeakReference that) || hash != that.hash) return false;
+
+      OpenAPI referent = get();
+      return referent != null && referent == that.get();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Supplier;
+
+/**
+ * Measures pipeline stages and reports them to a {@link PipelineListener}.
+ *
+ * <p>When the listener is {@link PipelineListener#NOOP}, stages are executed directly without
+ * taking any measurement.
+ */
+final class StageTimer {
+
+  private static final long UNAVAILABLE = -1L;
+
+  private final PipelineListener listener;
+  private final com.sun.management.ThreadMXBean allocationBean;
+
+  StageTimer(PipelineListener listener) {
+    this.listener = listener;
+    this.allocationBean = listener != PipelineListener.NOOP ? allocationBean() : null;
+  }
+
+  /**
+   * Executes and measures a stage.
+   *
+   * @param stage pipeline stage
+   * @param action stage action
+   */
+  void run(PipelineStage stage, Runnable action) {
+    call(
+        stage,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /**
+   * Executes and measures a stage producing a result.
+   *
+   * @param stage pipeline stage
+   * @param action stage action
+   * @param <T> result type
+   * @return stage result
+   */
+  <T> T call(PipelineStage stage, Supplier<T> action) {
+    if (listener == PipelineListener.NOOP) {
+      return action.get();
+    }
+
+    long allocatedBefore = allocatedBytes();
+    long start = System.nanoTime();
+
+    T result = action.get();
+
+    long duration = System.nanoTime() - start;
+    long allocatedAfter = allocatedBytes();
+
+    long allocated =
+        (allocatedBefore == UNAVAILABLE || allocatedAfter == UNAVAILABLE)
+            ? UNAVAILABLE
+            : allocatedAfter - allocatedBefore;
+
+    listener.onStageCompleted(stage, duration, allocated);
+    return result;
+  }
+
+  private long allocatedBytes() {
+    return allocationBean != null ? allocationBean.getCurrentThreadAllocatedBytes() : UNAVAILABLE;
+  }
+
+  private static com.sun.management.ThreadMXBean allocationBean() {
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+    if (bean instanceof com.sun.management.ThreadMXBean sunBean
+        && sunBean.isThreadAllocatedMemorySupported()
+        && sunBean.isThreadAllocatedMemoryEnabled()) {
+      return sunBean;
+    }
+
+    return null;
+  }
+}
@@ -3,6 +3,7 @@ package io.github.blueprintplatform.openapi.generics.server.core.schema;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.PropertyNames;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SchemaNames;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions;
+import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -42,11 +43,27 @@ import java.util.List;
  *           $ref: "#/components/schemas/CustomerDto"
  * </pre>
  *
+ * <p>Streaming wrappers ({@code StreamingServiceResponse<T>}) are plain objects describing the
+ * logical envelope; on the wire, items are streamed one per line after {@code meta}:
+ *
+ * <pre>
+ * StreamingServiceResponseCustomerDto:
+ *   type: object
+ *   properties:
+ *     meta:
+ *       $ref: "#/components/schemas/Meta"
+ *     items:
+ *       type: array
+ *       items:
+ *         $ref: "#/components/schemas/CustomerDto"
+ * </pre>
+ *
  * <h2>Vendor Extensions</h2>
  *
  * <ul>
  *   <li>{@code x-api-wrapper} → marks schema as wrapper</li>
- *   <li>{@code x-api-wrapper-datatype} → underlying data type</li>
+ *   <li>{@code x-api-stream} → marks wrapper as streaming envelope</li>
+ *   <li>{@code x-api-wrapper-datatype} → underlying data type (item type for streams)</li>
  *   <li>{@code x-class-extra-annotation} → optional generator hint</li>
  * </ul>
  *
@@ -58,6 +75,17 @@ import java.util.List;
  *   <li>It assumes full ownership of wrapper schema structure</li>
  * </ul>
  *
+ * <h2>Shared Instances</h2>
+ *
+ * <ul>
+ *   <li>The {@code $ref} to the canonical {@code ServiceResponse} may be shared by all wrappers of
+ *       one document (see {@link #serviceResponseRef()}) → it must then be treated as
+ *       <b>read-only</b></li>
+ *   <li>Nothing is shared across documents, and nothing is retained by this factory</li>
+ *   <li>Wrapper-specific parts (composed schema, {@code data} holder, extensions) are always created
+ *       per wrapper</li>
+ * </ul>
+ *
  * <h2>Architectural Note</h2>
  *
  * <p>This factory operates under a strict rule:
@@ -80,6 +108,18 @@ public final class ServiceResponseSchemaFactory {
 
   private ServiceResponseSchemaFactory() {}
 
+  /**
+   * Creates a {@code $ref} sub-schema pointing to the canonical {@code ServiceResponse}.
+   *
+   * <p>The returned instance may be passed to {@link #createComposedWrapper(String, String,
+   * Schema)} for every wrapper of a single document.
+   *
+   * @return new reference schema
+   */
+  public static Schema<?> serviceResponseRef() {
+    return new Schema<>().$ref(buildRef(SchemaNames.SERVICE_RESPONSE));
+  }
+
   /**
    * Creates a wrapper schema without additional class annotations.
    *
@@ -106,6 +146,21 @@ public final class ServiceResponseSchemaFactory {
    * @return composed OpenAPI schema
    */
   public static Schema<?> createComposedWrapper(String dataRefName, String classExtraAnnotation) {
+    return createComposedWrapper(dataRefName, classExtraAnnotation, serviceResponseRef());
+  }
+
+  /**
+   * Creates a composed OpenAPI schema representing {@code ServiceResponse<T>}, reusing the given
+   * base reference.
+   *
+   * @param dataRefName name of the concrete data schema (must exist in components)
+   * @param classExtraAnnotation optional annotation hint for generated clients
+   * @param serviceResponseRef {@code $ref} sub-schema from {@link #serviceResponseRef()}, shared
+   *     read-only within one document
+   * @return composed OpenAPI schema
+   */
+  public static Schema<?> createComposedWrapper(
+      String dataRefName, String classExtraAnnotation, Schema<?> serviceResponseRef) {
 
     String dataRef = buildRef(dataRefName);
 
@@ -113,7 +168,7 @@ public final class ServiceResponseSchemaFactory {
 
     schema.setAllOf(
             List.of(
-                    new Schema<>().$ref(buildRef(SchemaNames.SERVICE_RESPONSE)),
+                    serviceResponseRef,
                     new ObjectSchema()
                             .addProperty(PropertyNames.DATA, new Schema<>().$ref(dataRef))
             )
@@ -130,6 +185,33 @@ public final class ServiceResponseSchemaFactory {
     return schema;
   }
 
+  /**
+   * Creates an OpenAPI schema representing {@code StreamingServiceResponse<T>}.
+   *
+   * @param itemRefName name of the concrete item schema (must exist in components)
+   * @param classExtraAnnotation optional annotation hint for generated clients
+   * @return streaming wrapper schema
+   */
+  public static Schema<?> createStreamingWrapper(String itemRefName, String classExtraAnnotation) {
+
+    var schema =
+        new ObjectSchema()
+            .addProperty(PropertyNames.META, new Schema<>().$ref(buildRef(SchemaNames.META)))
+            .addProperty(
+                PropertyNames.ITEMS,
+                new ArraySchema().items(new Schema<>().$ref(buildRef(itemRefName))));
+
+    schema.addExtension(VendorExtensions.API_WRAPPER, Boolean.TRUE);
+    schema.addExtension(VendorExtensions.API_STREAM, Boolean.TRUE);
+    schema.addExtension(VendorExtensions.API_WRAPPER_DATATYPE, itemRefName);
+
+    if (hasText(classExtraAnnotation)) {
+      schema.addExtension(VendorExtensions.CLASS_EXTRA_ANNOTATION, classExtraAnnotation);
+    }
+
+    return schema;
+  }
+
   /**
    * Builds a safe OpenAPI {@code $ref} string.
    *
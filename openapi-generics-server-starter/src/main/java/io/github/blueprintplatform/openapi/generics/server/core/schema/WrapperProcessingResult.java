@@ -0,0 +1,14 @@
+package io.github.blueprintplatform.openapi.generics.server.core.schema;
+
+/**
+ * Outcome of processing a single wrapper schema.
+ *
+ * <ul>
+ *   <li>{@link #CREATED} → wrapper did not exist and was created
+ *   <li>{@link #REPLACED} → existing wrapper was rebuilt (normalized)
+ * </ul>
+ */
+public enum WrapperProcessingResult {
+  CREATED,
+  REPLACED
+}
@@ -1,6 +1,6 @@
 package io.github.blueprintplatform.openapi.generics.server.core.schema;
 
-import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SupportedContainers;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.*;
@@ -19,14 +19,16 @@ import java.util.Set;
  *
  * <ul>
  *   <li>{@code x-data-container} → container type (e.g. "Page")
+ *   <li>{@code x-data-container-type} → fully qualified container class (used for client imports)
  *   <li>{@code x-data-item} → inner item type (e.g. "CustomerDto")
  * </ul>
  *
  * <p><b>Extensibility:</b>
  *
  * <ul>
- *   <li>Supported container types are configurable via {@code supportedContainers}
- *   <li>Defaults to {@code Page}
+ *   <li>Supported container types are configurable via {@code supportedContainers} (fully
+ *       qualified class names; simple names of the default containers are still accepted)
+ *   <li>Defaults to {@code Page} and {@code CursorPage}
  *   <li>New containers (e.g. Slice, Window, Chunk) can be added without modifying logic
  * </ul>
  *
@@ -50,27 +52,38 @@ import java.util.Set;
  */
 public class WrapperSchemaEnricher {
 
-  private static final String DEFAULT_CONTAINER = Page.class.getSimpleName();
   private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
   private static final String CONTENT = "content";
 
-  private final Set<String> supportedContainers;
+  private final SupportedContainers supportedContainers;
 
-  /** Creates enricher with default container support ({@code Page}). */
+  /** Creates enricher with default container support ({@code Page}, {@code CursorPage}). */
   public WrapperSchemaEnricher() {
-    this(Set.of(DEFAULT_CONTAINER));
+    this(SupportedContainers.DEFAULT);
   }
 
   /**
    * Creates enricher with custom container support.
    *
-   * @param supportedContainers set of container type prefixes (e.g. "Page", "Slice")
+   * <p>Earlier releases took schema name prefixes (e.g. {@code "Page"}). Those are still accepted
+   * for the default containers and resolved with a deprecation warning, see {@link
+   * SupportedContainers#of(java.util.Collection)}.
+   *
+   * @param supportedContainers fully qualified container class names (e.g. "com.acme.Slice")
+   * @throws IllegalStateException if a simple name does not denote a default container
    */
   public WrapperSchemaEnricher(Set<String> supportedContainers) {
+    this(SupportedContainers.of(supportedContainers));
+  }
+
+  /**
+   * Creates enricher with custom container support.
+   *
+   * @param supportedContainers supported container types
+   */
+  public WrapperSchemaEnricher(SupportedContainers supportedContainers) {
     this.supportedContainers =
-        (supportedContainers == null || supportedContainers.isEmpty())
-            ? Set.of(DEFAULT_CONTAINER)
-            : Set.copyOf(supportedContainers);
+        supportedContainers != null ? supportedContainers : SupportedContainers.DEFAULT;
   }
 
   /**
@@ -83,47 +96,80 @@ public class WrapperSchemaEnricher {
    */
   public void enrich(OpenAPI openApi, String wrapperName, String dataRefName) {
 
-    if (openApi == null || dataRefName == null || wrapperName == null) {
+    if (wrapperName == null) {
+      return;
+    }
+
+    ContainerMetadata metadata = resolveContainer(openApi, dataRefName);
+    if (metadata == null) {
       return;
     }
 
+    Schema<?> wrapper = openApi.getComponents().getSchemas().get(wrapperName);
+    if (wrapper == null) {
+      return;
+    }
+
+    wrapper.addExtension(VendorExtensions.DATA_CONTAINER, metadata.container());
+    wrapper.addExtension(VendorExtensions.DATA_CONTAINER_TYPE, metadata.containerType());
+    wrapper.addExtension(VendorExtensions.DATA_ITEM, metadata.item());
+  }
+
+  /**
+   * Resolves container metadata for the given data schema without modifying the document.
+   *
+   * <p>This is the read-only half of {@link #enrich(OpenAPI, String, String)} and allows callers to
+   * determine the expected enrichment of a wrapper up front.
+   *
+   * @param openApi OpenAPI document
+   * @param dataRefName underlying data schema name (e.g. {@code PageCustomerDto})
+   * @return container metadata, or {@code null} if the data type is not a supported container
+   */
+  public ContainerMetadata resolveContainer(OpenAPI openApi, String dataRefName) {
+
+    if (openApi == null || dataRefName == null) {
+      return null;
+    }
+
     Map<String, Schema> schemas =
         openApi.getComponents() != null ? openApi.getComponents().getSchemas() : null;
 
     if (schemas == null || schemas.isEmpty()) {
-      return;
+      return null;
     }
 
     String container = matchContainer(dataRefName);
     if (container == null) {
-      return;
+      return null;
     }
 
-    if (!schemas.containsKey(dataRefName) || !schemas.containsKey(wrapperName)) {
-      return;
+    Schema<?> raw = schemas.get(dataRefName);
+    if (raw == null) {
+      return null;
     }
 
-    Schema<?> raw = schemas.get(dataRefName);
     Schema<?> containerSchema = resolveObjectLikeSchema(schemas, raw, new LinkedHashSet<>());
-
     if (containerSchema == null) {
-      return;
+      return null;
     }
 
     String itemName = extractItemNameFromSchema(containerSchema);
     if (itemName == null) {
-      return;
-    }
-
-    Schema<?> wrapper = schemas.get(wrapperName);
-    if (wrapper == null) {
-      return;
+      return null;
     }
 
-    wrapper.addExtension(VendorExtensions.DATA_CONTAINER, container);
-    wrapper.addExtension(VendorExtensions.DATA_ITEM, itemName);
+    return new ContainerMetadata(container, supportedContainers.typeName(container), itemName);
   }
 
+  /**
+   * Container semantics of a wrapper's data type.
+   *
+   * @param container container type name (e.g. {@code Page})
+   * @param containerType fully qualified container class name
+   * @param item item schema name (e.g. {@code CustomerDto})
+   */
+  public record ContainerMetadata(String container, String containerType, String item) {}
+
   /**
    * Matches container prefix from configured container set.
    *
@@ -141,7 +187,7 @@ public class WrapperSchemaEnricher {
    * </pre>
    */
   private String matchContainer(String dataRefName) {
-    for (String container : supportedContainers) {
+    for (String container : supportedContainers.simpleNames()) {
       if (isStrictContainerMatch(dataRefName, container)) {
         return container;
       }
@@ -19,6 +19,7 @@ import org.slf4j.LoggerFactory;
  *   <li><b>Authoritative creation</b> → always rebuilds wrapper schema from contract</li>
  *   <li><b>Normalization</b> → replaces any existing schema with contract-compliant version</li>
  *   <li><b>Enrichment</b> → applies container metadata (e.g. {@code Page<T>})</li>
+ *   <li><b>Streaming</b> → creates {@code StreamingServiceResponse<T>} wrappers</li>
  * </ul>
  *
  * <h2>Pipeline Role</h2>
@@ -35,6 +36,12 @@ import org.slf4j.LoggerFactory;
  *   <li><b>Authoritative overwrite</b> → existing schemas are replaced</li>
  * </ul>
  *
+ * <h2>Shared Base Reference</h2>
+ *
+ * <p>By default, all wrappers of one document share a single read-only {@code $ref} sub-schema
+ * pointing to {@code ServiceResponse} (see {@link #forDocument(OpenAPI)}). The instance is never
+ * shared across documents; when sharing is disabled, every wrapper gets its own.
+ *
  * <h2>Important</h2>
  *
  * <ul>
@@ -49,12 +56,42 @@ public class WrapperSchemaProcessor {
 
     private final WrapperSchemaEnricher enricher;
     private final String classExtraAnnotation;
+    private final boolean shareBaseRef;
 
     public WrapperSchemaProcessor(
             WrapperSchemaEnricher enricher,
             String classExtraAnnotation) {
+        this(enricher, classExtraAnnotation, true);
+    }
+
+    /**
+     * Creates the processor with a configurable per-document shared base reference.
+     *
+     * @param enricher             container metadata enricher
+     * @param classExtraAnnotation optional annotation hint for generated clients
+     * @param shareBaseRef         whether wrappers of one document share the base {@code $ref}
+     */
+    public WrapperSchemaProcessor(
+            WrapperSchemaEnricher enricher,
+            String classExtraAnnotation,
+            boolean shareBaseRef) {
         this.enricher = enricher;
         this.classExtraAnnotation = classExtraAnnotation;
+        this.shareBaseRef = shareBaseRef;
+    }
+
+    /**
+     * Starts processing of a single document.
+     *
+     * <p>All wrappers processed through the returned scope share the document's base {@code $ref}
+     * (when sharing is enabled). The scope must not outlive the processing of that document.
+     *
+     * @param openApi OpenAPI document
+     * @return document-scoped processor
+     */
+    public DocumentScope forDocument(OpenAPI openApi) {
+        return new DocumentScope(
+                openApi, shareBaseRef ? ServiceResponseSchemaFactory.serviceResponseRef() : null);
     }
 
     /**
@@ -70,19 +107,23 @@ public class WrapperSchemaProcessor {
      *
      * @param openApi OpenAPI document
      * @param ref     referenced schema name (e.g. {@code CustomerDto})
+     * @return processing outcome
      */
-    public void process(OpenAPI openApi, String ref) {
+    public WrapperProcessingResult process(OpenAPI openApi, String ref) {
+        return forDocument(openApi).process(ref);
+    }
+
+    private WrapperProcessingResult process(OpenAPI openApi, String ref, Schema<?> baseRef) {
 
         Map<String, Schema> schemas = openApi.getComponents().getSchemas();
 
         String wrapperName = SchemaNames.SERVICE_RESPONSE + ref;
 
-        boolean exists = schemas.containsKey(wrapperName);
-
         Schema<?> wrapper =
-                ServiceResponseSchemaFactory.createComposedWrapper(ref, classExtraAnnotation);
+                ServiceResponseSchemaFactory.createComposedWrapper(
+                        ref, classExtraAnnotation, baseRef);
 
-        schemas.put(wrapperName, wrapper);
+        boolean exists = schemas.put(wrapperName, wrapper) != null;
 
         if (exists) {
             log.debug("Wrapper schema '{}' replaced (normalized)", wrapperName);
@@ -92,5 +133,71 @@ public class WrapperSchemaProcessor {
 
         // Enrich (e.g. Page<T>, metadata)
         enricher.enrich(openApi, wrapperName, ref);
+
+        return exists ? WrapperProcessingResult.REPLACED : WrapperProcessingResult.CREATED;
+    }
+
+    /**
+     * Processes a streaming wrapper schema ({@code StreamingServiceResponse<T>}) for the given item.
+     *
+     * <p>Streaming wrappers are always rebuilt authoritatively; they carry no container metadata.
+     *
+     * @param openApi OpenAPI document
+     * @param itemRef referenced item schema name (e.g. {@code CustomerDto})
+     * @return processing outcome
+     */
+    public WrapperProcessingResult processStreaming(OpenAPI openApi, String itemRef) {
+
+        Map<String, Schema> schemas = openApi.getComponents().getSchemas();
+
+        String wrapperName = SchemaNames.STREAMING_SERVICE_RESPONSE + itemRef;
+
+        Schema<?> wrapper =
+                ServiceResponseSchemaFactory.createStreamingWrapper(itemRef, classExtraAnnotation);
+
+        boolean exists = schemas.put(wrapperName, wrapper) != null;
+
+        log.debug("Streaming wrapper schema '{}' {}", wrapperName, exists ? "replaced" : "created");
+
+        return exists ? WrapperProcessingResult.REPLACED : WrapperProcessingResult.CREATED;
+    }
+
+    /** Processor bound to a single document; shares its base {@code $ref} across wrappers. */
+    public final class DocumentScope {
+
+        private final OpenAPI openApi;
+        private final Schema<?> sharedBaseRef;
+
+        private DocumentScope(OpenAPI openApi, Schema<?> sharedBaseRef) {
+            this.openApi = openApi;
+            this.sharedBaseRef = sharedBaseRef;
+        }
+
+        /**
+         * Processes a wrapper schema of this document.
+         *
+         * @param ref referenced schema name (e.g. {@code CustomerDto})
+         * @return processing outcome
+         * @see WrapperSchemaProcessor#process(OpenAPI, String)
+         */
+        public WrapperProcessingResult process(String ref) {
+            Schema<?> baseRef =
+                    sharedBaseRef != null
+                            ? sharedBaseRef
+                            : ServiceResponseSchemaFactory.serviceResponseRef();
+
+            return WrapperSchemaProcessor.this.process(openApi, ref, baseRef);
+        }
+
+        /**
+         * Processes a streaming wrapper schema of this document.
+         *
+         * @param itemRef referenced item schema name (e.g. {@code CustomerDto})
+         * @return processing outcome
+         * @see WrapperSchemaProcessor#processStreaming(OpenAPI, String)
+         */
+        public WrapperProcessingResult processStreaming(String itemRef) {
+            return WrapperSchemaProcessor.this.processStreaming(openApi, itemRef);
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,8 +2,11 @@ package io.github.blueprintplatform.openapi.generics.server.core.schema.base;
 
 import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SchemaNames;
 import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions;
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaGraphTraversal;
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaVisitor;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,7 +18,7 @@ import java.util.Map;
  *
  * <ul>
  *   <li>Canonical base schemas (ServiceResponse, Meta, etc.)</li>
- *   <li>Derived container schemas (e.g. PageCustomerDto)</li>
+ *   <li>Derived container schemas (e.g. PageCustomerDto, CursorPageCustomerDto)</li>
  * </ul>
  *
  * <h2>Key Behavior</h2>
@@ -35,20 +38,34 @@ import java.util.Map;
  * </pre>
  *
  * <p>And marks THAT schema with {@code x-ignore-model}.
+ *
+ * <h2>Traversal</h2>
+ *
+ * <p>Marking is exposed as a {@link SchemaVisitor} ({@link #visitor()}). Canonical base schemas
+ * are marked before traversal; every other schema is marked while it is visited itself, by looking
+ * up its wrapper ({@code PageCustomerDto} → {@code ServiceResponsePageCustomerDto}). Marking never
+ * touches a schema other than the visited one, so visitors registered after the marker in the same
+ * traversal always see final markers. {@link #mark(OpenAPI)} runs the visitor on its own.
  */
 public class SchemaGenerationControlMarker {
 
+    private final SchemaVisitor visitor = new MarkingVisitor();
+
     public void mark(OpenAPI openApi) {
-        if (openApi == null
-                || openApi.getComponents() == null
-                || openApi.getComponents().getSchemas() == null) {
+        if (openApi == null) {
             return;
         }
 
-        Map<String, Schema> schemas = openApi.getComponents().getSchemas();
+        new SchemaGraphTraversal(List.of(visitor)).traverse(openApi);
+    }
 
-        markCanonicalBaseSchemas(schemas);
-        markDerivedContainerSchemas(schemas);
+    /**
+     * Returns the marking logic as a schema visitor.
+     *
+     * @return marking visitor
+     */
+    public SchemaVisitor visitor() {
+        return visitor;
     }
 
     // -------------------------------------------------------------------------
@@ -63,35 +80,37 @@ public class SchemaGenerationControlMarker {
     }
 
     // -------------------------------------------------------------------------
-    // Derived container schemas (Page<T>)
+    // Derived container schemas (Page<T>, CursorPage<T>)
     // -------------------------------------------------------------------------
 
-    private void markDerivedContainerSchemas(Map<String, Schema> schemas) {
-
-        for (Schema schema : schemas.values()) {
-
-            Map<String, Object> ext = schema.getExtensions();
-            if (ext == null) {
-                continue;
-            }
-
-            Object container = ext.get(VendorExtensions.DATA_CONTAINER);
-            Object item = ext.get(VendorExtensions.DATA_ITEM);
+    /**
+     * Marks the visited schema if it is the container schema of its own wrapper.
+     *
+     * @param name    visited schema name (e.g. {@code PageCustomerDto})
+     * @param schema  visited schema
+     * @param schemas all component schemas
+     */
+    private void markDerivedContainerSchema(
+            String name, Schema<?> schema, Map<String, Schema> schemas) {
+
+        Schema<?> wrapper = schemas.get(SchemaNames.SERVICE_RESPONSE + name);
+        if (wrapper == null || wrapper.getExtensions() == null) {
+            return;
+        }
 
-            if (container == null || item == null) {
-                continue;
-            }
+        Map<String, Object> ext = wrapper.getExtensions();
 
-            String containerName = String.valueOf(container);
-            String itemName = String.valueOf(item);
+        Object container = ext.get(VendorExtensions.DATA_CONTAINER);
+        Object item = ext.get(VendorExtensions.DATA_ITEM);
 
-            String derivedSchemaName = containerName + itemName;
+        if (container == null || item == null) {
+            return;
+        }
 
-            Schema derivedSchema = schemas.get(derivedSchemaName);
+        String derivedSchemaName = String.valueOf(container) + item;
 
-            if (derivedSchema != null) {
-                derivedSchema.addExtension(VendorExtensions.IGNORE_MODEL, true);
-            }
+        if (derivedSchemaName.equals(name)) {
+            schema.addExtension(VendorExtensions.IGNORE_MODEL, true);
         }
     }
 
@@ -105,4 +124,20 @@ public class SchemaGenerationControlMarker {
             schema.addExtension(VendorExtensions.IGNORE_MODEL, true);
         }
     }
-}
\ No newline at end of file
+
+    /** Canonical schemas up front, derived containers when they are visited themselves. */
+    private final class MarkingVisitor implements SchemaVisitor {
+
+        @Override
+        public void beforeTraversal(OpenAPI openApi) {
+            if (openApi.getComponents() != null && openApi.getComponents().getSchemas() != null) {
+                markCanonicalBaseSchemas(openApi.getComponents().getSchemas());
+            }
+        }
+
+        @Override
+        public void visit(String name, Schema<?> schema, Map<String, Schema> schemas) {
+            markDerivedContainerSchema(name, schema, schemas);
+        }
+    }
+}
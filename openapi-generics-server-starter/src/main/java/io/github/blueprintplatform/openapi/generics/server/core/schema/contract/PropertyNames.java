@@ -27,5 +27,8 @@ public final class PropertyNames {
   /** JSON field for response metadata */
   public static final String META = "meta";
 
+  /** Logical field for streamed items ({@code StreamingServiceResponse<T>}) */
+  public static final String ITEMS = "items";
+
   private PropertyNames() {}
 }
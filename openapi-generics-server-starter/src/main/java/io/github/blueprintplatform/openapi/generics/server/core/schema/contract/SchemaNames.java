@@ -2,6 +2,9 @@ package io.github.blueprintplatform.openapi.generics.server.core.schema.contract
 
 import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
 import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Sort;
 
 /**
@@ -59,6 +62,14 @@ public final class SchemaNames {
    */
   public static final String SERVICE_RESPONSE_VOID = SERVICE_RESPONSE + "Void";
 
+  /**
+   * Name prefix of streaming wrapper schemas (e.g. {@code StreamingServiceResponseCustomerDto}).
+   *
+   * <p>Derived from {@link StreamingServiceResponse}.
+   */
+  public static final String STREAMING_SERVICE_RESPONSE =
+      StreamingServiceResponse.class.getSimpleName();
+
   /**
    * Schema name for response metadata.
    *
@@ -73,5 +84,19 @@ public final class SchemaNames {
    */
   public static final String SORT = Sort.class.getSimpleName();
 
+  /**
+   * Container name for offset-based pagination.
+   *
+   * <p>Derived from {@link Page}.
+   */
+  public static final String PAGE = Page.class.getSimpleName();
+
+  /**
+   * Container name for cursor-based pagination.
+   *
+   * <p>Derived from {@link CursorPage}.
+   */
+  public static final String CURSOR_PAGE = CursorPage.class.getSimpleName();
+
   private SchemaNames() {}
 }
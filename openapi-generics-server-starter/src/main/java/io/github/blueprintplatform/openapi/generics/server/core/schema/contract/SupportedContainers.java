@@ -0,0 +1,171 @@
+package io.github.blueprintplatform.openapi.generics.server.core.schema.contract;
+
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Container types recognized in {@code ServiceResponse<C<T>>} shapes, identified by fully qualified
+ * class name.
+ *
+ * <p>Containers are configured by fully qualified name so that unrelated classes sharing a simple
+ * name (e.g. Spring Data's {@code org.springframework.data.domain.Page}) are never treated as
+ * contract containers.
+ *
+ * <h2>Naming</h2>
+ *
+ * <ul>
+ *   <li>Runtime types → matched by {@link Class#getName()}
+ *   <li>Schema names → derived from the simple name (e.g. {@code PageCustomerDto})
+ *   <li>Generated clients → import the fully qualified name ({@code x-data-container-type})
+ * </ul>
+ *
+ * <p>Since schema names only carry the simple name, two configured containers must not share one.
+ *
+ * <h2>Compatibility</h2>
+ *
+ * <p>Earlier releases configured containers by schema name prefix (e.g. {@code Page}). The simple
+ * names of the {@link #DEFAULT} containers are still accepted by {@link #of(Collection)} and
+ * resolved to their contract types with a deprecation warning; other simple names are rejected,
+ * since their class cannot be known.
+ */
+public final class SupportedContainers {
+
+  private static final Logger log = LoggerFactory.getLogger(SupportedContainers.class);
+
+  /** Containers supported out of the box: {@code Page} and {@code CursorPage}. */
+  public static final SupportedContainers DEFAULT =
+      new SupportedContainers(List.of(Page.class.getName(), CursorPage.class.getName()));
+
+  private final Map<String, String> typesBySimpleName;
+  private final Set<String> typeNames;
+
+  private SupportedContainers(Collection<String> typeNames) {
+    Map<String, String> bySimpleName = new LinkedHashMap<>();
+
+    for (String typeName : typeNames) {
+      String name = typeName != null ? typeName.trim() : "";
+
+      if (name.lastIndexOf('.') <= 0 || name.endsWith(".")) {
+        throw new IllegalStateException(
+            "Container type must be a fully qualified class name: '" + typeName + "'");
+      }
+
+      String previous = bySimpleName.putIfAbsent(simpleName(name), name);
+      if (previous != null && !previous.equals(name)) {
+        throw new IllegalStateException(
+            "Container types '"
+                + previous
+                + "' and '"
+                + name
+                + "' share the schema name prefix '"
+                + simpleName(name)
+                + "'");
+      }
+    }
+
+    this.typesBySimpleName = Map.copyOf(bySimpleName);
+    this.typeNames = Set.copyOf(bySimpleName.values());
+  }
+
+  /**
+   * Creates a container set from fully qualified class names.
+   *
+   * <p>Blank entries are ignored (e.g. an empty configuration property). Simple names of the
+   * default containers ({@code Page}, {@code CursorPage}) are resolved to the contract types and
+   * logged as deprecated.
+   *
+   * @param typeNames fully qualified container class names ({@code null} or empty → {@link
+   *     #DEFAULT})
+   * @return container set
+   * @throws IllegalStateException if a simple name does not denote a default container, or two
+   *     names share a simple name
+   */
+  public static SupportedContainers of(Collection<String> typeNames) {
+    Set<String> qualified = qualify(typeNames);
+    return qualified.isEmpty() ? DEFAULT : new SupportedContainers(qualified);
+  }
+
+  /**
+   * Checks whether the given raw type is a supported container.
+   *
+   * @param raw raw class
+   * @return {@code true} for configured single-type-parameter classes
+   */
+  public boolean matches(Class<?> raw) {
+    return raw.getTypeParameters().length == 1 && typeNames.contains(raw.getName());
+  }
+
+  /**
+   * Returns the simple names used as schema name prefixes (e.g. {@code Page}).
+   *
+   * @return simple names
+   */
+  public Set<String> simpleNames() {
+    return typesBySimpleName.keySet();
+  }
+
+  /**
+   * Resolves the fully qualified class name of a container.
+   *
+   * @param simpleName schema name prefix (e.g. {@code Page})
+   * @return fully qualified class name, or {@code null} if not configured
+   */
+  public String typeName(String simpleName) {
+    return typesBySimpleName.get(simpleName);
+  }
+
+  /** Drops blank entries and resolves simple names of default containers. */
+  private static Set<String> qualify(Collection<String> typeNames) {
+    Set<String> qualified = new LinkedHashSet<>();
+
+    if (typeNames == null) {
+      return qualified;
+    }
+
+    for (String typeName : typeNames) {
+      String name = typeName != null ? typeName.trim() : "";
+
+      if (name.isEmpty()) {
+        continue;
+      }
+
+      if (name.indexOf('.') < 0) {
+        String defaultType = DEFAULT.typeName(name);
+
+        if (defaultType == null) {
+          throw new IllegalStateException(
+              "Container type must be a fully qualified class name: '"
+                  + typeName
+                  + "' (only "
+                  + String.join(", ", new TreeSet<>(DEFAULT.simpleNames()))
+                  + " may be given by simple name)");
+        }
+
+        log.warn(
+            "Container '{}' given by simple name is deprecated; use '{}' instead",
+            name,
+            defaultType);
+        name = defaultType;
+      }
+
+      qualified.add(name);
+    }
+
+    return qualified;
+  }
+
+  /** Simple name of a binary class name, e.g. {@code a.b.Outer$Slice} → {@code Slice}. */
+  private static String simpleName(String typeName) {
+    String name = typeName.substring(typeName.lastIndexOf('.') + 1);
+    return name.substring(name.lastIndexOf('$') + 1);
+  }
+}
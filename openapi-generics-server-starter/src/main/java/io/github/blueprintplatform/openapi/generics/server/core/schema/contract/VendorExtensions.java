@@ -9,6 +9,7 @@ package io.github.blueprintplatform.openapi.generics.server.core.schema.contract
  * <ul>
  *   <li>{@code ServiceResponse<T>} (wrapper semantics)
  *   <li>{@code Page<T>} (container semantics)
+ *   <li>{@code StreamingServiceResponse<T>} (streaming semantics)
  * </ul>
  *
  * <h2>Structural model</h2>
@@ -49,7 +50,13 @@ package io.github.blueprintplatform.openapi.generics.server.core.schema.contract
  *   x-api-wrapper: true
  *   x-api-wrapper-datatype: PageCustomerDto
  *   x-data-container: Page
+ *   x-data-container-type: io.github.blueprintplatform.openapi.generics.contract.paging.Page
  *   x-data-item: CustomerDto
+ *
+ * StreamingServiceResponseCustomerDto:
+ *   x-api-wrapper: true
+ *   x-api-stream: true
+ *   x-api-wrapper-datatype: CustomerDto
  * </pre>
  *
  * <h2>Generation control</h2>
@@ -79,6 +86,13 @@ public final class VendorExtensions {
   /** Carries the underlying data type of the wrapper. */
   public static final String API_WRAPPER_DATATYPE = "x-api-wrapper-datatype";
 
+  /**
+   * Marks a wrapper as a streaming envelope ({@code StreamingServiceResponse<T>}).
+   *
+   * <p>For streaming wrappers, {@link #API_WRAPPER_DATATYPE} carries the item type.
+   */
+  public static final String API_STREAM = "x-api-stream";
+
   /** Optional extension to inject additional annotations into generated models. */
   public static final String CLASS_EXTRA_ANNOTATION = "x-class-extra-annotation";
 
@@ -89,6 +103,13 @@ public final class VendorExtensions {
   /** Indicates the container type of the response payload. */
   public static final String DATA_CONTAINER = "x-data-container";
 
+  /**
+   * Carries the fully qualified class name of the container type.
+   *
+   * <p>Allows generated clients to import containers outside the contract package.
+   */
+  public static final String DATA_CONTAINER_TYPE = "x-data-container-type";
+
   /** Indicates the item type contained within the container. */
   public static final String DATA_ITEM = "x-data-item";
 
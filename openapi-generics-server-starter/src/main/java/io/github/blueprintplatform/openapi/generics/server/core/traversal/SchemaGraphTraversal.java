@@ -0,0 +1,68 @@
+package io.github.blueprintplatform.openapi.generics.server.core.traversal;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass traversal engine over {@code components.schemas}.
+ *
+ * <p>Instead of each stage iterating all schemas on its own, stages register as {@link
+ * SchemaVisitor}s and share one pass over the schema map.
+ *
+ * <h2>Ordering</h2>
+ *
+ * <ul>
+ *   <li>Visitors are invoked in registration order for every callback
+ *   <li>For each schema, all visitors see it before the next schema is visited
+ *   <li>Registration order only orders work on the <b>visited</b> schema; a visitor that modifies
+ *       other schemas (e.g. ignore marking of derived containers) must complete its own traversal
+ *       before visitors depending on those modifications run
+ * </ul>
+ *
+ * <p>If the document has no component schemas, only the document-level callbacks are invoked.
+ */
+public final class SchemaGraphTraversal {
+
+  private final SchemaVisitor[] visitors;
+
+  /**
+   * Creates the traversal.
+   *
+   * @param visitors visitors in invocation order
+   */
+  public SchemaGraphTraversal(List<? extends SchemaVisitor> visitors) {
+    this.visitors = visitors.toArray(new SchemaVisitor[0]);
+  }
+
+  /**
+   * Traverses the component schemas of the given document.
+   *
+   * @param openApi OpenAPI document
+   */
+  public void traverse(OpenAPI openApi) {
+
+    for (SchemaVisitor visitor : visitors) {
+      visitor.beforeTraversal(openApi);
+    }
+
+    Map<String, Schema> schemas =
+        openApi.getComponents() != null ? openApi.getComponents().getSchemas() : null;
+
+    if (schemas != null) {
+      for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+        String name = entry.getKey();
+        Schema<?> schema = entry.getValue();
+
+        for (SchemaVisitor visitor : visitors) {
+          visitor.visit(name, schema, schemas);
+        }
+      }
+    }
+
+    for (SchemaVisitor visitor : visitors) {
+      visitor.afterTraversal(openApi);
+    }
+  }
+}
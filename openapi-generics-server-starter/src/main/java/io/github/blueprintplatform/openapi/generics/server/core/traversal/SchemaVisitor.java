@@ -0,0 +1,53 @@
+package io.github.blueprintplatform.openapi.generics.server.core.traversal;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.Map;
+
+/**
+ * Visitor over the component schemas of an OpenAPI document.
+ *
+ * <p>Visitors are driven by {@link SchemaGraphTraversal}, which walks {@code components.schemas}
+ * once and dispatches every schema to all registered visitors.
+ *
+ * <h2>Lifecycle</h2>
+ *
+ * <pre>
+ * beforeTraversal  → once per document (document-level checks, e.g. required base schemas)
+ * visit            → once per schema, in map order
+ * afterTraversal   → once per document (aggregated checks)
+ * </pre>
+ *
+ * <h2>Important</h2>
+ *
+ * <ul>
+ *   <li>Visitors may modify schema <b>content</b> (e.g. extensions)
+ *   <li>Visitors must NOT add or remove schemas during {@link #visit}
+ *   <li>Throwing an exception aborts the traversal (fail-fast)
+ * </ul>
+ */
+public interface SchemaVisitor {
+
+  /**
+   * Called once before any schema is visited.
+   *
+   * @param openApi OpenAPI document
+   */
+  default void beforeTraversal(OpenAPI openApi) {}
+
+  /**
+   * Visits a single component schema.
+   *
+   * @param name schema name
+   * @param schema schema
+   * @param schemas all component schemas (read-only with respect to structure)
+   */
+  void visit(String name, Schema<?> schema, Map<String, Schema> schemas);
+
+  /**
+   * Called once after all schemas have been visited.
+   *
+   * @param openApi OpenAPI document
+   */
+  default void afterTraversal(OpenAPI openApi) {}
+}
@@ -0,0 +1,56 @@
+package io.github.blueprintplatform.openapi.generics.server.core.validation;
+
+import java.util.Comparator;
+
+/**
+ * A single contract violation detected during validation.
+ *
+ * <p>Violations are ordered by schema name, rule and message so that reports are deterministic
+ * regardless of validation order (e.g. parallel graph validation).
+ *
+ * @param schemaName schema the violation is reported for
+ * @param rule violated rule identifier (e.g. {@code DANGLING_REF})
+ * @param message human-readable description
+ */
+public record ContractViolation(String schemaName, String rule, String message)
+    implements Comparable<ContractViolation> {
+
+  /** {@code components.schemas} is missing entirely. */
+  public static final String MISSING_COMPONENTS = "MISSING_COMPONENTS";
+
+  /** A required canonical base schema is missing. */
+  public static final String MISSING_BASE_SCHEMA = "MISSING_BASE_SCHEMA";
+
+  /** Wrapper schema lacks the {@code x-api-wrapper-datatype} extension. */
+  public static final String MISSING_WRAPPER_DATATYPE = "MISSING_WRAPPER_DATATYPE";
+
+  /** Wrapper schema does not use {@code allOf} composition. */
+  public static final String MISSING_ALL_OF = "MISSING_ALL_OF";
+
+  /** Wrapper schema does not define the {@code data} property. */
+  public static final String MISSING_DATA_PROPERTY = "MISSING_DATA_PROPERTY";
+
+  /** Streaming wrapper schema does not define the {@code items} property. */
+  public static final String MISSING_ITEMS_PROPERTY = "MISSING_ITEMS_PROPERTY";
+
+  /** Referenced schema does not exist in {@code components.schemas}. */
+  public static final String DANGLING_REF = "DANGLING_REF";
+
+  /** Wrapper schema is reachable from itself through {@code $ref}s. */
+  public static final String WRAPPER_CYCLE = "WRAPPER_CYCLE";
+
+  private static final Comparator<ContractViolation> ORDER =
+      Comparator.comparing(ContractViolation::schemaName)
+          .thenComparing(ContractViolation::rule)
+          .thenComparing(ContractViolation::message);
+
+  @Override
+  public int compareTo(ContractViolation other) {
+    return ORDER.compare(this, other);
+  }
+
+  @Override
+  public String toString() {
+    return "[" + rule + "] " + schemaName + ": " + message;
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.blueprintplatform.openapi.generics.server.core.validation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structured result of a contract validation run.
+ *
+ * <p>Holds all detected violations in deterministic order and exposes a machine-readable payload
+ * via {@link #toMap()} (used e.g. by the actuator endpoint).
+ *
+ * <pre>
+ * {
+ *   "valid": false,
+ *   "validatedAt": "2026-01-01T10:00:00Z",
+ *   "violationCount": 1,
+ *   "violations": [
+ *     { "schema": "ServiceResponseCustomerDto", "rule": "DANGLING_REF", "message": "..." }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @param violations sorted violations (empty if the document is valid)
+ * @param validatedAt time the validation completed
+ */
+public record ContractViolationReport(List<ContractViolation> violations, Instant validatedAt) {
+
+  public ContractViolationReport {
+    violations = violations.stream().sorted().toList();
+  }
+
+  /**
+   * Creates a report timestamped now.
+   *
+   * @param violations detected violations
+   * @return report
+   */
+  public static ContractViolationReport of(List<ContractViolation> violations) {
+    return new ContractViolationReport(violations, Instant.now());
+  }
+
+  /**
+   * Returns whether no violations were detected.
+   *
+   * @return {@code true} if valid
+   */
+  public boolean isValid() {
+    return violations.isEmpty();
+  }
+
+  /**
+   * Returns the machine-readable representation of this report.
+   *
+   * @return ordered map suitable for JSON serialization
+   */
+  public Map<String, Object> toMap() {
+    List<Map<String, String>> items = new ArrayList<>(violations.size());
+
+    for (ContractViolation violation : violations) {
+      Map<String, String> item = new LinkedHashMap<>();
+      item.put("schema", violation.schemaName());
+      item.put("rule", violation.rule());
+      item.put("message", violation.message());
+      items.add(item);
+    }
+
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("valid", isValid());
+    payload.put("validatedAt", validatedAt.toString());
+    payload.put("violationCount", violations.size());
+    payload.put("violations", items);
+    return payload;
+  }
+}
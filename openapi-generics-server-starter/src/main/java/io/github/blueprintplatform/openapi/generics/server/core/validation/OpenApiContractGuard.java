@@ -1,11 +1,16 @@
 package io.github.blueprintplatform.openapi.generics.server.core.validation;
 
 import static io.github.blueprintplatform.openapi.generics.server.core.schema.contract.PropertyNames.DATA;
+import static io.github.blueprintplatform.openapi.generics.server.core.schema.contract.PropertyNames.ITEMS;
 import static io.github.blueprintplatform.openapi.generics.server.core.schema.contract.SchemaNames.*;
 import static io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions.*;
 
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaGraphTraversal;
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaVisitor;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +26,7 @@ import org.slf4j.LoggerFactory;
  *
  * <ul>
  *   <li>Validate presence of required base schemas</li>
- *   <li>Validate structural correctness of wrapper schemas</li>
+ *   <li>Validate structural correctness of wrapper schemas (including streaming wrappers)</li>
  *   <li>Ensure required vendor extensions are present</li>
  * </ul>
  *
@@ -33,7 +38,7 @@ import org.slf4j.LoggerFactory;
  * <h2>Design Principles</h2>
  *
  * <ul>
- *   <li><b>Fail-fast</b> → throws exception on any contract violation</li>
+ *   <li><b>Fail-fast</b> → throws exception on any contract violation (default mode)</li>
  *   <li><b>Minimal</b> → validates only critical invariants</li>
  *   <li><b>Deterministic</b> → no heuristics or reflection</li>
  * </ul>
@@ -41,30 +46,115 @@ import org.slf4j.LoggerFactory;
  * <h2>Non-goals</h2>
  *
  * <ul>
- *   <li>No deep schema graph validation</li>
+ *   <li>No deep schema graph validation (unless deep mode is enabled)</li>
  *   <li>No attempt to fix invalid schemas</li>
  * </ul>
  *
+ * <h2>Deep Mode (opt-in)</h2>
+ *
+ * <p>When enabled, every {@code $ref} reachable from wrapper schemas is resolved after the
+ * structural checks pass. Dangling references and wrappers reachable from themselves are collected
+ * across the whole document and reported together as an {@link OpenApiContractViolationException}.
+ * Large documents are validated in parallel partitions.
+ *
+ * <h2>Collect Mode (opt-in)</h2>
+ *
+ * <p>With {@link ValidationMode#COLLECT}, the structural checks no longer throw on the first
+ * problem. All violations (structural and deep) are gathered into a {@link ContractViolationReport}
+ * and thrown once as an {@link OpenApiContractViolationException}. The report of the most recent
+ * validation is available via {@link #lastReport()}.
+ *
+ * <h2>Traversal</h2>
+ *
+ * <p>Validation is exposed as a {@link SchemaVisitor} ({@link #visitor()}): base schemas are checked
+ * before traversal, wrappers while visiting. The pipeline runs it in the same traversal as ignore
+ * marking and custom visitors; validation does not depend on {@code x-ignore-model}.
+ *
  * <p>This class is framework-independent and operates purely on the OpenAPI model.
  */
 public class OpenApiContractGuard {
 
   private static final Logger log = LoggerFactory.getLogger(OpenApiContractGuard.class);
 
+  /**
+   * Default minimum number of wrappers for which deep validation runs in parallel
+   * ({@code app.openapi.validation.parallel-threshold}).
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+
+  private static final String COMPONENTS = "components.schemas";
+
+  private final SchemaVisitor visitor = new ValidationVisitor();
+  private final SchemaGraphValidator graphValidator;
+  private final ValidationMode mode;
+
+  /** Violations of the validation running on the current thread (collect mode only). */
+  private final ThreadLocal<List<ContractViolation>> collected = new ThreadLocal<>();
+
+  private volatile ContractViolationReport lastReport;
+
+  public OpenApiContractGuard() {
+    this(false);
+  }
+
+  /**
+   * Creates the guard with configurable deep validation.
+   *
+   * @param deepValidation whether the schema graph reachable from wrappers is validated
+   */
+  public OpenApiContractGuard(boolean deepValidation) {
+    this(deepValidation, ValidationMode.FAIL_FAST);
+  }
+
+  /**
+   * Creates the guard with configurable deep validation and violation handling.
+   *
+   * @param deepValidation whether the schema graph reachable from wrappers is validated
+   * @param mode how violations are reported
+   */
+  public OpenApiContractGuard(boolean deepValidation, ValidationMode mode) {
+    this(deepValidation, mode, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Creates the guard with configurable deep validation, violation handling and parallelism.
+   *
+   * @param deepValidation whether the schema graph reachable from wrappers is validated
+   * @param mode how violations are reported
+   * @param parallelThreshold minimum number of wrappers for which deep validation runs in parallel
+   */
+  public OpenApiContractGuard(boolean deepValidation, ValidationMode mode, int parallelThreshold) {
+    this.graphValidator = deepValidation ? new SchemaGraphValidator(parallelThreshold) : null;
+    this.mode = mode;
+  }
+
   /**
    * Executes validation on the given OpenAPI document.
    *
    * @param openApi OpenAPI document
    */
   public void validate(OpenAPI openApi) {
-    log.debug("OpenAPI contract validation started");
-
-    Map<String, Schema> schemas = getSchemas(openApi);
+    new SchemaGraphTraversal(List.of(visitor)).traverse(openApi);
+  }
 
-    validateBaseSchemas(schemas);
-    validateWrapperSchemas(schemas);
+  /**
+   * Returns the validation logic as a schema visitor.
+   *
+   * @return validation visitor
+   */
+  public SchemaVisitor visitor() {
+    return visitor;
+  }
 
-    log.debug("OpenAPI contract validation completed successfully");
+  /**
+   * Returns the report of the most recent validation.
+   *
+   * <p>In fail-fast mode, a failed validation reports only the first violation.
+   *
+   * @return last report, or {@code null} if no validation has completed yet
+   */
+  public ContractViolationReport lastReport() {
+    return lastReport;
   }
 
   // -------------------------------------------------------------------------
@@ -82,7 +172,9 @@ public class OpenApiContractGuard {
   private void requireSchema(Map<String, Schema> schemas, String name) {
     if (!schemas.containsKey(name)) {
       log.error("Missing required base schema '{}'", name);
-      throw new IllegalStateException(
+      reportViolation(
+              name,
+              ContractViolation.MISSING_BASE_SCHEMA,
               "Missing required OpenAPI schema: '" + name + "'");
     }
   }
@@ -91,31 +183,24 @@ public class OpenApiContractGuard {
   // Wrapper validation
   // -------------------------------------------------------------------------
 
-  private void validateWrapperSchemas(Map<String, Schema> schemas) {
-
-    schemas.forEach((name, schema) -> {
-
-      if (!isWrapper(schema)) {
-        return;
-      }
-
-      validateWrapperExtensions(name, schema);
-      validateWrapperStructure(name, schema);
-    });
-  }
-
   private boolean isWrapper(Schema<?> schema) {
     return schema.getExtensions() != null
             && Boolean.TRUE.equals(schema.getExtensions().get(API_WRAPPER));
   }
 
+  private boolean isStreamingWrapper(Schema<?> schema) {
+    return Boolean.TRUE.equals(schema.getExtensions().get(API_STREAM));
+  }
+
   private void validateWrapperExtensions(String name, Schema<?> schema) {
 
     Object dataType = schema.getExtensions().get(API_WRAPPER_DATATYPE);
 
     if (dataType == null) {
       log.error("Wrapper '{}' missing required extension '{}'", name, API_WRAPPER_DATATYPE);
-      throw new IllegalStateException(
+      reportViolation(
+              name,
+              ContractViolation.MISSING_WRAPPER_DATATYPE,
               "Wrapper schema '" + name +
                       "' is missing required extension: " + API_WRAPPER_DATATYPE);
     }
@@ -125,23 +210,89 @@ public class OpenApiContractGuard {
 
     if (schema.getAllOf() == null || schema.getAllOf().isEmpty()) {
       log.error("Wrapper '{}' has invalid structure: missing allOf composition", name);
-      throw new IllegalStateException(
+      reportViolation(
+              name,
+              ContractViolation.MISSING_ALL_OF,
               "Wrapper schema '" + name + "' must use allOf composition");
+      return;
     }
 
-    boolean hasDataProperty =
-            schema.getAllOf().stream()
-                    .filter(s -> s.getProperties() != null)
-                    .anyMatch(s -> s.getProperties().containsKey(DATA));
-
-    if (!hasDataProperty) {
+    if (!hasDataProperty(schema.getAllOf())) {
       log.error("Wrapper '{}' missing required property '{}'", name, DATA);
-      throw new IllegalStateException(
+      reportViolation(
+              name,
+              ContractViolation.MISSING_DATA_PROPERTY,
               "Wrapper schema '" + name +
                       "' must define '" + DATA + "' property");
     }
   }
 
+  private void validateStreamingWrapperStructure(String name, Schema<?> schema) {
+
+    if (schema.getProperties() == null || !schema.getProperties().containsKey(ITEMS)) {
+      log.error("Streaming wrapper '{}' missing required property '{}'", name, ITEMS);
+      reportViolation(
+              name,
+              ContractViolation.MISSING_ITEMS_PROPERTY,
+              "Streaming wrapper schema '" + name +
+                      "' must define '" + ITEMS + "' property");
+    }
+  }
+
+  private boolean hasDataProperty(List<Schema> allOf) {
+    for (Schema<?> part : allOf) {
+      if (part.getProperties() != null && part.getProperties().containsKey(DATA)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // -------------------------------------------------------------------------
+  // Reporting
+  // -------------------------------------------------------------------------
+
+  /**
+   * Records a violation: collected in collect mode, thrown immediately in fail-fast mode.
+   *
+   * @param schemaName affected schema
+   * @param rule violated rule
+   * @param message violation message
+   */
+  private void reportViolation(String schemaName, String rule, String message) {
+    ContractViolation violation = new ContractViolation(schemaName, rule, message);
+
+    List<ContractViolation> violations = collected.get();
+    if (violations != null) {
+      violations.add(violation);
+      return;
+    }
+
+    lastReport = ContractViolationReport.of(List.of(violation));
+    throw new IllegalStateException(message);
+  }
+
+  /**
+   * Completes a validation run: adds deep graph violations and publishes the report.
+   *
+   * @param violations structural violations collected so far
+   * @param schemas component schemas ({@code null} if missing)
+   */
+  private void complete(List<ContractViolation> violations, Map<String, Schema> schemas) {
+
+    if (graphValidator != null && schemas != null) {
+      violations.addAll(graphValidator.validate(schemas));
+    }
+
+    ContractViolationReport report = ContractViolationReport.of(violations);
+    lastReport = report;
+
+    if (!report.isValid()) {
+      log.error("OpenAPI contract validation failed with {} violation(s)", violations.size());
+      throw new OpenApiContractViolationException(report);
+    }
+  }
+
   // -------------------------------------------------------------------------
   // Helpers
   // -------------------------------------------------------------------------
@@ -153,10 +304,60 @@ public class OpenApiContractGuard {
 
       log.error("OpenAPI validation failed: components.schemas is missing");
 
-      throw new IllegalStateException(
+      reportViolation(
+              COMPONENTS,
+              ContractViolation.MISSING_COMPONENTS,
               "OpenAPI components.schemas is missing");
+      return null;
     }
 
     return openApi.getComponents().getSchemas();
   }
-}
\ No newline at end of file
+
+  /** Base schemas up front, wrappers per visited schema. */
+  private final class ValidationVisitor implements SchemaVisitor {
+
+    @Override
+    public void beforeTraversal(OpenAPI openApi) {
+      log.debug("OpenAPI contract validation started");
+
+      if (mode == ValidationMode.COLLECT) {
+        collected.set(new ArrayList<>());
+      } else {
+        collected.remove();
+      }
+
+      Map<String, Schema> schemas = getSchemas(openApi);
+      if (schemas != null) {
+        validateBaseSchemas(schemas);
+      }
+    }
+
+    @Override
+    public void visit(String name, Schema<?> schema, Map<String, Schema> schemas) {
+      if (!isWrapper(schema)) {
+        return;
+      }
+
+      validateWrapperExtensions(name, schema);
+
+      if (isStreamingWrapper(schema)) {
+        validateStreamingWrapperStructure(name, schema);
+      } else {
+        validateWrapperStructure(name, schema);
+      }
+    }
+
+    @Override
+    public void afterTraversal(OpenAPI openApi) {
+      List<ContractViolation> violations = collected.get();
+      collected.remove();
+
+      complete(
+          violations != null ? violations : new ArrayList<>(),
+          openApi.getComponents() != null ? openApi.getComponents().getSchemas() : null);
+
+      log.debug("OpenAPI contract validation completed successfully");
+    }
+  }
+}
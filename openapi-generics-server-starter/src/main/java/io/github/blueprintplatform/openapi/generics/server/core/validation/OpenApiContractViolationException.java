@@ -0,0 +1,74 @@
+package io.github.blueprintplatform.openapi.generics.server.core.validation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when contract validation detects one or more violations.
+ *
+ * <p>Unlike fail-first checks, this exception aggregates <b>all</b> detected violations so that
+ * they can be fixed in a single iteration.
+ *
+ * <p>Extends {@link IllegalStateException} to remain compatible with existing fail-fast handling.
+ */
+public class OpenApiContractViolationException extends IllegalStateException {
+
+  private final transient ContractViolationReport report;
+
+  /**
+   * Creates the exception.
+   *
+   * @param violations detected violations (non-empty)
+   */
+  public OpenApiContractViolationException(List<ContractViolation> violations) {
+    this(ContractViolationReport.of(violations));
+  }
+
+  /**
+   * Creates the exception from a validation report.
+   *
+   * @param report validation report (with at least one violation)
+   */
+  public OpenApiContractViolationException(ContractViolationReport report) {
+    super(buildMessage(report.violations()));
+    this.report = report;
+  }
+
+  /**
+   * Returns all detected violations.
+   *
+   * @return immutable, ordered list of violations
+   */
+  public List<ContractViolation> getViolations() {
+    return report.violations();
+  }
+
+  /**
+   * Returns the structured validation report.
+   *
+   * @return validation report
+   */
+  public ContractViolationReport getReport() {
+    return report;
+  }
+
+  /**
+   * Returns the machine-readable payload of the validation report.
+   *
+   * @return payload map (see {@link ContractViolationReport#toMap()})
+   */
+  public Map<String, Object> getPayload() {
+    return report.toMap();
+  }
+
+  private static String buildMessage(List<ContractViolation> violations) {
+    StringBuilder message =
+        new StringBuilder("OpenAPI contract validation failed with ")
+            .append(violations.size())
+            .append(" violation(s):");
+
+    violations.forEach(v -> message.append(System.lineSeparator()).append(" - ").append(v));
+
+    return message.toString();
+  }
+}
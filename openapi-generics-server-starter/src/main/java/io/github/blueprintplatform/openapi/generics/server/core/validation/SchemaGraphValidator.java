@@ -0,0 +1,202 @@
+package io.github.blueprintplatform.openapi.generics.server.core.validation;
+
+import static io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions.API_WRAPPER;
+import static io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions.API_WRAPPER_DATATYPE;
+import static io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions.DATA_ITEM;
+
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deep validation of the schema graph reachable from wrapper schemas.
+ *
+ * <p>Starting at every wrapper, all {@code $ref}s are followed through:
+ *
+ * <ul>
+ *   <li>{@code properties}, {@code items}, {@code additionalProperties}, {@code not}
+ *   <li>{@code allOf}, {@code oneOf}, {@code anyOf}
+ *   <li>contract extensions naming schemas ({@code x-api-wrapper-datatype}, {@code x-data-item})
+ * </ul>
+ *
+ * <h2>Detected Violations</h2>
+ *
+ * <ul>
+ *   <li>{@link ContractViolation#DANGLING_REF} → a reachable reference points to a missing schema
+ *   <li>{@link ContractViolation#WRAPPER_CYCLE} → a wrapper is reachable from itself
+ * </ul>
+ *
+ * <p>Recursion between regular DTOs (e.g. tree nodes) is legitimate and is not reported. Only
+ * local component references ({@code #/components/schemas/...}) are resolved; external references
+ * are ignored.
+ *
+ * <h2>Execution</h2>
+ *
+ * <ul>
+ *   <li>Each wrapper is walked independently with an iterative depth-first search (no recursion
+ *       depth limits)
+ *   <li>At or above {@code parallelThreshold} wrappers, walks are partitioned across the common
+ *       fork-join pool; the schema graph is only read
+ *   <li>Results are sorted → identical output for sequential and parallel execution
+ * </ul>
+ */
+final class SchemaGraphValidator {
+
+  private static final String SCHEMA_PREFIX = "#/components/schemas/";
+
+  private final int parallelThreshold;
+
+  /**
+   * Creates the validator.
+   *
+   * @param parallelThreshold minimum number of wrappers to validate in parallel
+   */
+  SchemaGraphValidator(int parallelThreshold) {
+    this.parallelThreshold = Math.max(parallelThreshold, 1);
+  }
+
+  /**
+   * Validates the graph reachable from all wrapper schemas.
+   *
+   * @param schemas component schemas (must not be modified concurrently)
+   * @return sorted list of violations (empty if valid)
+   */
+  List<ContractViolation> validate(Map<String, Schema> schemas) {
+    List<String> wrappers = new ArrayList<>();
+
+    schemas.forEach(
+        (name, schema) -> {
+          if (isWrapper(schema)) {
+            wrappers.add(name);
+          }
+        });
+
+    Stream<String> stream =
+        wrappers.size() >= parallelThreshold ? wrappers.parallelStream() : wrappers.stream();
+
+    return stream
+        .flatMap(wrapper -> validateWrapper(wrapper, schemas).stream())
+        .distinct()
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  private List<ContractViolation> validateWrapper(String wrapperName, Map<String, Schema> schemas) {
+    List<ContractViolation> violations = new ArrayList<>();
+
+    Set<String> visitedRefs = new HashSet<>();
+    Set<Schema<?>> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Schema<?>> stack = new ArrayDeque<>();
+
+    visitedRefs.add(wrapperName);
+    stack.push(schemas.get(wrapperName));
+
+    while (!stack.isEmpty()) {
+      Schema<?> node = stack.pop();
+
+      if (!visitedNodes.add(node)) {
+        continue;
+      }
+
+      for (String ref : referencedNames(node)) {
+        if (ref.equals(wrapperName)) {
+          violations.add(
+              new ContractViolation(
+                  wrapperName,
+                  ContractViolation.WRAPPER_CYCLE,
+                  "Wrapper is reachable from itself through its data schema graph"));
+          continue;
+        }
+
+        if (!visitedRefs.add(ref)) {
+          continue;
+        }
+
+        Schema<?> target = schemas.get(ref);
+        if (target == null) {
+          violations.add(
+              new ContractViolation(
+                  wrapperName,
+                  ContractViolation.DANGLING_REF,
+                  "References missing schema '" + ref + "'"));
+          continue;
+        }
+
+        stack.push(target);
+      }
+
+      pushInlineChildren(node, stack);
+    }
+
+    return violations;
+  }
+
+  /** Collects schema names referenced directly by the node ({@code $ref} and contract extensions). */
+  private List<String> referencedNames(Schema<?> node) {
+    List<String> names = new ArrayList<>(2);
+
+    String ref = node.get$ref();
+    if (ref != null && ref.startsWith(SCHEMA_PREFIX)) {
+      names.add(ref.substring(SCHEMA_PREFIX.length()));
+    }
+
+    Map<String, Object> ext = node.getExtensions();
+    if (ext != null && Boolean.TRUE.equals(ext.get(API_WRAPPER))) {
+      addName(names, ext.get(API_WRAPPER_DATATYPE));
+      addName(names, ext.get(DATA_ITEM));
+    }
+
+    return names;
+  }
+
+  private void addName(List<String> names, Object value) {
+    if (value != null) {
+      names.add(String.valueOf(value));
+    }
+  }
+
+  private void pushInlineChildren(Schema<?> node, Deque<Schema<?>> stack) {
+    Map<String, Schema> properties = node.getProperties();
+    if (properties != null) {
+      properties.values().forEach(child -> pushIfPresent(child, stack));
+    }
+
+    pushIfPresent(node.getItems(), stack);
+    pushIfPresent(node.getNot(), stack);
+
+    if (node.getAdditionalProperties() instanceof Schema<?> additional) {
+      pushIfPresent(additional, stack);
+    }
+
+    pushAll(node.getAllOf(), stack);
+    pushAll(node.getOneOf(), stack);
+    pushAll(node.getAnyOf(), stack);
+  }
+
+  private void pushAll(List<Schema> children, Deque<Schema<?>> stack) {
+    if (children != null) {
+      children.forEach(child -> pushIfPresent(child, stack));
+    }
+  }
+
+  private void pushIfPresent(Schema<?> child, Deque<Schema<?>> stack) {
+    if (child != null) {
+      stack.push(child);
+    }
+  }
+
+  private boolean isWrapper(Schema<?> schema) {
+    return schema != null
+        && schema.getExtensions() != null
+        && Boolean.TRUE.equals(schema.getExtensions().get(API_WRAPPER));
+  }
+}
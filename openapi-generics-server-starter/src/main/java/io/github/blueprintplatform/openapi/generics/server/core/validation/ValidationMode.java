@@ -0,0 +1,40 @@
+package io.github.blueprintplatform.openapi.generics.server.core.validation;
+
+import java.util.Locale;
+
+/**
+ * Controls how {@link OpenApiContractGuard} reacts to contract violations.
+ *
+ * <ul>
+ *   <li>{@link #FAIL_FAST} → throw on the first violation (default)
+ *   <li>{@link #COLLECT} → validate the whole document, then throw once with all violations
+ * </ul>
+ */
+public enum ValidationMode {
+  FAIL_FAST,
+  COLLECT;
+
+  /**
+   * Parses a mode from configuration ({@code fail-fast}, {@code collect}, case-insensitive).
+   *
+   * @param value configured value
+   * @return validation mode ({@link #FAIL_FAST} if blank)
+   * @throws IllegalStateException if the value is not a known mode
+   */
+  public static ValidationMode from(String value) {
+    if (value == null || value.isBlank()) {
+      return FAIL_FAST;
+    }
+
+    String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+
+    for (ValidationMode mode : values()) {
+      if (mode.name().equals(normalized)) {
+        return mode;
+      }
+    }
+
+    throw new IllegalStateException(
+        "Unknown validation mode '" + value + "' (expected 'fail-fast' or 'collect')");
+  }
+}
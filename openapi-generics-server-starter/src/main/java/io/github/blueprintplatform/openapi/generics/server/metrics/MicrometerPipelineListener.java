@@ -0,0 +1,135 @@
+package io.github.blueprintplatform.openapi.generics.server.metrics;
+
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PipelineListener;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PipelineStage;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PipelineSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer implementation of {@link PipelineListener}.
+ *
+ * <h2>Meters</h2>
+ *
+ * <ul>
+ *   <li>{@code openapi.generics.pipeline.stage.duration} (timer, tag {@code stage})
+ *   <li>{@code openapi.generics.pipeline.stage.allocated} (distribution summary in bytes, tag
+ *       {@code stage})
+ *   <li>{@code openapi.generics.pipeline.discovered.types} (gauge) → handler return types
+ *   <li>{@code openapi.generics.pipeline.discovered.refs} (gauge) → contract-aware refs
+ *   <li>{@code openapi.generics.pipeline.refs} (gauge) → refs used by the last document
+ *   <li>{@code openapi.generics.pipeline.wrappers} (gauge, tag {@code result}) → wrapper outcomes
+ *       of the last document
+ *   <li>{@code openapi.generics.pipeline.documents} (counter) → processed documents
+ * </ul>
+ *
+ * <p>Stage tag values are the lower-case {@link PipelineStage} names (e.g. {@code
+ * wrapper_processing}). Meters are registered eagerly so that dashboards see them before the first
+ * document is served.
+ */
+public class MicrometerPipelineListener implements PipelineListener {
+
+  private static final String PREFIX = "openapi.generics.pipeline.";
+
+  static final String STAGE_DURATION = PREFIX + "stage.duration";
+  static final String STAGE_ALLOCATED = PREFIX + "stage.allocated";
+  static final String DISCOVERED_TYPES = PREFIX + "discovered.types";
+  static final String DISCOVERED_REFS = PREFIX + "discovered.refs";
+  static final String USED_REFS = PREFIX + "refs";
+  static final String WRAPPERS = PREFIX + "wrappers";
+  static final String DOCUMENTS = PREFIX + "documents";
+
+  private static final String STAGE_TAG = "stage";
+  private static final String RESULT_TAG = "result";
+  private static final String BYTES = "bytes";
+
+  private final Map<PipelineStage, Timer> durations = new EnumMap<>(PipelineStage.class);
+  private final Map<PipelineStage, DistributionSummary> allocations =
+      new EnumMap<>(PipelineStage.class);
+
+  private final AtomicInteger discoveredTypes = new AtomicInteger();
+  private final AtomicInteger discoveredRefs = new AtomicInteger();
+  private final AtomicInteger usedRefs = new AtomicInteger();
+  private final AtomicInteger created = new AtomicInteger();
+  private final AtomicInteger replaced = new AtomicInteger();
+
+  private final Counter documents;
+
+  /**
+   * Creates the listener and registers all meters.
+   *
+   * @param registry meter registry
+   */
+  public MicrometerPipelineListener(MeterRegistry registry) {
+
+    for (PipelineStage stage : PipelineStage.values()) {
+      String tag = stage.name().toLowerCase(Locale.ROOT);
+
+      durations.put(
+          stage,
+          Timer.builder(STAGE_DURATION)
+              .description("Duration of an OpenAPI pipeline stage")
+              .tag(STAGE_TAG, tag)
+              .register(registry));
+
+      allocations.put(
+          stage,
+          DistributionSummary.builder(STAGE_ALLOCATED)
+              .description("Heap allocated by the pipeline thread during a stage")
+              .baseUnit(BYTES)
+              .tag(STAGE_TAG, tag)
+              .register(registry));
+    }
+
+    gauge(registry, DISCOVERED_TYPES, "Discovered handler return types", discoveredTypes);
+    gauge(registry, DISCOVERED_REFS, "Discovered contract-aware response types", discoveredRefs);
+    gauge(registry, USED_REFS, "Contract-aware response types used by the last document", usedRefs);
+
+    wrapperGauge(registry, "created", created);
+    wrapperGauge(registry, "replaced", replaced);
+
+    documents =
+        Counter.builder(DOCUMENTS)
+            .description("OpenAPI documents processed by the pipeline")
+            .register(registry);
+  }
+
+  @Override
+  public void onStageCompleted(PipelineStage stage, long durationNanos, long allocatedBytes) {
+    durations.get(stage).record(durationNanos, TimeUnit.NANOSECONDS);
+
+    if (allocatedBytes >= 0) {
+      allocations.get(stage).record(allocatedBytes);
+    }
+  }
+
+  @Override
+  public void onPipelineCompleted(PipelineSummary summary) {
+    discoveredTypes.set(summary.discoveredTypes());
+    discoveredRefs.set(summary.discoveredRefs());
+    usedRefs.set(summary.usedRefs());
+    created.set(summary.created());
+    replaced.set(summary.replaced());
+    documents.increment();
+  }
+
+  private static void gauge(
+      MeterRegistry registry, String name, String description, AtomicInteger value) {
+    Gauge.builder(name, value, AtomicInteger::get).description(description).register(registry);
+  }
+
+  private static void wrapperGauge(MeterRegistry registry, String result, AtomicInteger value) {
+    Gauge.builder(WRAPPERS, value, AtomicInteger::get)
+        .description("Wrapper schema outcomes of the last document")
+        .tag(RESULT_TAG, result)
+        .register(registry);
+  }
+}
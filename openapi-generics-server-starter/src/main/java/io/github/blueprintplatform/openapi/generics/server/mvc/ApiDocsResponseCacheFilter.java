@@ -0,0 +1,257 @@
+package io.github.blueprintplatform.openapi.generics.server.mvc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Serves pre-serialized OpenAPI documents for the Springdoc {@code api-docs} endpoints.
+ *
+ * <p>After the pipeline has enriched a document, Springdoc would otherwise re-serialize the full
+ * model on every request. This filter snapshots the serialized response once and replays it.
+ *
+ * <h2>Behavior</h2>
+ *
+ * <ul>
+ *   <li>Caches the serialized body per request URL, query and {@code Accept} header (JSON and
+ *       YAML variants are cached independently)
+ *   <li>Pre-computes a gzip variant, served when the client accepts {@code gzip}
+ *   <li>Emits a content-hash {@code ETag} and answers matching {@code If-None-Match} with {@code
+ *       304 Not Modified}
+ * </ul>
+ *
+ * <h2>Invalidation</h2>
+ *
+ * <p>Each snapshot is stamped with a document generation, which advances whenever Springdoc builds
+ * a new document (pipeline and precomputed paths alike). A stale snapshot is revalidated on next
+ * access:
+ *
+ * <ul>
+ *   <li>The request is passed through and the freshly produced body is hashed
+ *   <li>Unchanged hash → the snapshot (and its {@code ETag}) is kept, only its stamp is refreshed
+ *   <li>Changed hash → the snapshot is replaced
+ * </ul>
+ *
+ * <p>In {@code revalidate} mode (Springdoc's own cache disabled), every request is revalidated
+ * this way. Serialization is no longer skipped, but compression and {@code 304} handling still
+ * are keyed on the actual content.
+ *
+ * <p>Only gzip is pre-computed: the JDK ships no Brotli encoder.
+ *
+ * <h2>Important</h2>
+ *
+ * <ul>
+ *   <li>Only successful ({@code 200}) {@code GET} responses are cached
+ *   <li>{@code <api-docs>/swagger-config} is passed through: it is not an OpenAPI document and does
+ *       not follow the document generation
+ *   <li>The number of cached variants is bounded; excess variants are served uncached
+ * </ul>
+ */
+public class ApiDocsResponseCacheFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(ApiDocsResponseCacheFilter.class);
+
+  private static final String GET = "GET";
+  private static final String GZIP = "gzip";
+  private static final String GZIP_ETAG_SUFFIX = "-" + GZIP;
+  private static final String ANY_ETAG = "*";
+  private static final String SWAGGER_CONFIG = "/swagger-config";
+
+  private final String apiDocsPath;
+  private final String swaggerConfigPath;
+  private final LongSupplier generation;
+  private final int maxEntries;
+  private final boolean revalidate;
+
+  private final Map<String, CachedApiDocs> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the filter.
+   *
+   * @param apiDocsPath Springdoc api-docs path (e.g. {@code /v3/api-docs})
+   * @param generation supplier of the current document generation
+   * @param maxEntries maximum number of cached response variants
+   * @param revalidate whether every request is revalidated against the freshly produced body
+   */
+  public ApiDocsResponseCacheFilter(
+      String apiDocsPath, LongSupplier generation, int maxEntries, boolean revalidate) {
+    this.apiDocsPath = apiDocsPath;
+    this.swaggerConfigPath = apiDocsPath + SWAGGER_CONFIG;
+    this.generation = generation;
+    this.maxEntries = Math.max(maxEntries, 1);
+    this.revalidate = revalidate;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!GET.equals(request.getMethod())) {
+      return true;
+    }
+
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !path.startsWith(apiDocsPath) || path.equals(swaggerConfigPath);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+
+    String key = cacheKey(request);
+    CachedApiDocs cached = cache.get(key);
+
+    if (revalidate || cached == null || cached.generation() != generation.getAsLong()) {
+      ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+      filterChain.doFilter(request, wrapper);
+
+      if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+        wrapper.copyBodyToResponse();
+        return;
+      }
+
+      // Read after the chain: the generation that produced this body is the one to stamp.
+      cached = revalidated(cached, wrapper, generation.getAsLong());
+
+      if (cache.size() < maxEntries || cache.containsKey(key)) {
+        cache.put(key, cached);
+        log.debug(
+            "Cached serialized OpenAPI document for '{}' ({} bytes)", key, cached.body().length);
+      }
+
+      // Discard the buffered copy; the snapshot is written below.
+      wrapper.resetBuffer();
+    }
+
+    write(request, response, cached);
+  }
+
+  /** Keeps the previous snapshot when the fresh body is byte-identical, otherwise replaces it. */
+  private CachedApiDocs revalidated(
+      CachedApiDocs previous, ContentCachingResponseWrapper fresh, long currentGeneration) {
+
+    byte[] body = fresh.getContentAsByteArray();
+    String hash = DigestUtils.md5DigestAsHex(body);
+
+    if (previous != null && previous.hash().equals(hash)) {
+      return previous.restamp(currentGeneration);
+    }
+
+    return CachedApiDocs.of(body, fresh.getContentType(), hash, currentGeneration);
+  }
+
+  private void write(HttpServletRequest request, HttpServletResponse response, CachedApiDocs docs)
+      throws IOException {
+
+    boolean gzip = acceptsGzip(request);
+    String etag = "\"" + docs.hash() + (gzip ? GZIP_ETAG_SUFFIX : "") + "\"";
+
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    if (matchesIfNoneMatch(request, docs.hash())) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    byte[] body = gzip ? docs.gzipBody() : docs.body();
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    if (docs.contentType() != null) {
+      response.setContentType(docs.contentType());
+    }
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private String cacheKey(HttpServletRequest request) {
+    String query = request.getQueryString();
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+
+    return request.getRequestURL()
+        + (query != null ? "?" + query : "")
+        + "|"
+        + (accept != null ? accept : "");
+  }
+
+  private boolean acceptsGzip(HttpServletRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains(GZIP);
+  }
+
+  /** Matches {@code If-None-Match} against the content hash, ignoring weak and encoding markers. */
+  private boolean matchesIfNoneMatch(HttpServletRequest request, String hash) {
+    String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+    if (ifNoneMatch == null) {
+      return false;
+    }
+
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+
+      if (ANY_ETAG.equals(tag)) {
+        return true;
+      }
+
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+
+      tag = tag.replace("\"", "");
+
+      if (tag.endsWith(GZIP_ETAG_SUFFIX)) {
+        tag = tag.substring(0, tag.length() - GZIP_ETAG_SUFFIX.length());
+      }
+
+      if (hash.equals(tag)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /** Immutable serialized snapshot of an api-docs response. */
+  private record CachedApiDocs(
+      byte[] body, byte[] gzipBody, String contentType, String hash, long generation) {
+
+    static CachedApiDocs of(byte[] body, String contentType, String hash, long generation) {
+      return new CachedApiDocs(body, gzip(body), contentType, hash, generation);
+    }
+
+    CachedApiDocs restamp(long newGeneration) {
+      return newGeneration == generation
+          ? this
+          : new CachedApiDocs(body, gzipBody, contentType, hash, newGeneration);
+    }
+
+    private static byte[] gzip(byte[] body) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+
+      try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+        gzip.write(body);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to compress OpenAPI document", e);
+      }
+
+      return out.toByteArray();
+    }
+  }
+}
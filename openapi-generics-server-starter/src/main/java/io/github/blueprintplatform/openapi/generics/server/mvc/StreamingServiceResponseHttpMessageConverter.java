@@ -0,0 +1,115 @@
+package io.github.blueprintplatform.openapi.generics.server.mvc;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.PropertyNames;
+import java.io.IOException;
+import java.util.Iterator;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes {@link StreamingServiceResponse} bodies as newline-delimited JSON.
+ *
+ * <p>The envelope metadata is written first, followed by one item per line:
+ *
+ * <pre>
+ * {"meta":{...}}
+ * {...item 1...}
+ * {...item 2...}
+ * </pre>
+ *
+ * <h2>Behavior</h2>
+ *
+ * <ul>
+ *   <li>Items are pulled from the stream one at a time → memory use is independent of the item
+ *       count
+ *   <li>Output is flushed every {@value #FLUSH_INTERVAL} items, so clients receive chunks while the
+ *       stream is still being produced
+ *   <li>The item stream is always closed, also when writing fails
+ * </ul>
+ *
+ * <p>Only writing is supported; the converter never participates in request body reading.
+ */
+public class StreamingServiceResponseHttpMessageConverter
+    extends AbstractHttpMessageConverter<StreamingServiceResponse<?>> {
+
+  /** Newline-delimited JSON media type. */
+  public static final MediaType NDJSON =
+      MediaType.parseMediaType(StreamingServiceResponse.MEDIA_TYPE);
+
+  /** Number of items written between two explicit flushes. */
+  static final int FLUSH_INTERVAL = 256;
+
+  private static final char LINE_SEPARATOR = '\n';
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter writer;
+
+  /**
+   * Creates the converter.
+   *
+   * @param objectMapper object mapper used for metadata and items
+   */
+  public StreamingServiceResponseHttpMessageConverter(ObjectMapper objectMapper) {
+    super(NDJSON);
+    this.objectMapper = objectMapper;
+    this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return StreamingServiceResponse.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected StreamingServiceResponse<?> readInternal(
+      Class<? extends StreamingServiceResponse<?>> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Reading streaming responses is not supported", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(
+      StreamingServiceResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+
+    try (response;
+        JsonGenerator generator =
+            objectMapper.getFactory().createGenerator(outputMessage.getBody())) {
+
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+
+      generator.writeStartObject();
+      generator.writeFieldName(PropertyNames.META);
+      writer.writeValue(generator, response.getMeta());
+      generator.writeEndObject();
+      generator.writeRaw(LINE_SEPARATOR);
+
+      int count = 0;
+      Iterator<?> items = response.iterator();
+
+      while (items.hasNext()) {
+        writer.writeValue(generator, items.next());
+        generator.writeRaw(LINE_SEPARATOR);
+
+        if (++count % FLUSH_INTERVAL == 0) {
+          generator.flush();
+        }
+      }
+
+      generator.flush();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.blueprintplatform.openapi.generics.server.webflux;
+
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.HandlerReturnTypeResolver;
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeDiscoveryStrategy;
+import java.util.Set;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Spring WebFlux implementation of {@link ResponseTypeDiscoveryStrategy}.
+ *
+ * <p>This strategy scans reactive handler mappings to discover controller methods and extracts
+ * their return types as {@link ResolvableType}.
+ *
+ * <p>Reactive return types (e.g. {@code Mono<ServiceResponse<T>>} or {@code
+ * Mono<ResponseEntity<ServiceResponse<T>>>}) are returned as-is; unwrapping is performed by the core
+ * introspection layer.
+ *
+ * <p>This class is intentionally limited to:
+ *
+ * <ul>
+ *   <li>Discovering handler methods from the reactive {@link RequestMappingHandlerMapping}
+ *   <li>Extracting raw return types
+ * </ul>
+ *
+ * <p>It does NOT:
+ *
+ * <ul>
+ *   <li>Interpret generic structures
+ *   <li>Apply any contract rules
+ *   <li>Perform OpenAPI-related logic
+ * </ul>
+ *
+ * <p>This keeps the WebFlux-specific logic isolated from the core system.
+ */
+public class WebFluxResponseTypeDiscoveryStrategy implements ResponseTypeDiscoveryStrategy {
+
+  private final ListableBeanFactory beanFactory;
+  private final boolean parallel;
+
+  public WebFluxResponseTypeDiscoveryStrategy(ListableBeanFactory beanFactory) {
+    this(beanFactory, false);
+  }
+
+  /**
+   * Creates the strategy with configurable resolution mode.
+   *
+   * @param beanFactory Spring bean factory
+   * @param parallel whether return types are resolved concurrently
+   */
+  public WebFluxResponseTypeDiscoveryStrategy(ListableBeanFactory beanFactory, boolean parallel) {
+    this.beanFactory = beanFactory;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Scans all reactive {@link RequestMappingHandlerMapping} beans and collects controller method
+   * return types.
+   *
+   * @return a set of discovered response types as {@link ResolvableType}
+   */
+  @Override
+  public Set<ResolvableType> discover() {
+    return HandlerReturnTypeResolver.resolve(
+        beanFactory,
+        RequestMappingHandlerMapping.class,
+        RequestMappingHandlerMapping::getHandlerMethods,
+        parallel);
+  }
+}
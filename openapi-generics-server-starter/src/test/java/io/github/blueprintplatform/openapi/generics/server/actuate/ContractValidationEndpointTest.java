@@ -0,0 +1,41 @@
+package io.github.blueprintplatform.openapi.generics.server.actuate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractViolationException;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.ValidationMode;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: ContractValidationEndpoint")
+class ContractValidationEndpointTest {
+
+  @Test
+  @DisplayName("report() -> returns NOT_VALIDATED before any validation")
+  void report_notValidated() {
+    ContractValidationEndpoint endpoint =
+        new ContractValidationEndpoint(new OpenApiContractGuard());
+
+    assertEquals(Map.of("status", "NOT_VALIDATED"), endpoint.report());
+  }
+
+  @Test
+  @DisplayName("report() -> returns the violations of the last validation as INVALID")
+  void report_invalid() {
+    OpenApiContractGuard guard = new OpenApiContractGuard(false, ValidationMode.COLLECT);
+    assertThrows(OpenApiContractViolationException.class, () -> guard.validate(new OpenAPI()));
+
+    Map<String, Object> payload = new ContractValidationEndpoint(guard).report();
+
+    assertEquals("INVALID", payload.get("status"));
+    assertEquals(Boolean.FALSE, payload.get("valid"));
+    assertEquals(1, payload.get("violationCount"));
+    assertEquals(1, ((List<?>) payload.get("violations")).size());
+  }
+}
@@ -0,0 +1,109 @@
+package io.github.blueprintplatform.openapi.generics.server.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.server.actuate.ContractValidationEndpoint;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.OpenApiPipelineOrchestrator;
+import io.github.blueprintplatform.openapi.generics.server.metrics.MicrometerPipelineListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.util.ClassUtils;
+
+@Tag("unit")
+@DisplayName("Unit Test: AutoConfiguration.imports")
+class AutoConfigurationImportsTest {
+
+  private static final String PACKAGE = OpenApiGenericsAutoConfiguration.class.getPackageName();
+
+  @Test
+  @DisplayName("imports -> lists every starter auto-configuration on its own line")
+  void imports_listStarterAutoConfigurations() {
+    assertEquals(
+        List.of(
+            OpenApiGenericsAutoConfiguration.class.getName(),
+            OpenApiGenericsMetricsAutoConfiguration.class.getName(),
+            OpenApiGenericsActuatorAutoConfiguration.class.getName()),
+        starterCandidates());
+  }
+
+  @Test
+  @DisplayName("imports -> every entry resolves to an @AutoConfiguration class")
+  void imports_resolveToAutoConfigurations() {
+    for (String candidate : starterCandidates()) {
+      Class<?> type = ClassUtils.resolveClassName(candidate, getClass().getClassLoader());
+
+      assertTrue(type.isAnnotationPresent(AutoConfiguration.class), candidate);
+    }
+  }
+
+  @Test
+  @DisplayName("context from imports -> pipeline, metrics and actuator endpoint are registered")
+  void context_loadsAllAutoConfigurations() {
+    runner()
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withPropertyValues("management.endpoints.web.exposure.include=openapicontract")
+        .run(
+            context -> {
+              assertNull(context.getStartupFailure());
+              assertNotNull(context.getBean(OpenApiPipelineOrchestrator.class));
+              assertNotNull(context.getBean(MicrometerPipelineListener.class));
+              assertNotNull(context.getBean(ContractValidationEndpoint.class));
+
+              context
+                  .getBean("openApiGenericsCustomizer", OpenApiCustomizer.class)
+                  .customise(new OpenAPI());
+
+              MeterRegistry registry = context.getBean(MeterRegistry.class);
+              assertEquals(
+                  1.0, registry.get("openapi.generics.pipeline.documents").counter().count());
+            });
+  }
+
+  @Test
+  @DisplayName("context from imports without MeterRegistry -> metrics listener is absent")
+  void context_withoutMeterRegistry_skipsMetrics() {
+    runner()
+        .run(
+            context -> {
+              assertNull(context.getStartupFailure());
+              assertNotNull(context.getBean(OpenApiPipelineOrchestrator.class));
+              assertTrue(context.getBeansOfType(MicrometerPipelineListener.class).isEmpty());
+            });
+  }
+
+  /** Builds the context from the imports file, as Spring Boot does. */
+  private WebApplicationContextRunner runner() {
+    return new WebApplicationContextRunner()
+        .withInitializer(
+            context ->
+                context
+                    .getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+        .withConfiguration(
+            AutoConfigurations.of(
+                starterCandidates().stream()
+                    .map(name -> ClassUtils.resolveClassName(name, getClass().getClassLoader()))
+                    .toArray(Class<?>[]::new)));
+  }
+
+  private List<String> starterCandidates() {
+    ImportCandidates candidates =
+        ImportCandidates.load(AutoConfiguration.class, getClass().getClassLoader());
+
+    return StreamSupport.stream(candidates.spliterator(), false)
+        .filter(name -> name.startsWith(PACKAGE + "."))
+        .toList();
+  }
+}
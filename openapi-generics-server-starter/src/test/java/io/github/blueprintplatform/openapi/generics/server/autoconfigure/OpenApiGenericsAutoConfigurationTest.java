@@ -0,0 +1,83 @@
+package io.github.blueprintplatform.openapi.generics.server.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PrecomputedOpenApiDocument;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springdoc.core.models.GroupedOpenApi;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+@Tag("unit")
+@DisplayName("Unit Test: OpenApiGenericsAutoConfiguration")
+class OpenApiGenericsAutoConfigurationTest {
+
+  private static final String PRECOMPUTED =
+      "app.openapi.precomputed.location=classpath:openapi-generics/precomputed-openapi.json";
+
+  /** Uses the conversion service {@code SpringApplication} installs (e.g. for {@code Set} values). */
+  private final WebApplicationContextRunner runner =
+      new WebApplicationContextRunner()
+          .withInitializer(
+              context ->
+                  context
+                      .getBeanFactory()
+                      .setConversionService(ApplicationConversionService.getSharedInstance()))
+          .withConfiguration(AutoConfigurations.of(OpenApiGenericsAutoConfiguration.class));
+
+  @Test
+  @DisplayName("precomputed location -> customizer serves the snapshot")
+  void precomputed_appliedByCustomizer() {
+    runner
+        .withPropertyValues(PRECOMPUTED)
+        .run(
+            context -> {
+              assertNotNull(context.getBean(PrecomputedOpenApiDocument.class));
+
+              OpenAPI openApi = new OpenAPI();
+              context.getBean("openApiGenericsCustomizer", OpenApiCustomizer.class).customise(openApi);
+
+              assertTrue(openApi.getPaths().containsKey("/v1/customers"));
+            });
+  }
+
+  @Test
+  @DisplayName("precomputed location + GroupedOpenApi -> startup fails")
+  void precomputed_withGroups_fails() {
+    runner
+        .withPropertyValues(PRECOMPUTED)
+        .withBean(
+            GroupedOpenApi.class,
+            () -> GroupedOpenApi.builder().group("customers").pathsToMatch("/v1/**").build())
+        .run(
+            context -> {
+              assertNotNull(context.getStartupFailure());
+
+              Throwable cause = context.getStartupFailure();
+              while (cause.getCause() != null) {
+                cause = cause.getCause();
+              }
+              assertInstanceOf(IllegalStateException.class, cause);
+              assertTrue(cause.getMessage().contains("GroupedOpenApi"));
+            });
+  }
+
+  @Test
+  @DisplayName("no precomputed location -> no snapshot bean, groups are allowed")
+  void noPrecomputed_groupsAllowed() {
+    runner
+        .withBean(
+            GroupedOpenApi.class,
+            () -> GroupedOpenApi.builder().group("customers").pathsToMatch("/v1/**").build())
+        .run(
+            context -> {
+              assertNull(context.getStartupFailure());
+              assertTrue(context.getBeansOfType(PrecomputedOpenApiDocument.class).isEmpty());
+            });
+  }
+}
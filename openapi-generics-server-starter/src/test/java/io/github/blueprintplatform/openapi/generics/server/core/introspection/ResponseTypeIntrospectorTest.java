@@ -0,0 +1,251 @@
+package io.github.blueprintplatform.openapi.generics.server.core.introspection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+@Tag("unit")
+@DisplayName("Unit Test: ResponseTypeIntrospector")
+class ResponseTypeIntrospectorTest {
+
+  @Test
+  @DisplayName("extractDataRefName() -> contract Page and CursorPage are recognized as containers")
+  void extractDataRefName_matchesContractContainers() {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector();
+
+    assertEquals(
+        Optional.of("PageCustomerDto"),
+        introspector.extractDataRefName(serviceResponseOf(Page.class, CustomerDto.class)));
+    assertEquals(
+        Optional.of("CursorPageCustomerDto"),
+        introspector.extractDataRefName(serviceResponseOf(CursorPage.class, CustomerDto.class)));
+  }
+
+  @Test
+  @DisplayName("extractDataRefName() -> a foreign type named Page is not a container")
+  void extractDataRefName_ignoresSameNamedForeignContainer() {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector();
+
+    Optional<String> ref =
+        introspector.extractDataRefName(
+            serviceResponseOf(ForeignTypes.Page.class, CustomerDto.class));
+
+    assertTrue(ref.isEmpty());
+  }
+
+  @Test
+  @DisplayName("extractDataRefName() -> a custom container configured by FQCN is recognized")
+  void extractDataRefName_matchesConfiguredContainer() {
+    ResponseTypeIntrospector introspector =
+        new ResponseTypeIntrospector(0, Set.of(ForeignTypes.Slice.class.getName()));
+
+    assertEquals(
+        Optional.of("SliceCustomerDto"),
+        introspector.extractDataRefName(
+            serviceResponseOf(ForeignTypes.Slice.class, CustomerDto.class)));
+    assertTrue(
+        introspector.extractDataRefName(serviceResponseOf(Page.class, CustomerDto.class)).isEmpty());
+  }
+
+  @Test
+  @DisplayName("constructor -> simple names of default containers resolve to the contract types")
+  void constructor_acceptsDefaultSimpleContainerNames() {
+    ResponseTypeIntrospector introspector =
+        new ResponseTypeIntrospector(0, Set.of("Page", " CursorPage ", ""));
+
+    assertEquals(
+        Optional.of("PageCustomerDto"),
+        introspector.extractDataRefName(serviceResponseOf(Page.class, CustomerDto.class)));
+    assertEquals(
+        Optional.of("CursorPageCustomerDto"),
+        introspector.extractDataRefName(serviceResponseOf(CursorPage.class, CustomerDto.class)));
+    assertTrue(
+        introspector
+            .extractDataRefName(serviceResponseOf(ForeignTypes.Page.class, CustomerDto.class))
+            .isEmpty());
+  }
+
+  @Test
+  @DisplayName("constructor -> any other unqualified container name is rejected")
+  void constructor_rejectsUnknownSimpleContainerName() {
+    IllegalStateException ex =
+        assertThrows(
+            IllegalStateException.class,
+            () -> new ResponseTypeIntrospector(0, Set.of("Slice")));
+
+    assertTrue(ex.getMessage().contains("'Slice'"));
+  }
+
+  @Test
+  @DisplayName("constructor -> blank container names fall back to the defaults")
+  void constructor_blankContainerNames_useDefaults() {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector(0, Set.of(""));
+
+    assertEquals(
+        Optional.of("PageCustomerDto"),
+        introspector.extractDataRefName(serviceResponseOf(Page.class, CustomerDto.class)));
+  }
+
+  @Test
+  @DisplayName("constructor -> two containers sharing a simple name are rejected")
+  void constructor_rejectsConflictingSimpleNames() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new ResponseTypeIntrospector(
+                0, Set.of(Page.class.getName(), ForeignTypes.Page.class.getName())));
+  }
+
+  @Test
+  @DisplayName("extractDataRefName() -> repeated type is served from the cache")
+  void extractDataRefName_repeatedType_hitsCache() {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector();
+
+    Optional<String> first =
+        introspector.extractDataRefName(serviceResponseOf(Page.class, CustomerDto.class));
+    Optional<String> second =
+        introspector.extractDataRefName(serviceResponseOf(Page.class, CustomerDto.class));
+
+    assertEquals(Optional.of("PageCustomerDto"), first);
+    assertEquals(first, second);
+    assertEquals(1, introspector.getCacheMisses());
+    assertEquals(1, introspector.getCacheHits());
+  }
+
+  @Test
+  @DisplayName("extractDataRefName() -> same concrete return type on different classes shares one entry")
+  void extractDataRefName_concreteTypeAcrossClasses_sharesEntry() throws Exception {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector();
+
+    introspector.extractDataRefName(returnType(CustomerController.class, "customer"));
+    introspector.extractDataRefName(returnType(AdminController.class, "customer"));
+
+    assertEquals(1, introspector.getCacheMisses());
+    assertEquals(1, introspector.getCacheHits());
+  }
+
+  @Test
+  @DisplayName("extractDataRefName() -> type variables are keyed by their resolution context")
+  void extractDataRefName_typeVariables_keyedByResolvableType() throws Exception {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector();
+
+    Optional<String> customer =
+        introspector.extractDataRefName(returnType(CustomerController.class, "item"));
+    Optional<String> order =
+        introspector.extractDataRefName(returnType(OrderController.class, "item"));
+    Optional<String> customerAgain =
+        introspector.extractDataRefName(returnType(CustomerController.class, "item"));
+
+    assertEquals(Optional.of("CustomerDto"), customer);
+    assertEquals(Optional.of("OrderDto"), order);
+    assertEquals(customer, customerAgain);
+    assertEquals(2, introspector.getCacheMisses());
+    assertEquals(1, introspector.getCacheHits());
+  }
+
+  @Test
+  @DisplayName("extractDataRefName() -> least recently used entry is evicted at capacity")
+  void extractDataRefName_evictsLeastRecentlyUsed() {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector(2);
+    ResolvableType customer = serviceResponseOf(CustomerDto.class);
+    ResolvableType order = serviceResponseOf(OrderDto.class);
+    ResolvableType page = serviceResponseOf(Page.class, CustomerDto.class);
+
+    introspector.extractDataRefName(customer);
+    introspector.extractDataRefName(order);
+    introspector.extractDataRefName(customer); // hit → order is now eldest
+    introspector.extractDataRefName(page); // evicts order
+
+    assertEquals(3, introspector.getCacheMisses());
+    assertEquals(1, introspector.getCacheHits());
+
+    introspector.extractDataRefName(customer);
+    assertEquals(2, introspector.getCacheHits());
+
+    introspector.extractDataRefName(order);
+    assertEquals(4, introspector.getCacheMisses());
+  }
+
+  @Test
+  @DisplayName("extractDataRefName() -> cache size 0 disables memoization")
+  void extractDataRefName_cacheDisabled() {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector(0);
+
+    introspector.extractDataRefName(serviceResponseOf(CustomerDto.class));
+    introspector.extractDataRefName(serviceResponseOf(CustomerDto.class));
+
+    assertEquals(0, introspector.getCacheSize());
+    assertEquals(0, introspector.getCacheHits());
+    assertEquals(0, introspector.getCacheMisses());
+  }
+
+  @Test
+  @DisplayName("extractStreamItemRefName() -> streaming lookups do not reuse data entries")
+  void extractStreamItemRefName_separateFromDataEntries() {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector();
+    ResolvableType type = serviceResponseOf(CustomerDto.class);
+
+    assertEquals(Optional.of("CustomerDto"), introspector.extractDataRefName(type));
+    assertTrue(introspector.extractStreamItemRefName(type).isEmpty());
+
+    assertEquals(2, introspector.getCacheMisses());
+    assertEquals(0, introspector.getCacheHits());
+  }
+
+  private static ResolvableType serviceResponseOf(Class<?> data) {
+    return ResolvableType.forClassWithGenerics(ServiceResponse.class, data);
+  }
+
+  private static ResolvableType returnType(Class<?> controller, String method) throws Exception {
+    return ResolvableType.forMethodReturnType(controller.getMethod(method), controller);
+  }
+
+  private static ResolvableType serviceResponseOf(Class<?> container, Class<?> item) {
+    return ResolvableType.forClassWithGenerics(
+        ServiceResponse.class, ResolvableType.forClassWithGenerics(container, item));
+  }
+
+  static class CustomerDto {}
+
+  static class OrderDto {}
+
+  /** Controller base whose return types are resolved against the subclass. */
+  public static class BaseController<T> {
+
+    public ServiceResponse<T> item() {
+      return null;
+    }
+
+    public ServiceResponse<CustomerDto> customer() {
+      return null;
+    }
+  }
+
+  public static class CustomerController extends BaseController<CustomerDto> {}
+
+  public static class OrderController extends BaseController<OrderDto> {}
+
+  /** Declares its own method with the same return type as {@link BaseController#customer()}. */
+  public static class AdminController {
+
+    public ServiceResponse<CustomerDto> customer() {
+      return null;
+    }
+  }
+
+  /** Types outside the contract package that share container names. */
+  static class ForeignTypes {
+
+    static class Page<T> {}
+
+    static class Slice<T> {}
+  }
+}
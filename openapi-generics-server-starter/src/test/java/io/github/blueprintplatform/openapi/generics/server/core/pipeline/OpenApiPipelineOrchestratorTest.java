@@ -0,0 +1,307 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeDiscoveryStrategy;
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeIntrospector;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaEnricher;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.WrapperSchemaProcessor;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.base.BaseSchemaRegistrar;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.base.SchemaGenerationControlMarker;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions;
+import io.github.blueprintplatform.openapi.generics.server.core.traversal.SchemaVisitor;
+import io.github.blueprintplatform.openapi.generics.server.core.validation.OpenApiContractGuard;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+@Tag("unit")
+@DisplayName("Unit Test: OpenApiPipelineOrchestrator")
+class OpenApiPipelineOrchestratorTest {
+
+  private static final ResolvableType PAGED_CUSTOMERS =
+      ResolvableType.forClassWithGenerics(
+          ServiceResponse.class, ResolvableType.forClassWithGenerics(Page.class, CustomerDto.class));
+
+  private static final ResolvableType CUSTOMER =
+      ResolvableType.forClassWithGenerics(ServiceResponse.class, CustomerDto.class);
+
+  private static final ResolvableType ORDER =
+      ResolvableType.forClassWithGenerics(ServiceResponse.class, OrderDto.class);
+
+  @Test
+  @DisplayName("run() -> custom visitor sees a container schema visited before its wrapper as marked")
+  void run_markingCompletesBeforeValidators() {
+    Map<String, Boolean> ignoredWhenVisited = new LinkedHashMap<>();
+    SchemaVisitor recorder =
+        (name, schema, schemas) ->
+            ignoredWhenVisited.put(
+                name,
+                schema.getExtensions() != null
+                    && Boolean.TRUE.equals(
+                        schema.getExtensions().get(VendorExtensions.IGNORE_MODEL)));
+
+    // PageCustomerDto precedes the wrapper that causes it to be marked.
+    OpenAPI openApi = pagedCustomersDocument();
+
+    orchestrator(PipelineListener.NOOP, List.of(recorder)).run(openApi);
+
+    assertEquals(Boolean.TRUE, ignoredWhenVisited.get("PageCustomerDto"));
+    assertEquals(Boolean.FALSE, ignoredWhenVisited.get("CustomerDto"));
+  }
+
+  @Test
+  @DisplayName("run() -> marking and validation are reported as one VALIDATION stage")
+  void run_reportsMarkingAndValidationAsOneStage() {
+    List<PipelineStage> stages = new ArrayList<>();
+    PipelineListener listener =
+        new PipelineListener() {
+          @Override
+          public void onStageCompleted(
+              PipelineStage stage, long durationNanos, long allocatedBytes) {
+            stages.add(stage);
+          }
+        };
+
+    orchestrator(listener, List.of()).run(pagedCustomersDocument());
+
+    assertEquals(
+        List.of(
+            PipelineStage.BASE_SCHEMA_REGISTRATION,
+            PipelineStage.DISCOVERY,
+            PipelineStage.INTROSPECTION,
+            PipelineStage.WRAPPER_PROCESSING,
+            PipelineStage.VALIDATION),
+        stages);
+  }
+
+  @Test
+  @DisplayName("run() -> the same document instance is processed only once")
+  void run_sameDocumentTwice_processedOnce() {
+    List<PipelineStage> stages = new ArrayList<>();
+    PipelineListener listener =
+        new PipelineListener() {
+          @Override
+          public void onStageCompleted(
+              PipelineStage stage, long durationNanos, long allocatedBytes) {
+            stages.add(stage);
+          }
+        };
+    OpenApiPipelineOrchestrator orchestrator = orchestrator(listener, List.of());
+    OpenAPI openApi = pagedCustomersDocument();
+
+    orchestrator.run(openApi);
+    int stagesAfterFirstRun = stages.size();
+    orchestrator.run(openApi);
+
+    assertEquals(stagesAfterFirstRun, stages.size());
+    assertEquals(1, orchestrator.getProcessedDocumentCount());
+    assertEquals(1, orchestrator.getTrackedDocumentCount());
+  }
+
+  @Test
+  @DisplayName("run() -> each group only gets wrappers for the responses of its own operations")
+  void run_groupsGetWrappersForTheirOwnResponsesOnly() {
+    OpenApiPipelineOrchestrator orchestrator =
+        orchestrator(() -> Set.of(CUSTOMER, ORDER), PipelineListener.NOOP, List.of());
+
+    // Group "customers" accepts an OrderDto as request body but never returns one.
+    OpenAPI customers =
+        groupDocument("ServiceResponseCustomerDto", "OrderDto", "CustomerDto", "OrderDto");
+    OpenAPI orders = groupDocument("ServiceResponseOrderDto", null, "OrderDto");
+
+    orchestrator.run(customers);
+    orchestrator.run(orders);
+
+    assertTrue(isContractWrapper(customers, "ServiceResponseCustomerDto"));
+    assertFalse(customers.getComponents().getSchemas().containsKey("ServiceResponseOrderDto"));
+
+    assertTrue(isContractWrapper(orders, "ServiceResponseOrderDto"));
+    assertFalse(orders.getComponents().getSchemas().containsKey("ServiceResponseCustomerDto"));
+  }
+
+  @Test
+  @DisplayName("run() -> summary counts created and replaced wrappers")
+  void run_summaryCountsOutcomes() {
+    OpenApiPipelineOrchestrator orchestrator =
+        orchestrator(() -> Set.of(CUSTOMER, PAGED_CUSTOMERS), PipelineListener.NOOP, List.of());
+
+    // ServiceResponseCustomerDto is Springdoc's wrapper; the paged one is not in components.
+    OpenAPI openApi = groupDocument("ServiceResponseCustomerDto", null, "CustomerDto");
+    openApi.getComponents().addSchemas("PageCustomerDto", new ObjectSchema());
+    openApi.getPaths().addPathItem("/customers", get("ServiceResponsePageCustomerDto", null));
+
+    orchestrator.run(openApi);
+
+    PipelineSummary summary = orchestrator.getLastSummary();
+    assertEquals(2, summary.usedRefs());
+    assertEquals(1, summary.created());
+    assertEquals(1, summary.replaced());
+  }
+
+  @Test
+  @DisplayName("run() -> groups never share wrapper schema instances")
+  void run_groupsDoNotShareWrapperInstances() {
+    OpenApiPipelineOrchestrator orchestrator =
+        orchestrator(() -> Set.of(CUSTOMER), PipelineListener.NOOP, List.of());
+
+    OpenAPI first = groupDocument("ServiceResponseCustomerDto", null, "CustomerDto");
+    OpenAPI second = groupDocument("ServiceResponseCustomerDto", null, "CustomerDto");
+
+    orchestrator.run(first);
+    orchestrator.run(second);
+
+    assertNotSame(
+        first.getComponents().getSchemas().get("ServiceResponseCustomerDto"),
+        second.getComponents().getSchemas().get("ServiceResponseCustomerDto"));
+  }
+
+  @Test
+  @DisplayName("run() -> discovery runs once across groups")
+  void run_discoveryIsSharedAcrossGroups() {
+    AtomicInteger discoveries = new AtomicInteger();
+    OpenApiPipelineOrchestrator orchestrator =
+        orchestrator(
+            () -> {
+              discoveries.incrementAndGet();
+              return Set.of(CUSTOMER, ORDER);
+            },
+            PipelineListener.NOOP,
+            List.of());
+
+    orchestrator.run(groupDocument("ServiceResponseCustomerDto", null, "CustomerDto"));
+    orchestrator.run(groupDocument("ServiceResponseOrderDto", null, "OrderDto"));
+
+    assertEquals(1, discoveries.get());
+  }
+
+  @Test
+  @DisplayName("run() -> a document without operations gets no wrappers")
+  void run_documentWithoutOperations_getsNoWrappers() {
+    OpenAPI openApi = pagedCustomersDocument();
+    openApi.setPaths(null);
+
+    orchestrator(PipelineListener.NOOP, List.of()).run(openApi);
+
+    assertFalse(
+        openApi.getComponents().getSchemas().containsKey("ServiceResponsePageCustomerDto"));
+  }
+
+  private static OpenApiPipelineOrchestrator orchestrator(
+      PipelineListener listener, List<SchemaVisitor> visitors) {
+    return orchestrator(() -> Set.of(PAGED_CUSTOMERS), listener, visitors);
+  }
+
+  private static OpenApiPipelineOrchestrator orchestrator(
+      ResponseTypeDiscoveryStrategy discovery,
+      PipelineListener listener,
+      List<SchemaVisitor> visitors) {
+    return new OpenApiPipelineOrchestrator(
+        new BaseSchemaRegistrar(),
+        new SchemaGenerationControlMarker(),
+        discovery,
+        new ResponseTypeIntrospector(),
+        new WrapperSchemaProcessor(new WrapperSchemaEnricher(), null),
+        new OpenApiContractGuard(),
+        listener,
+        visitors);
+  }
+
+  private static OpenAPI pagedCustomersDocument() {
+    Schema<?> page =
+        new ObjectSchema()
+            .addProperty(
+                "content",
+                new ArraySchema().items(new Schema<>().$ref("#/components/schemas/CustomerDto")));
+
+    Components components =
+        new Components()
+            .addSchemas("PageCustomerDto", page)
+            .addSchemas("CustomerDto", new ObjectSchema());
+
+    return new OpenAPI()
+        .paths(new Paths().addPathItem("/customers", get("ServiceResponsePageCustomerDto", null)))
+        .components(components);
+  }
+
+  /**
+   * Builds a grouped document as Springdoc would: one operation returning {@code responseSchema}
+   * (optionally accepting {@code requestSchema}), the Springdoc wrapper and the given DTOs.
+   */
+  private static OpenAPI groupDocument(
+      String responseSchema, String requestSchema, String... dtoNames) {
+    Components components =
+        new Components()
+            .addSchemas(
+                responseSchema,
+                new ObjectSchema()
+                    .addProperty(
+                        "data",
+                        new Schema<>()
+                            .$ref(
+                                "#/components/schemas/"
+                                    + responseSchema.substring("ServiceResponse".length()))));
+
+    for (String dtoName : dtoNames) {
+      components.addSchemas(dtoName, new ObjectSchema());
+    }
+
+    return new OpenAPI()
+        .paths(new Paths().addPathItem("/" + responseSchema, get(responseSchema, requestSchema)))
+        .components(components);
+  }
+
+  private static PathItem get(String responseSchema, String requestSchema) {
+    Operation operation =
+        new Operation()
+            .responses(
+                new ApiResponses()
+                    .addApiResponse("200", new ApiResponse().content(content(responseSchema))));
+
+    if (requestSchema != null) {
+      operation.requestBody(new RequestBody().content(content(requestSchema)));
+    }
+
+    return new PathItem().post(operation);
+  }
+
+  private static Content content(String schemaName) {
+    return new Content()
+        .addMediaType(
+            "application/json",
+            new MediaType().schema(new Schema<>().$ref("#/components/schemas/" + schemaName)));
+  }
+
+  private static boolean isContractWrapper(OpenAPI openApi, String name) {
+    Schema<?> schema = openApi.getComponents().getSchemas().get(name);
+    return schema != null
+        && schema.getExtensions() != null
+        && schema.getExtensions().containsKey(VendorExtensions.API_WRAPPER);
+  }
+
+  static final class CustomerDto {}
+
+  static final class OrderDto {}
+}
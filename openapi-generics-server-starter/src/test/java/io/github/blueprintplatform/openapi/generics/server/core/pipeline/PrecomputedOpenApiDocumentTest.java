@@ -0,0 +1,175 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: PrecomputedOpenApiDocument")
+class PrecomputedOpenApiDocumentTest {
+
+  private static final String SNAPSHOT =
+      """
+      {
+        "openapi": "3.0.1",
+        "info": {"title": "Snapshot", "version": "1"},
+        "servers": [{"url": "http://snapshot"}],
+        "paths": {"/v1/customers": {"get": {"operationId": "getCustomers"}}},
+        "tags": [{"name": "customers"}],
+        "components": {
+          "schemas": {
+            "CustomerDto": {"type": "object", "properties": {"name": {"type": "string"}}},
+            "ServiceResponseCustomerDto": {"type": "object", "x-api-wrapper": true}
+          },
+          "securitySchemes": {
+            "bearer": {"type": "http", "scheme": "snapshot"},
+            "apiKey": {"type": "apiKey", "in": "header", "name": "X-API-KEY"}
+          }
+        }
+      }
+      """;
+
+  @Test
+  @DisplayName("load() -> reads a JSON document")
+  void load_json() {
+    PrecomputedOpenApiDocument document = load("openapi.json", SNAPSHOT);
+
+    assertEquals("openapi.json", document.getLocation());
+
+    OpenAPI openApi = new OpenAPI();
+    document.applyTo(openApi);
+
+    assertTrue(openApi.getPaths().containsKey("/v1/customers"));
+  }
+
+  @Test
+  @DisplayName("load() -> reads a YAML 3.1 document including webhooks")
+  void load_yaml31() {
+    String yaml =
+        """
+        openapi: 3.1.0
+        paths:
+          /v1/customers:
+            get:
+              operationId: getCustomers
+        webhooks:
+          customerCreated:
+            post:
+              operationId: customerCreated
+        """;
+
+    OpenAPI openApi = new OpenAPI();
+    load("openapi.yml", yaml).applyTo(openApi);
+
+    assertEquals(
+        "getCustomers", openApi.getPaths().get("/v1/customers").getGet().getOperationId());
+    assertTrue(openApi.getWebhooks().containsKey("customerCreated"));
+  }
+
+  @Test
+  @DisplayName("load() -> document without an openapi version is rejected")
+  void load_notOpenApi_fails() {
+    IllegalStateException ex =
+        assertThrows(IllegalStateException.class, () -> load("openapi.json", "{\"paths\":{}}"));
+
+    assertTrue(ex.getMessage().contains("openapi.json"));
+  }
+
+  @Test
+  @DisplayName("load() -> unreadable content is rejected")
+  void load_unreadable_fails() {
+    assertThrows(IllegalStateException.class, () -> load("openapi.json", "{not json"));
+  }
+
+  @Test
+  @DisplayName("applyTo() -> paths and tags come from the snapshot, info and servers stay runtime")
+  void applyTo_replacesContractSectionsOnly() {
+    OpenAPI openApi =
+        new OpenAPI()
+            .info(new Info().title("Runtime").version("2"))
+            .servers(List.of(new Server().url("http://runtime")));
+
+    load("openapi.json", SNAPSHOT).applyTo(openApi);
+
+    assertEquals("Runtime", openApi.getInfo().getTitle());
+    assertEquals("http://runtime", openApi.getServers().get(0).getUrl());
+    assertEquals(List.of("/v1/customers"), List.copyOf(openApi.getPaths().keySet()));
+    assertEquals("customers", openApi.getTags().get(0).getName());
+  }
+
+  @Test
+  @DisplayName("applyTo() -> snapshot schemas win, runtime-only schemas are kept")
+  void applyTo_mergesSchemas() {
+    OpenAPI openApi =
+        new OpenAPI()
+            .components(
+                new Components()
+                    .addSchemas("CustomerDto", new StringSchema())
+                    .addSchemas("RuntimeOnly", new ObjectSchema()));
+
+    load("openapi.json", SNAPSHOT).applyTo(openApi);
+
+    var schemas = openApi.getComponents().getSchemas();
+    assertEquals("object", schemas.get("CustomerDto").getType());
+    assertTrue(schemas.containsKey("RuntimeOnly"));
+    assertTrue(schemas.containsKey("ServiceResponseCustomerDto"));
+  }
+
+  @Test
+  @DisplayName("applyTo() -> runtime security schemes win, snapshot-only schemes are added")
+  void applyTo_runtimeSecuritySchemesWin() {
+    SecurityScheme bearer = new SecurityScheme().type(SecurityScheme.Type.HTTP).scheme("bearer");
+    OpenAPI openApi = new OpenAPI().components(new Components().addSecuritySchemes("bearer", bearer));
+
+    load("openapi.json", SNAPSHOT).applyTo(openApi);
+
+    var schemes = openApi.getComponents().getSecuritySchemes();
+    assertSame(bearer, schemes.get("bearer"));
+    assertEquals("X-API-KEY", schemes.get("apiKey").getName());
+  }
+
+  @Test
+  @DisplayName("applyTo() -> missing runtime components are created from the snapshot")
+  void applyTo_withoutRuntimeComponents() {
+    OpenAPI openApi = new OpenAPI();
+
+    load("openapi.json", SNAPSHOT).applyTo(openApi);
+
+    assertEquals(2, openApi.getComponents().getSchemas().size());
+    assertEquals(2, openApi.getComponents().getSecuritySchemes().size());
+  }
+
+  @Test
+  @DisplayName("applyTo() -> every document receives its own model instances")
+  void applyTo_materializesFreshModel() {
+    PrecomputedOpenApiDocument document = load("openapi.json", SNAPSHOT);
+    OpenAPI first = new OpenAPI();
+    OpenAPI second = new OpenAPI();
+
+    document.applyTo(first);
+    document.applyTo(second);
+
+    assertNotSame(first.getPaths(), second.getPaths());
+    assertNotSame(
+        first.getComponents().getSchemas().get("CustomerDto"),
+        second.getComponents().getSchemas().get("CustomerDto"));
+    assertEquals(first.getPaths(), second.getPaths());
+  }
+
+  private static PrecomputedOpenApiDocument load(String location, String content) {
+    return PrecomputedOpenApiDocument.load(
+        location, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.blueprintplatform.openapi.generics.server.core.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import java.lang.ref.WeakReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: ProcessedDocumentTracker")
+class ProcessedDocumentTrackerTest {
+
+  private static final long GC_TIMEOUT_MILLIS = 10_000;
+
+  @Test
+  @DisplayName("markProcessed() -> first call accepts, repeated calls on the same instance refuse")
+  void markProcessed_guardsReprocessing() {
+    ProcessedDocumentTracker tracker = new ProcessedDocumentTracker();
+    OpenAPI openApi = document("a");
+
+    assertTrue(tracker.markProcessed(openApi));
+    assertFalse(tracker.markProcessed(openApi));
+    assertFalse(tracker.markProcessed(openApi));
+
+    assertEquals(1, tracker.processedCount());
+    assertEquals(1, tracker.trackedCount());
+  }
+
+  @Test
+  @DisplayName("markProcessed() -> structurally equal documents are tracked separately (identity)")
+  void markProcessed_tracksByIdentity() {
+    ProcessedDocumentTracker tracker = new ProcessedDocumentTracker();
+    OpenAPI first = document("same");
+    OpenAPI second = document("same");
+
+    assertEquals(first, second);
+
+    assertTrue(tracker.markProcessed(first));
+    assertTrue(tracker.markProcessed(second));
+
+    assertEquals(2, tracker.processedCount());
+    assertEquals(2, tracker.trackedCount());
+  }
+
+  @Test
+  @DisplayName("markProcessed() -> mutating a tracked document does not defeat the guard")
+  void markProcessed_ignoresMutation() {
+    ProcessedDocumentTracker tracker = new ProcessedDocumentTracker();
+    OpenAPI openApi = document("before");
+
+    assertTrue(tracker.markProcessed(openApi));
+    openApi.getInfo().setTitle("after");
+
+    assertFalse(tracker.markProcessed(openApi));
+  }
+
+  @Test
+  @DisplayName("trackedCount() -> drops released documents while processedCount() keeps the total")
+  void trackedCount_dropsDocumentsReleasedAfterGc() throws InterruptedException {
+    ProcessedDocumentTracker tracker = new ProcessedDocumentTracker();
+    OpenAPI kept = document("kept");
+
+    assertTrue(tracker.markProcessed(kept));
+    WeakReference<OpenAPI> released = markDiscarded(tracker);
+
+    assertEquals(2, tracker.processedCount());
+
+    long deadline = System.currentTimeMillis() + GC_TIMEOUT_MILLIS;
+    while ((released.get() != null || tracker.trackedCount() != 1)
+        && System.currentTimeMillis() < deadline) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertNull(released.get(), "discarded document should have been collected");
+    assertEquals(1, tracker.trackedCount());
+    assertEquals(2, tracker.processedCount());
+
+    assertFalse(tracker.markProcessed(kept));
+  }
+
+  /** Marks a document that is unreachable once this method returns. */
+  private static WeakReference<OpenAPI> markDiscarded(ProcessedDocumentTracker tracker) {
+    OpenAPI discarded = document("discarded");
+    assertTrue(tracker.markProcessed(discarded));
+    return new WeakReference<>(discarded);
+  }
+
+  private static OpenAPI document(String title) {
+    return new OpenAPI().info(new Info().title(title).version("1"));
+  }
+}
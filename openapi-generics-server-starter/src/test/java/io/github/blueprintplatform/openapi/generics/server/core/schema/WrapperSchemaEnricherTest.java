@@ -0,0 +1,100 @@
+package io.github.blueprintplatform.openapi.generics.server.core.schema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: WrapperSchemaEnricher")
+class WrapperSchemaEnricherTest {
+
+  private static final String SLICE = "com.acme.paging.Slice";
+
+  @Test
+  @DisplayName("enrich() -> container name, FQCN and item are written as extensions")
+  void enrich_addsContainerTypeExtension() {
+    OpenAPI openApi = document("PageCustomerDto");
+
+    new WrapperSchemaEnricher().enrich(openApi, "ServiceResponsePageCustomerDto", "PageCustomerDto");
+
+    Map<String, Object> ext = wrapper(openApi, "ServiceResponsePageCustomerDto").getExtensions();
+    assertEquals("Page", ext.get(VendorExtensions.DATA_CONTAINER));
+    assertEquals(Page.class.getName(), ext.get(VendorExtensions.DATA_CONTAINER_TYPE));
+    assertEquals("CustomerDto", ext.get(VendorExtensions.DATA_ITEM));
+  }
+
+  @Test
+  @DisplayName("enrich() -> a custom container is published with its own FQCN")
+  void enrich_publishesConfiguredContainerType() {
+    OpenAPI openApi = document("SliceCustomerDto");
+
+    new WrapperSchemaEnricher(Set.of(SLICE))
+        .enrich(openApi, "ServiceResponseSliceCustomerDto", "SliceCustomerDto");
+
+    Map<String, Object> ext = wrapper(openApi, "ServiceResponseSliceCustomerDto").getExtensions();
+    assertEquals("Slice", ext.get(VendorExtensions.DATA_CONTAINER));
+    assertEquals(SLICE, ext.get(VendorExtensions.DATA_CONTAINER_TYPE));
+  }
+
+  @Test
+  @DisplayName("resolveContainer() -> returns null for an unconfigured container")
+  void resolveContainer_ignoresUnconfiguredContainer() {
+    OpenAPI openApi = document("SliceCustomerDto");
+
+    assertNull(new WrapperSchemaEnricher().resolveContainer(openApi, "SliceCustomerDto"));
+  }
+
+  @Test
+  @DisplayName("constructor -> legacy simple name of a default container is still accepted")
+  void constructor_acceptsLegacySimpleName() {
+    OpenAPI openApi = document("PageCustomerDto");
+
+    new WrapperSchemaEnricher(Set.of("Page"))
+        .enrich(openApi, "ServiceResponsePageCustomerDto", "PageCustomerDto");
+
+    Map<String, Object> ext = wrapper(openApi, "ServiceResponsePageCustomerDto").getExtensions();
+    assertEquals("Page", ext.get(VendorExtensions.DATA_CONTAINER));
+    assertEquals(Page.class.getName(), ext.get(VendorExtensions.DATA_CONTAINER_TYPE));
+  }
+
+  @Test
+  @DisplayName("constructor -> legacy simple name of a custom container is rejected")
+  void constructor_rejectsUnknownSimpleName() {
+    IllegalStateException ex =
+        assertThrows(IllegalStateException.class, () -> new WrapperSchemaEnricher(Set.of("Slice")));
+
+    assertTrue(ex.getMessage().contains("'Slice'"));
+    assertTrue(ex.getMessage().contains("CursorPage, Page"));
+  }
+
+  private static OpenAPI document(String containerName) {
+    Schema<?> container =
+        new ObjectSchema()
+            .addProperty(
+                "content",
+                new ArraySchema().items(new Schema<>().$ref("#/components/schemas/CustomerDto")));
+
+    Components components =
+        new Components()
+            .addSchemas("CustomerDto", new ObjectSchema())
+            .addSchemas(containerName, container)
+            .addSchemas("ServiceResponse" + containerName, new ObjectSchema());
+
+    return new OpenAPI().components(components);
+  }
+
+  private static Schema<?> wrapper(OpenAPI openApi, String name) {
+    return openApi.getComponents().getSchemas().get(name);
+  }
+}
@@ -0,0 +1,134 @@
+package io.github.blueprintplatform.openapi.generics.server.core.schema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: WrapperSchemaProcessor")
+class WrapperSchemaProcessorTest {
+
+  private static final String SERVICE_RESPONSE_REF = "#/components/schemas/ServiceResponse";
+
+  @Test
+  @DisplayName("forDocument() -> wrappers of one document share a single base $ref")
+  void forDocument_sharesBaseRefWithinDocument() {
+    WrapperSchemaProcessor processor = processor(true);
+    OpenAPI openApi = document("CustomerDto", "OrderDto");
+
+    WrapperSchemaProcessor.DocumentScope scope = processor.forDocument(openApi);
+    scope.process("CustomerDto");
+    scope.process("OrderDto");
+
+    Schema<?> customerBase = baseRef(openApi, "CustomerDto");
+    Schema<?> orderBase = baseRef(openApi, "OrderDto");
+
+    assertSame(customerBase, orderBase);
+    assertEquals(SERVICE_RESPONSE_REF, customerBase.get$ref());
+  }
+
+  @Test
+  @DisplayName("forDocument() -> different documents do not share the base $ref")
+  void forDocument_doesNotShareAcrossDocuments() {
+    WrapperSchemaProcessor processor = processor(true);
+    OpenAPI first = document("CustomerDto");
+    OpenAPI second = document("CustomerDto");
+
+    processor.forDocument(first).process("CustomerDto");
+    processor.forDocument(second).process("CustomerDto");
+
+    assertNotSame(baseRef(first, "CustomerDto"), baseRef(second, "CustomerDto"));
+  }
+
+  @Test
+  @DisplayName("shareBaseRef=false -> every wrapper gets its own base $ref")
+  void shareDisabled_createsBaseRefPerWrapper() {
+    WrapperSchemaProcessor processor = processor(false);
+    OpenAPI openApi = document("CustomerDto", "OrderDto");
+
+    WrapperSchemaProcessor.DocumentScope scope = processor.forDocument(openApi);
+    scope.process("CustomerDto");
+    scope.process("OrderDto");
+
+    assertNotSame(baseRef(openApi, "CustomerDto"), baseRef(openApi, "OrderDto"));
+    assertEquals(SERVICE_RESPONSE_REF, baseRef(openApi, "OrderDto").get$ref());
+  }
+
+  @Test
+  @DisplayName("process() -> new wrapper is CREATED, existing wrapper is REPLACED")
+  void process_reportsOutcome() {
+    WrapperSchemaProcessor processor = processor(true);
+    OpenAPI openApi = document("CustomerDto");
+
+    assertEquals(WrapperProcessingResult.CREATED, processor.process(openApi, "CustomerDto"));
+    assertEquals(WrapperProcessingResult.REPLACED, processor.process(openApi, "CustomerDto"));
+  }
+
+  @Test
+  @DisplayName("process() -> Springdoc's own wrapper is REPLACED by the contract wrapper")
+  void process_replacesSpringdocWrapper() {
+    WrapperSchemaProcessor processor = processor(true);
+    OpenAPI openApi = document("CustomerDto");
+    Schema<?> springdocWrapper =
+        new ObjectSchema()
+            .addProperty("data", new Schema<>().$ref("#/components/schemas/CustomerDto"));
+    openApi.getComponents().addSchemas("ServiceResponseCustomerDto", springdocWrapper);
+
+    assertEquals(WrapperProcessingResult.REPLACED, processor.process(openApi, "CustomerDto"));
+
+    Schema<?> wrapper = openApi.getComponents().getSchemas().get("ServiceResponseCustomerDto");
+    assertNotSame(springdocWrapper, wrapper);
+    assertEquals(SERVICE_RESPONSE_REF, wrapper.getAllOf().get(0).get$ref());
+  }
+
+  @Test
+  @DisplayName("process() -> an already canonical wrapper is still rebuilt (authoritative)")
+  void process_rebuildsCanonicalWrapper() {
+    WrapperSchemaProcessor processor = processor(true);
+    OpenAPI openApi = document("CustomerDto");
+
+    processor.process(openApi, "CustomerDto");
+    Schema<?> first = openApi.getComponents().getSchemas().get("ServiceResponseCustomerDto");
+
+    assertEquals(WrapperProcessingResult.REPLACED, processor.process(openApi, "CustomerDto"));
+
+    Schema<?> second = openApi.getComponents().getSchemas().get("ServiceResponseCustomerDto");
+    assertNotSame(first, second);
+    assertEquals(first, second);
+  }
+
+  @Test
+  @DisplayName("processStreaming() -> CREATED first, REPLACED afterwards")
+  void processStreaming_reportsOutcome() {
+    WrapperSchemaProcessor processor = processor(true);
+    OpenAPI openApi = document("CustomerDto");
+
+    assertEquals(
+        WrapperProcessingResult.CREATED, processor.processStreaming(openApi, "CustomerDto"));
+    assertEquals(
+        WrapperProcessingResult.REPLACED, processor.processStreaming(openApi, "CustomerDto"));
+  }
+
+  private static WrapperSchemaProcessor processor(boolean shareBaseRef) {
+    return new WrapperSchemaProcessor(new WrapperSchemaEnricher(), null, shareBaseRef);
+  }
+
+  private static OpenAPI document(String... dtoNames) {
+    Components components = new Components();
+    for (String dtoName : dtoNames) {
+      components.addSchemas(dtoName, new ObjectSchema());
+    }
+    return new OpenAPI().components(components);
+  }
+
+  private static Schema<?> baseRef(OpenAPI openApi, String ref) {
+    Schema<?> wrapper = openApi.getComponents().getSchemas().get("ServiceResponse" + ref);
+    return wrapper.getAllOf().get(0);
+  }
+}
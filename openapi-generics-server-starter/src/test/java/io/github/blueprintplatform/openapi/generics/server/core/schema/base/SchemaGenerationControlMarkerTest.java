@@ -0,0 +1,91 @@
+package io.github.blueprintplatform.openapi.generics.server.core.schema.base;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: SchemaGenerationControlMarker")
+class SchemaGenerationControlMarkerTest {
+
+  private final SchemaGenerationControlMarker marker = new SchemaGenerationControlMarker();
+
+  @Test
+  @DisplayName("mark() -> canonical base schemas are marked")
+  void mark_canonicalBaseSchemas() {
+    OpenAPI openApi =
+        document()
+            .schema("ServiceResponse", new ObjectSchema())
+            .schema("Meta", new ObjectSchema())
+            .schema("CustomerDto", new ObjectSchema());
+
+    marker.mark(openApi);
+
+    assertTrue(isIgnored(openApi, "ServiceResponse"));
+    assertTrue(isIgnored(openApi, "Meta"));
+    assertFalse(isIgnored(openApi, "CustomerDto"));
+  }
+
+  @Test
+  @DisplayName("mark() -> container schema of a container wrapper is marked, item is not")
+  void mark_derivedContainerSchema() {
+    OpenAPI openApi =
+        document()
+            .schema("PageCustomerDto", new ObjectSchema())
+            .schema("CustomerDto", new ObjectSchema())
+            .schema("ServiceResponsePageCustomerDto", containerWrapper("Page", "CustomerDto"));
+
+    marker.mark(openApi);
+
+    assertTrue(isIgnored(openApi, "PageCustomerDto"));
+    assertFalse(isIgnored(openApi, "CustomerDto"));
+    assertFalse(isIgnored(openApi, "ServiceResponsePageCustomerDto"));
+  }
+
+  @Test
+  @DisplayName("mark() -> schema whose wrapper names a different container is not marked")
+  void mark_mismatchingWrapper_notMarked() {
+    OpenAPI openApi =
+        document()
+            .schema("PageCustomerDto", new ObjectSchema())
+            .schema("ServiceResponsePageCustomerDto", containerWrapper("Slice", "CustomerDto"))
+            .schema("ServiceResponseCustomerDto", new ObjectSchema())
+            .schema("CustomerDto", new ObjectSchema());
+
+    marker.mark(openApi);
+
+    assertFalse(isIgnored(openApi, "PageCustomerDto"));
+    assertFalse(isIgnored(openApi, "CustomerDto"));
+  }
+
+  @Test
+  @DisplayName("mark() -> null document or missing components are ignored")
+  void mark_nullSafe() {
+    assertDoesNotThrow(() -> marker.mark(null));
+    assertDoesNotThrow(() -> marker.mark(new OpenAPI()));
+  }
+
+  private static OpenAPI document() {
+    return new OpenAPI().components(new Components());
+  }
+
+  private static Schema<?> containerWrapper(String container, String item) {
+    Schema<?> wrapper = new ObjectSchema();
+    wrapper.addExtension(VendorExtensions.DATA_CONTAINER, container);
+    wrapper.addExtension(VendorExtensions.DATA_ITEM, item);
+    return wrapper;
+  }
+
+  private static boolean isIgnored(OpenAPI openApi, String name) {
+    Schema<?> schema = openApi.getComponents().getSchemas().get(name);
+    return schema.getExtensions() != null
+        && Boolean.TRUE.equals(schema.getExtensions().get(VendorExtensions.IGNORE_MODEL));
+  }
+}
@@ -0,0 +1,160 @@
+package io.github.blueprintplatform.openapi.generics.server.core.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.server.core.schema.ServiceResponseSchemaFactory;
+import io.github.blueprintplatform.openapi.generics.server.core.schema.contract.VendorExtensions;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: OpenApiContractGuard")
+class OpenApiContractGuardTest {
+
+  @Test
+  @DisplayName("collect -> all violations are reported in order in a single exception")
+  void collect_reportsAllViolationsAtOnce() {
+    OpenApiContractGuard guard = new OpenApiContractGuard(false, ValidationMode.COLLECT);
+    OpenAPI openApi = brokenDocument();
+
+    OpenApiContractViolationException ex =
+        assertThrows(OpenApiContractViolationException.class, () -> guard.validate(openApi));
+
+    assertEquals(
+        List.of(
+            new ContractViolation(
+                "Meta",
+                ContractViolation.MISSING_BASE_SCHEMA,
+                "Missing required OpenAPI schema: 'Meta'"),
+            new ContractViolation(
+                "ServiceResponseNoAllOf",
+                ContractViolation.MISSING_ALL_OF,
+                "Wrapper schema 'ServiceResponseNoAllOf' must use allOf composition"),
+            new ContractViolation(
+                "ServiceResponseNoDatatype",
+                ContractViolation.MISSING_WRAPPER_DATATYPE,
+                "Wrapper schema 'ServiceResponseNoDatatype' is missing required extension: "
+                    + VendorExtensions.API_WRAPPER_DATATYPE)),
+        ex.getViolations());
+
+    assertSame(ex.getReport(), guard.lastReport());
+    assertFalse(guard.lastReport().isValid());
+  }
+
+  @Test
+  @DisplayName("fail-fast -> IllegalStateException is thrown on the first violation")
+  void failFast_throwsOnFirstViolation() {
+    OpenApiContractGuard guard = new OpenApiContractGuard(false, ValidationMode.FAIL_FAST);
+
+    IllegalStateException ex =
+        assertThrows(IllegalStateException.class, () -> guard.validate(brokenDocument()));
+
+    assertFalse(ex instanceof OpenApiContractViolationException);
+    assertEquals("Missing required OpenAPI schema: 'Meta'", ex.getMessage());
+    assertEquals(1, guard.lastReport().violations().size());
+  }
+
+  @Test
+  @DisplayName("collect -> valid document throws nothing and the report is valid")
+  void collect_validDocument() {
+    OpenApiContractGuard guard = new OpenApiContractGuard(false, ValidationMode.COLLECT);
+    OpenAPI openApi = validDocument();
+
+    assertDoesNotThrow(() -> guard.validate(openApi));
+    assertTrue(guard.lastReport().isValid());
+  }
+
+  @Test
+  @DisplayName("collect -> missing components are reported as MISSING_COMPONENTS")
+  void collect_missingComponents() {
+    OpenApiContractGuard guard = new OpenApiContractGuard(false, ValidationMode.COLLECT);
+
+    OpenApiContractViolationException ex =
+        assertThrows(
+            OpenApiContractViolationException.class, () -> guard.validate(new OpenAPI()));
+
+    assertEquals(1, ex.getViolations().size());
+    assertEquals(ContractViolation.MISSING_COMPONENTS, ex.getViolations().get(0).rule());
+  }
+
+  @Test
+  @DisplayName("collect -> consecutive validations do not carry over earlier violations")
+  void collect_doesNotLeakBetweenRuns() {
+    OpenApiContractGuard guard = new OpenApiContractGuard(false, ValidationMode.COLLECT);
+
+    assertThrows(OpenApiContractViolationException.class, () -> guard.validate(brokenDocument()));
+    assertDoesNotThrow(() -> guard.validate(validDocument()));
+    assertTrue(guard.lastReport().isValid());
+  }
+
+  @Test
+  @DisplayName("toMap() -> contains the machine-readable fields")
+  void report_toMap() {
+    ContractViolationReport report =
+        ContractViolationReport.of(
+            List.of(new ContractViolation("X", ContractViolation.MISSING_ALL_OF, "m")));
+
+    Map<String, Object> payload = report.toMap();
+
+    assertEquals(
+        List.of("valid", "validatedAt", "violationCount", "violations"),
+        List.copyOf(payload.keySet()));
+    assertEquals(Boolean.FALSE, payload.get("valid"));
+    assertEquals(1, payload.get("violationCount"));
+    assertEquals(
+        List.of(Map.of("schema", "X", "rule", ContractViolation.MISSING_ALL_OF, "message", "m")),
+        payload.get("violations"));
+  }
+
+  @Test
+  @DisplayName("ValidationMode.from() -> resolves known values and rejects unknown ones")
+  void validationMode_from() {
+    assertEquals(ValidationMode.FAIL_FAST, ValidationMode.from(null));
+    assertEquals(ValidationMode.FAIL_FAST, ValidationMode.from("fail-fast"));
+    assertEquals(ValidationMode.COLLECT, ValidationMode.from(" Collect "));
+    assertThrows(IllegalStateException.class, () -> ValidationMode.from("lenient"));
+  }
+
+  private static OpenAPI validDocument() {
+    Components components =
+        new Components()
+            .addSchemas("ServiceResponse", new ObjectSchema())
+            .addSchemas("ServiceResponseVoid", new ObjectSchema())
+            .addSchemas("Meta", new ObjectSchema())
+            .addSchemas("Sort", new ObjectSchema())
+            .addSchemas("CustomerDto", new ObjectSchema())
+            .addSchemas(
+                "ServiceResponseCustomerDto",
+                ServiceResponseSchemaFactory.createComposedWrapper("CustomerDto"));
+
+    return new OpenAPI().components(components);
+  }
+
+  /** Missing Meta, one wrapper without datatype, one wrapper without allOf. */
+  private static OpenAPI brokenDocument() {
+    Schema<?> noDatatype = ServiceResponseSchemaFactory.createComposedWrapper("CustomerDto");
+    noDatatype.getExtensions().remove(VendorExtensions.API_WRAPPER_DATATYPE);
+
+    Schema<?> noAllOf = new ObjectSchema();
+    noAllOf.addExtension(VendorExtensions.API_WRAPPER, true);
+    noAllOf.addExtension(VendorExtensions.API_WRAPPER_DATATYPE, "CustomerDto");
+
+    Components components =
+        new Components()
+            .addSchemas("ServiceResponse", new ObjectSchema())
+            .addSchemas("ServiceResponseVoid", new ObjectSchema())
+            .addSchemas("Sort", new ObjectSchema())
+            .addSchemas("CustomerDto", new ObjectSchema())
+            .addSchemas("ServiceResponseNoDatatype", noDatatype)
+            .addSchemas("ServiceResponseNoAllOf", noAllOf);
+
+    return new OpenAPI().components(components);
+  }
+}
@@ -0,0 +1,137 @@
+package io.github.blueprintplatform.openapi.generics.server.core.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.server.core.schema.ServiceResponseSchemaFactory;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: SchemaGraphValidator")
+class SchemaGraphValidatorTest {
+
+  private static final String SCHEMA_PREFIX = "#/components/schemas/";
+
+  @Test
+  @DisplayName("validate() -> valid graph produces no violations")
+  void validate_validGraph() {
+    Map<String, Schema> schemas = baseSchemas();
+    schemas.put("CustomerDto", new ObjectSchema());
+    schemas.put(
+        "ServiceResponseCustomerDto",
+        ServiceResponseSchemaFactory.createComposedWrapper("CustomerDto"));
+
+    assertTrue(new SchemaGraphValidator(1).validate(schemas).isEmpty());
+  }
+
+  @Test
+  @DisplayName("validate() -> reference to a missing schema is reported as DANGLING_REF")
+  void validate_danglingRef() {
+    Map<String, Schema> schemas = baseSchemas();
+    schemas.put(
+        "ServiceResponseCustomerDto",
+        ServiceResponseSchemaFactory.createComposedWrapper("CustomerDto"));
+
+    List<ContractViolation> violations = new SchemaGraphValidator(1).validate(schemas);
+
+    assertFalse(violations.isEmpty());
+    assertTrue(violations.stream().allMatch(v -> v.rule().equals(ContractViolation.DANGLING_REF)));
+    assertEquals("ServiceResponseCustomerDto", violations.get(0).schemaName());
+  }
+
+  @Test
+  @DisplayName("validate() -> wrapper reachable from itself is reported as WRAPPER_CYCLE")
+  void validate_wrapperCycle() {
+    Map<String, Schema> schemas = baseSchemas();
+    schemas.put(
+        "NodeDto",
+        new ObjectSchema().addProperty("parent", ref("ServiceResponseNodeDto")));
+    schemas.put(
+        "ServiceResponseNodeDto", ServiceResponseSchemaFactory.createComposedWrapper("NodeDto"));
+
+    List<ContractViolation> violations = new SchemaGraphValidator(1).validate(schemas);
+
+    assertEquals(1, violations.size());
+    assertEquals(ContractViolation.WRAPPER_CYCLE, violations.get(0).rule());
+  }
+
+  @Test
+  @DisplayName("validate() -> recursion between DTOs is not a violation")
+  void validate_dtoRecursionAllowed() {
+    Map<String, Schema> schemas = baseSchemas();
+    schemas.put("TreeDto", new ObjectSchema().addProperty("child", ref("TreeDto")));
+    schemas.put(
+        "ServiceResponseTreeDto", ServiceResponseSchemaFactory.createComposedWrapper("TreeDto"));
+
+    assertTrue(new SchemaGraphValidator(1).validate(schemas).isEmpty());
+  }
+
+  @Test
+  @DisplayName("validate() -> parallel and sequential runs produce the same result")
+  void validate_parallelMatchesSequential() {
+    Map<String, Schema> schemas = baseSchemas();
+    for (int i = 0; i < 500; i++) {
+      String dto = "Dto" + i;
+      if (i % 3 != 0) {
+        schemas.put(dto, new ObjectSchema().addProperty("next", ref("Dto" + (i + 1))));
+      }
+      schemas.put("ServiceResponse" + dto, ServiceResponseSchemaFactory.createComposedWrapper(dto));
+    }
+
+    List<ContractViolation> sequential =
+        new SchemaGraphValidator(Integer.MAX_VALUE).validate(schemas);
+    List<ContractViolation> parallel = new SchemaGraphValidator(1).validate(schemas);
+
+    assertFalse(sequential.isEmpty());
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  @DisplayName("OpenApiContractGuard -> parallel-threshold does not change the deep validation result")
+  void guard_parallelThresholdDoesNotChangeOutcome() {
+    Map<String, Schema> schemas = baseSchemas();
+    schemas.put(
+        "ServiceResponseCustomerDto",
+        ServiceResponseSchemaFactory.createComposedWrapper("CustomerDto"));
+
+    OpenApiContractGuard sequential =
+        new OpenApiContractGuard(true, ValidationMode.FAIL_FAST, Integer.MAX_VALUE);
+    OpenApiContractGuard parallel = new OpenApiContractGuard(true, ValidationMode.FAIL_FAST, 1);
+
+    OpenApiContractViolationException first =
+        assertThrows(
+            OpenApiContractViolationException.class,
+            () -> sequential.validate(document(schemas)));
+    OpenApiContractViolationException second =
+        assertThrows(
+            OpenApiContractViolationException.class, () -> parallel.validate(document(schemas)));
+
+    assertEquals(first.getViolations(), second.getViolations());
+  }
+
+  private static Map<String, Schema> baseSchemas() {
+    Map<String, Schema> schemas = new LinkedHashMap<>();
+    schemas.put("ServiceResponse", new ObjectSchema());
+    schemas.put("ServiceResponseVoid", new ObjectSchema());
+    schemas.put("Meta", new ObjectSchema());
+    schemas.put("Sort", new ObjectSchema());
+    return schemas;
+  }
+
+  private static OpenAPI document(Map<String, Schema> schemas) {
+    return new OpenAPI()
+        .components(new Components().schemas(schemas));
+  }
+
+  private static Schema<?> ref(String name) {
+    return new Schema<>().$ref(SCHEMA_PREFIX + name);
+  }
+}
@@ -0,0 +1,107 @@
+package io.github.blueprintplatform.openapi.generics.server.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PipelineStage;
+import io.github.blueprintplatform.openapi.generics.server.core.pipeline.PipelineSummary;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Unit Test: MicrometerPipelineListener")
+class MicrometerPipelineListenerTest {
+
+  private SimpleMeterRegistry registry;
+  private MicrometerPipelineListener listener;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    listener = new MicrometerPipelineListener(registry);
+  }
+
+  @Test
+  @DisplayName("constructor -> registers a timer and an allocation summary per stage eagerly")
+  void constructor_registersMetersEagerly() {
+    for (PipelineStage stage : PipelineStage.values()) {
+      assertEquals(0, timer(stage).count());
+      assertEquals(0, allocation(stage).count());
+    }
+
+    assertEquals(0.0, gauge(MicrometerPipelineListener.DISCOVERED_TYPES));
+    assertEquals(0.0, registry.get(MicrometerPipelineListener.DOCUMENTS).counter().count());
+  }
+
+  @Test
+  @DisplayName("onStageCompleted() -> records duration and allocation under the stage tag")
+  void onStageCompleted_recordsPerStage() {
+    listener.onStageCompleted(PipelineStage.WRAPPER_PROCESSING, 2_000_000, 4096);
+    listener.onStageCompleted(PipelineStage.WRAPPER_PROCESSING, 1_000_000, 1024);
+    listener.onStageCompleted(PipelineStage.VALIDATION, 500_000, 0);
+
+    Timer wrapper = timer(PipelineStage.WRAPPER_PROCESSING);
+    assertEquals(2, wrapper.count());
+    assertEquals(3.0, wrapper.totalTime(TimeUnit.MILLISECONDS), 1e-9);
+
+    DistributionSummary allocated = allocation(PipelineStage.WRAPPER_PROCESSING);
+    assertEquals(2, allocated.count());
+    assertEquals(5120.0, allocated.totalAmount());
+    assertEquals("bytes", allocated.getId().getBaseUnit());
+
+    assertEquals(1, timer(PipelineStage.VALIDATION).count());
+    assertEquals(0, timer(PipelineStage.DISCOVERY).count());
+  }
+
+  @Test
+  @DisplayName("onStageCompleted() -> negative allocation (unsupported JVM) is not recorded")
+  void onStageCompleted_skipsUnsupportedAllocation() {
+    listener.onStageCompleted(PipelineStage.DISCOVERY, 1_000, -1);
+
+    assertEquals(1, timer(PipelineStage.DISCOVERY).count());
+    assertEquals(0, allocation(PipelineStage.DISCOVERY).count());
+  }
+
+  @Test
+  @DisplayName("onPipelineCompleted() -> gauges reflect the last document, counter accumulates")
+  void onPipelineCompleted_updatesGaugesAndCounter() {
+    listener.onPipelineCompleted(new PipelineSummary(12, 7, 5, 3, 2));
+    listener.onPipelineCompleted(new PipelineSummary(12, 7, 4, 0, 4));
+
+    assertEquals(12.0, gauge(MicrometerPipelineListener.DISCOVERED_TYPES));
+    assertEquals(7.0, gauge(MicrometerPipelineListener.DISCOVERED_REFS));
+    assertEquals(4.0, gauge(MicrometerPipelineListener.USED_REFS));
+    assertEquals(0.0, wrappers("created"));
+    assertEquals(4.0, wrappers("replaced"));
+    assertEquals(2.0, registry.get(MicrometerPipelineListener.DOCUMENTS).counter().count());
+  }
+
+  private Timer timer(PipelineStage stage) {
+    return registry.get(MicrometerPipelineListener.STAGE_DURATION).tag("stage", tag(stage)).timer();
+  }
+
+  private DistributionSummary allocation(PipelineStage stage) {
+    return registry
+        .get(MicrometerPipelineListener.STAGE_ALLOCATED)
+        .tag("stage", tag(stage))
+        .summary();
+  }
+
+  private double gauge(String name) {
+    return registry.get(name).gauge().value();
+  }
+
+  private double wrappers(String result) {
+    return registry.get(MicrometerPipelineListener.WRAPPERS).tag("result", result).gauge().value();
+  }
+
+  private static String tag(PipelineStage stage) {
+    return stage.name().toLowerCase(Locale.ROOT);
+  }
+}
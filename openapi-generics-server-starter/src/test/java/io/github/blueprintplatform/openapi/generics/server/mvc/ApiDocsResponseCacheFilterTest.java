@@ -0,0 +1,344 @@
+package io.github.blueprintplatform.openapi.generics.server.mvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag("unit")
+@DisplayName("Unit Test: ApiDocsResponseCacheFilter")
+class ApiDocsResponseCacheFilterTest {
+
+  private static final String API_DOCS = "/v3/api-docs";
+  private static final String YAML = "application/vnd.oai.openapi";
+
+  private final AtomicLong generation = new AtomicLong();
+  private ApiDocsController controller;
+
+  @BeforeEach
+  void setUp() {
+    generation.set(0);
+    controller = new ApiDocsController();
+  }
+
+  @Test
+  @DisplayName("GET api-docs -> second request is served from the snapshot")
+  void get_servesSnapshot() throws Exception {
+    MockMvc mvc = mockMvc(false);
+
+    MockHttpServletResponse first = perform(mvc, get(API_DOCS));
+    MockHttpServletResponse second = perform(mvc, get(API_DOCS));
+
+    assertEquals(200, second.getStatus());
+    assertEquals(first.getContentAsString(), second.getContentAsString());
+    assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+    assertEquals(1, controller.calls(API_DOCS));
+  }
+
+  @Test
+  @DisplayName("GET api-docs + matching If-None-Match -> 304 without body")
+  void get_ifNoneMatch_notModified() throws Exception {
+    MockMvc mvc = mockMvc(false);
+    String etag = perform(mvc, get(API_DOCS)).getHeader(HttpHeaders.ETAG);
+
+    MockHttpServletResponse response =
+        perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, etag));
+
+    assertNotNull(etag);
+    assertEquals(304, response.getStatus());
+    assertEquals(0, response.getContentAsByteArray().length);
+    assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+  }
+
+  @Test
+  @DisplayName("GET api-docs + weak or gzip If-None-Match -> 304, unknown tag -> 200")
+  void get_ifNoneMatch_variants() throws Exception {
+    MockMvc mvc = mockMvc(false);
+    String hash = perform(mvc, get(API_DOCS)).getHeader(HttpHeaders.ETAG).replace("\"", "");
+
+    assertEquals(
+        304,
+        perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, "W/\"" + hash + "\""))
+            .getStatus());
+    assertEquals(
+        304,
+        perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, "\"" + hash + "-gzip\""))
+            .getStatus());
+    assertEquals(
+        304, perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, "*")).getStatus());
+    assertEquals(
+        200,
+        perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, "\"other\"")).getStatus());
+  }
+
+  @Test
+  @DisplayName("GET api-docs -> cache key varies by query string")
+  void get_cacheKeyVariesByQuery() throws Exception {
+    MockMvc mvc = mockMvc(false);
+
+    String plain = perform(mvc, get(API_DOCS)).getContentAsString();
+    String withQuery = perform(mvc, get(API_DOCS + "?variant=b")).getContentAsString();
+    perform(mvc, get(API_DOCS + "?variant=b"));
+
+    assertNotEquals(plain, withQuery);
+    assertEquals(2, controller.calls(API_DOCS));
+  }
+
+  @Test
+  @DisplayName("GET api-docs -> cache key varies by Accept (JSON and YAML cached independently)")
+  void get_cacheKeyVariesByAccept() throws Exception {
+    MockMvc mvc = mockMvc(false);
+
+    MockHttpServletResponse json =
+        perform(mvc, get(API_DOCS).accept(MediaType.APPLICATION_JSON));
+    MockHttpServletResponse yaml = perform(mvc, get(API_DOCS).accept(YAML));
+    MockHttpServletResponse yamlAgain = perform(mvc, get(API_DOCS).accept(YAML));
+
+    assertNotEquals(json.getContentAsString(), yaml.getContentAsString());
+    assertNotEquals(json.getHeader(HttpHeaders.ETAG), yaml.getHeader(HttpHeaders.ETAG));
+    assertEquals(yaml.getContentAsString(), yamlAgain.getContentAsString());
+    assertEquals(2, controller.calls(API_DOCS));
+  }
+
+  @Test
+  @DisplayName("GET api-docs -> rebuilt document with new content replaces the snapshot")
+  void get_rebuiltDocument_invalidatesSnapshot() throws Exception {
+    MockMvc mvc = mockMvc(false);
+    MockHttpServletResponse before = perform(mvc, get(API_DOCS));
+
+    controller.version.set("v2");
+    generation.incrementAndGet();
+
+    MockHttpServletResponse after = perform(mvc, get(API_DOCS));
+
+    assertTrue(after.getContentAsString().contains("v2"));
+    assertNotEquals(before.getHeader(HttpHeaders.ETAG), after.getHeader(HttpHeaders.ETAG));
+    String staleEtag = before.getHeader(HttpHeaders.ETAG);
+    assertEquals(
+        200, perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, staleEtag)).getStatus());
+    assertEquals(2, controller.calls(API_DOCS));
+  }
+
+  @Test
+  @DisplayName("GET api-docs -> rebuilt document with identical content keeps the ETag")
+  void get_rebuiltIdenticalDocument_keepsEtag() throws Exception {
+    MockMvc mvc = mockMvc(false);
+    String etag = perform(mvc, get(API_DOCS)).getHeader(HttpHeaders.ETAG);
+
+    generation.incrementAndGet();
+
+    MockHttpServletResponse response =
+        perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, etag));
+
+    assertEquals(304, response.getStatus());
+    assertEquals(2, controller.calls(API_DOCS));
+
+    perform(mvc, get(API_DOCS));
+    assertEquals(2, controller.calls(API_DOCS));
+  }
+
+  @Test
+  @DisplayName("GET api-docs in revalidate mode -> every request reaches Springdoc")
+  void get_revalidateMode_passesThrough() throws Exception {
+    MockMvc mvc = mockMvc(true);
+    String etag = perform(mvc, get(API_DOCS)).getHeader(HttpHeaders.ETAG);
+
+    MockHttpServletResponse response =
+        perform(mvc, get(API_DOCS).header(HttpHeaders.IF_NONE_MATCH, etag));
+
+    assertEquals(304, response.getStatus());
+    assertEquals(2, controller.calls(API_DOCS));
+  }
+
+  @Test
+  @DisplayName("GET api-docs + Accept-Encoding gzip -> gzip body, identity otherwise")
+  void get_gzipVersusIdentity() throws Exception {
+    MockMvc mvc = mockMvc(false);
+
+    MockHttpServletResponse identity = perform(mvc, get(API_DOCS));
+    MockHttpServletResponse gzip =
+        perform(mvc, get(API_DOCS).header(HttpHeaders.ACCEPT_ENCODING, "deflate, GZIP"));
+
+    assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+    assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(identity.getContentAsString(), gunzip(gzip.getContentAsByteArray()));
+    assertEquals(gzip.getContentAsByteArray().length, gzip.getContentLength());
+
+    String identityEtag = identity.getHeader(HttpHeaders.ETAG);
+    assertEquals(
+        identityEtag.substring(0, identityEtag.length() - 1) + "-gzip\"",
+        gzip.getHeader(HttpHeaders.ETAG));
+    assertTrue(gzip.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+    assertEquals(1, controller.calls(API_DOCS));
+  }
+
+  @Test
+  @DisplayName("GET swagger-config -> passed through, never cached")
+  void get_swaggerConfig_notCached() throws Exception {
+    MockMvc mvc = mockMvc(false);
+
+    MockHttpServletResponse first = perform(mvc, get(API_DOCS + "/swagger-config"));
+    perform(mvc, get(API_DOCS + "/swagger-config"));
+
+    assertNull(first.getHeader(HttpHeaders.ETAG));
+    assertEquals(2, controller.calls("swagger-config"));
+  }
+
+  @Test
+  @DisplayName("GET api-docs/{group} -> each group cached independently")
+  void get_groups_cachedIndependently() throws Exception {
+    MockMvc mvc = mockMvc(false);
+
+    String customers = perform(mvc, get(API_DOCS + "/customers")).getContentAsString();
+    String orders = perform(mvc, get(API_DOCS + "/orders")).getContentAsString();
+    perform(mvc, get(API_DOCS + "/customers"));
+
+    assertNotEquals(customers, orders);
+    assertEquals(1, controller.calls("customers"));
+    assertEquals(1, controller.calls("orders"));
+  }
+
+  @Test
+  @DisplayName("non-GET, non-200 or foreign paths -> passed through uncached")
+  void passThrough_nonCacheableRequests() throws Exception {
+    MockMvc mvc = mockMvc(false);
+
+    perform(mvc, post(API_DOCS));
+    perform(mvc, post(API_DOCS));
+    perform(mvc, get(API_DOCS + "/missing"));
+    MockHttpServletResponse missing = perform(mvc, get(API_DOCS + "/missing"));
+    perform(mvc, get("/other"));
+    MockHttpServletResponse other = perform(mvc, get("/other"));
+
+    assertEquals(2, controller.calls("post"));
+    assertEquals(404, missing.getStatus());
+    assertEquals(2, controller.calls("missing"));
+    assertNull(other.getHeader(HttpHeaders.ETAG));
+    assertEquals(2, controller.calls("other"));
+  }
+
+  @Test
+  @DisplayName("max entries reached -> further variants are served uncached")
+  void maxEntries_excessVariantsUncached() throws Exception {
+    MockMvc mvc =
+        MockMvcBuilders.standaloneSetup(controller)
+            .addFilters(new ApiDocsResponseCacheFilter(API_DOCS, generation::get, 1, false))
+            .build();
+
+    perform(mvc, get(API_DOCS + "/customers"));
+    perform(mvc, get(API_DOCS + "/orders"));
+    MockHttpServletResponse orders = perform(mvc, get(API_DOCS + "/orders"));
+    perform(mvc, get(API_DOCS + "/customers"));
+
+    assertEquals(200, orders.getStatus());
+    assertEquals(2, controller.calls("orders"));
+    assertEquals(1, controller.calls("customers"));
+  }
+
+  private MockMvc mockMvc(boolean revalidate) {
+    return MockMvcBuilders.standaloneSetup(controller)
+        .addFilters(new ApiDocsResponseCacheFilter(API_DOCS, generation::get, 64, revalidate))
+        .build();
+  }
+
+  private static MockHttpServletResponse perform(MockMvc mvc, RequestBuilder request)
+      throws Exception {
+    return mvc.perform(request).andReturn().getResponse();
+  }
+
+  private static String gunzip(byte[] body) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  /** Stands in for Springdoc's api-docs endpoints, counting invocations per endpoint. */
+  @RestController
+  static class ApiDocsController {
+
+    final AtomicReference<String> version = new AtomicReference<>("v1");
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    int calls(String endpoint) {
+      AtomicInteger count = calls.get(endpoint);
+      return count != null ? count.get() : 0;
+    }
+
+    @GetMapping(API_DOCS)
+    String apiDocs(
+        @RequestParam(name = "variant", required = false) String variant,
+        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+      count(API_DOCS);
+
+      if (accept != null && accept.startsWith(YAML)) {
+        return "openapi: 3.0.1\ninfo:\n  version: " + version.get() + "\n";
+      }
+
+      return "{\"openapi\":\"3.0.1\",\"info\":{\"version\":\""
+          + version.get()
+          + "\"}"
+          + (variant != null ? ",\"variant\":\"" + variant + "\"" : "")
+          + "}";
+    }
+
+    @GetMapping(API_DOCS + "/swagger-config")
+    String swaggerConfig() {
+      count("swagger-config");
+      return "{\"configUrl\":\"" + API_DOCS + "/swagger-config\"}";
+    }
+
+    @GetMapping(API_DOCS + "/{group}")
+    ResponseEntity<String> group(@PathVariable String group) {
+      count(group);
+
+      if ("missing".equals(group)) {
+        return ResponseEntity.notFound().build();
+      }
+
+      return ResponseEntity.ok("{\"group\":\"" + group + "\"}");
+    }
+
+    @PostMapping(API_DOCS)
+    String post() {
+      count("post");
+      return "{}";
+    }
+
+    @GetMapping("/other")
+    String other() {
+      count("other");
+      return "{}";
+    }
+
+    private void count(String endpoint) {
+      calls.computeIfAbsent(endpoint, k -> new AtomicInteger()).incrementAndGet();
+    }
+  }
+}
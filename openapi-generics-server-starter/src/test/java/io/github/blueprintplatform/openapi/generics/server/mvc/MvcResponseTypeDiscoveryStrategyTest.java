@@ -0,0 +1,120 @@
+package io.github.blueprintplatform.openapi.generics.server.mvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+@Tag("unit")
+@DisplayName("Unit Test: MvcResponseTypeDiscoveryStrategy")
+class MvcResponseTypeDiscoveryStrategyTest {
+
+  private static final List<String> HANDLERS =
+      List.of("getCustomer", "getCustomers", "getCustomerEntity", "getCustomerAgain", "ping");
+
+  @Test
+  @DisplayName("discover() -> handler return types in mapping order, duplicates collapsed")
+  void discover_returnTypesInMappingOrder() throws Exception {
+    StaticListableBeanFactory beanFactory = beanFactory();
+    RequestMappingHandlerMapping mapping =
+        beanFactory.getBean(RequestMappingHandlerMapping.class);
+
+    List<String> expected =
+        mapping.getHandlerMethods().values().stream()
+            .map(handler -> ResolvableType.forMethodReturnType(handler.getMethod()).toString())
+            .distinct()
+            .toList();
+
+    List<String> discovered =
+        new MvcResponseTypeDiscoveryStrategy(beanFactory)
+            .discover().stream().map(ResolvableType::toString).toList();
+
+    assertEquals(expected, discovered);
+    assertEquals(
+        Set.of(
+            "ServiceResponse<CustomerDto>",
+            "ServiceResponse<Page<CustomerDto>>",
+            "ResponseEntity<ServiceResponse<CustomerDto>>",
+            "String"),
+        discovered.stream()
+            .map(MvcResponseTypeDiscoveryStrategyTest::simpleName)
+            .collect(Collectors.toSet()));
+  }
+
+  @Test
+  @DisplayName("discover() -> parallel resolution returns the same ordered set")
+  void discover_parallel_sameOrder() throws Exception {
+    StaticListableBeanFactory beanFactory = beanFactory();
+
+    List<ResolvableType> sequential =
+        List.copyOf(new MvcResponseTypeDiscoveryStrategy(beanFactory, false).discover());
+    List<ResolvableType> parallel =
+        List.copyOf(new MvcResponseTypeDiscoveryStrategy(beanFactory, true).discover());
+
+    assertEquals(
+        sequential.stream().map(ResolvableType::toString).toList(),
+        parallel.stream().map(ResolvableType::toString).toList());
+  }
+
+  @Test
+  @DisplayName("discover() -> no handler mapping yields an empty set")
+  void discover_withoutMappings_empty() {
+    assertTrue(
+        new MvcResponseTypeDiscoveryStrategy(new StaticListableBeanFactory()).discover().isEmpty());
+  }
+
+  private static StaticListableBeanFactory beanFactory() throws Exception {
+    RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+    CustomerController controller = new CustomerController();
+
+    for (String handler : HANDLERS) {
+      mapping.registerMapping(
+          RequestMappingInfo.paths("/" + handler).build(),
+          controller,
+          CustomerController.class.getMethod(handler));
+    }
+
+    return new StaticListableBeanFactory(Map.of("requestMappingHandlerMapping", mapping));
+  }
+
+  private static String simpleName(String type) {
+    return type.replaceAll("[\\w.]+[.$](\\w+)", "$1");
+  }
+
+  static class CustomerDto {}
+
+  static class CustomerController {
+
+    public ServiceResponse<CustomerDto> getCustomer() {
+      return null;
+    }
+
+    public ServiceResponse<Page<CustomerDto>> getCustomers() {
+      return null;
+    }
+
+    public ResponseEntity<ServiceResponse<CustomerDto>> getCustomerEntity() {
+      return null;
+    }
+
+    public ServiceResponse<CustomerDto> getCustomerAgain() {
+      return null;
+    }
+
+    public String ping() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package io.github.blueprintplatform.openapi.generics.server.webflux;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
+import io.github.blueprintplatform.openapi.generics.server.core.introspection.ResponseTypeIntrospector;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag("unit")
+@DisplayName("Unit Test: WebFluxResponseTypeDiscoveryStrategy")
+class WebFluxResponseTypeDiscoveryStrategyTest {
+
+  private static final List<String> HANDLERS =
+      List.of("getCustomer", "getCustomers", "getCustomerEntity", "streamCustomers");
+
+  @Test
+  @DisplayName("discover() -> reactive return types are returned as declared")
+  void discover_reactiveTypesAsDeclared() throws Exception {
+    List<String> discovered =
+        new WebFluxResponseTypeDiscoveryStrategy(beanFactory())
+            .discover().stream().map(WebFluxResponseTypeDiscoveryStrategyTest::simpleName).toList();
+
+    assertEquals(
+        Set.of(
+            "Mono<ServiceResponse<CustomerDto>>",
+            "Mono<ServiceResponse<Page<CustomerDto>>>",
+            "Mono<ResponseEntity<ServiceResponse<CustomerDto>>>",
+            "Flux<ServiceResponse<CustomerDto>>"),
+        Set.copyOf(discovered));
+  }
+
+  @Test
+  @DisplayName("discover() -> parallel resolution returns the same ordered set")
+  void discover_parallel_sameOrder() throws Exception {
+    StaticListableBeanFactory beanFactory = beanFactory();
+
+    assertEquals(
+        List.copyOf(new WebFluxResponseTypeDiscoveryStrategy(beanFactory, false).discover())
+            .toString(),
+        List.copyOf(new WebFluxResponseTypeDiscoveryStrategy(beanFactory, true).discover())
+            .toString());
+  }
+
+  @Test
+  @DisplayName("introspection -> Mono is unwrapped, Flux is not")
+  void discover_monoUnwrappedByIntrospector() throws Exception {
+    ResponseTypeIntrospector introspector = new ResponseTypeIntrospector();
+    Map<String, Optional<String>> refs = new HashMap<>();
+
+    for (ResolvableType type : new WebFluxResponseTypeDiscoveryStrategy(beanFactory()).discover()) {
+      refs.put(simpleName(type), introspector.extractDataRefName(type));
+    }
+
+    assertEquals(Optional.of("CustomerDto"), refs.get("Mono<ServiceResponse<CustomerDto>>"));
+    assertEquals(
+        Optional.of("PageCustomerDto"), refs.get("Mono<ServiceResponse<Page<CustomerDto>>>"));
+    assertEquals(
+        Optional.of("CustomerDto"),
+        refs.get("Mono<ResponseEntity<ServiceResponse<CustomerDto>>>"));
+    assertEquals(Optional.empty(), refs.get("Flux<ServiceResponse<CustomerDto>>"));
+  }
+
+  private static StaticListableBeanFactory beanFactory() throws Exception {
+    RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+    CustomerController controller = new CustomerController();
+
+    for (String handler : HANDLERS) {
+      mapping.registerMapping(
+          RequestMappingInfo.paths("/" + handler).build(),
+          controller,
+          CustomerController.class.getMethod(handler));
+    }
+
+    return new StaticListableBeanFactory(Map.of("requestMappingHandlerMapping", mapping));
+  }
+
+  private static String simpleName(ResolvableType type) {
+    return type.toString().replaceAll("[\\w.]+[.$](\\w+)", "$1");
+  }
+
+  static class CustomerDto {}
+
+  static class CustomerController {
+
+    public Mono<ServiceResponse<CustomerDto>> getCustomer() {
+      return Mono.empty();
+    }
+
+    public Mono<ServiceResponse<Page<CustomerDto>>> getCustomers() {
+      return Mono.empty();
+    }
+
+    public Mono<ResponseEntity<ServiceResponse<CustomerDto>>> getCustomerEntity() {
+      return Mono.empty();
+    }
+
+    public Flux<ServiceResponse<CustomerDto>> streamCustomers() {
+      return Flux.empty();
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package io.github.blueprintplatform.samples.customerservice.client.adapter;
 
 import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
 import io.github.blueprintplatform.samples.customerservice.client.customer.CustomerSortField;
@@ -25,6 +27,10 @@ public interface CustomerClientAdapter {
       CustomerSortField sortBy,
       SortDirection direction);
 
+  ServiceResponse<CursorPage<CustomerDto>> getCustomersByCursor(String cursor, Integer size);
+
+  StreamingServiceResponse<CustomerDto> exportCustomers(String name, String email);
+
   ServiceResponse<CustomerDto> updateCustomer(Integer customerId, CustomerUpdateRequest request);
 
   ServiceResponse<CustomerDeleteResponse> deleteCustomer(Integer customerId);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.blueprintplatform.samples.customerservice.client.adapter.support.ProblemDetailSupport;
 import io.github.blueprintplatform.samples.customerservice.client.common.problem.ApiProblemException;
 import io.github.blueprintplatform.samples.customerservice.client.generated.api.CustomerControllerApi;
+import io.github.blueprintplatform.samples.customerservice.client.generated.api.StreamingApi;
 import io.github.blueprintplatform.samples.customerservice.client.generated.invoker.ApiClient;
 import java.util.List;
 import org.apache.hc.client5.http.config.ConnectionConfig;
@@ -98,4 +99,9 @@ public class CustomerApiClientConfig {
   CustomerControllerApi customerControllerApi(ApiClient customerApiClient) {
     return new CustomerControllerApi(customerApiClient);
   }
+
+  @Bean
+  StreamingApi customerStreamingApi(ApiClient customerApiClient) {
+    return new StreamingApi(customerApiClient);
+  }
 }
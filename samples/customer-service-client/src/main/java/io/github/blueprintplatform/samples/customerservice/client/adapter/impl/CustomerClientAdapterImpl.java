@@ -1,11 +1,14 @@
 package io.github.blueprintplatform.samples.customerservice.client.adapter.impl;
 
 import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
 import io.github.blueprintplatform.samples.customerservice.client.adapter.CustomerClientAdapter;
 import io.github.blueprintplatform.samples.customerservice.client.customer.CustomerSortField;
 import io.github.blueprintplatform.samples.customerservice.client.generated.api.CustomerControllerApi;
+import io.github.blueprintplatform.samples.customerservice.client.generated.api.StreamingApi;
 import io.github.blueprintplatform.samples.customerservice.client.generated.dto.CustomerCreateRequest;
 import io.github.blueprintplatform.samples.customerservice.client.generated.dto.CustomerDeleteResponse;
 import io.github.blueprintplatform.samples.customerservice.client.generated.dto.CustomerDto;
@@ -16,9 +19,12 @@ import org.springframework.stereotype.Service;
 public class CustomerClientAdapterImpl implements CustomerClientAdapter {
 
   private final CustomerControllerApi api;
+  private final StreamingApi streamingApi;
 
-  public CustomerClientAdapterImpl(CustomerControllerApi customerControllerApi) {
+  public CustomerClientAdapterImpl(
+      CustomerControllerApi customerControllerApi, StreamingApi customerStreamingApi) {
     this.api = customerControllerApi;
+    this.streamingApi = customerStreamingApi;
   }
 
   @Override
@@ -54,6 +60,17 @@ public class CustomerClientAdapterImpl implements CustomerClientAdapter {
         direction != null ? direction.value() : SortDirection.ASC.value());
   }
 
+  @Override
+  public ServiceResponse<CursorPage<CustomerDto>> getCustomersByCursor(
+      String cursor, Integer size) {
+    return api.getCustomersByCursor(cursor, size);
+  }
+
+  @Override
+  public StreamingServiceResponse<CustomerDto> exportCustomers(String name, String email) {
+    return streamingApi.exportCustomers(name, email);
+  }
+
   @Override
   public ServiceResponse<CustomerDto> updateCustomer(
       Integer customerId, CustomerUpdateRequest request) {
@@ -3,10 +3,18 @@ package io.github.blueprintplatform.samples.customerservice.client.adapter;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.samples.customerservice.client.adapter.config.CustomerApiClientConfig;
 import io.github.blueprintplatform.samples.customerservice.client.generated.api.CustomerControllerApi;
+import io.github.blueprintplatform.samples.customerservice.client.generated.api.StreamingApi;
 import io.github.blueprintplatform.samples.customerservice.client.generated.dto.CustomerCreateRequest;
+import io.github.blueprintplatform.samples.customerservice.client.generated.dto.CustomerDto;
 import io.github.blueprintplatform.samples.customerservice.client.generated.dto.CustomerUpdateRequest;
+import io.github.blueprintplatform.samples.customerservice.client.generated.dto.ServiceResponseCursorPageCustomerDto;
+import java.lang.reflect.ParameterizedType;
+import java.util.Iterator;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterAll;
@@ -27,6 +35,8 @@ class CustomerClientIT {
 
   @Autowired private CustomerControllerApi api;
 
+  @Autowired private StreamingApi streamingApi;
+
   @BeforeAll
   static void startServer() throws Exception {
     server = new MockWebServer();
@@ -147,6 +157,82 @@ class CustomerClientIT {
     assertNotNull(resp.getMeta().serverTime());
   }
 
+  @Test
+  @DisplayName("GET /v1/customers/cursor -> 200 OK + maps CursorPage<CustomerDto> in data")
+  void getCustomersByCursor_shouldReturn200_andMapCursorPage() {
+    var body =
+        """
+            {
+              "data": {
+                "content": [
+                  { "customerId": 6, "name": "Hans Müller", "email": "hans.muller@example.com" }
+                ],
+                "size": 1,
+                "nextCursor": "Ng",
+                "prevCursor": "MA",
+                "hasNext": true
+              },
+              "meta": { "serverTime": "2025-01-03T11:00:00Z", "sort": [] }
+            }
+            """;
+
+    server.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", "application/json")
+            .setBody(body));
+
+    ServiceResponseCursorPageCustomerDto resp = api.getCustomersByCursor("NQ", 1);
+
+    // Generated wrapper binds the contract container, not a generated duplicate.
+    var superType =
+        (ParameterizedType) ServiceResponseCursorPageCustomerDto.class.getGenericSuperclass();
+    assertEquals(ServiceResponse.class, superType.getRawType());
+    var dataType = (ParameterizedType) superType.getActualTypeArguments()[0];
+    assertEquals(CursorPage.class, dataType.getRawType());
+    assertEquals(CustomerDto.class, dataType.getActualTypeArguments()[0]);
+
+    assertNotNull(resp);
+    CursorPage<CustomerDto> page = resp.getData();
+    assertNotNull(page);
+    assertEquals(1, page.size());
+    assertEquals("Ng", page.nextCursor());
+    assertEquals("MA", page.prevCursor());
+    assertTrue(page.hasNext());
+    assertEquals(1, page.content().size());
+    assertEquals(6, page.content().getFirst().getCustomerId());
+
+    assertNotNull(resp.getMeta());
+    assertNotNull(resp.getMeta().serverTime());
+  }
+
+  @Test
+  @DisplayName("GET /v1/customers/export -> 200 OK + reads NDJSON lazily into the item stream")
+  void exportCustomers_shouldReturn200_andStreamItems() {
+    var body =
+        """
+            {"meta":{"serverTime":"2025-01-03T12:00:00Z","sort":[]}}
+            {"customerId":1,"name":"Jane Doe","email":"jane@example.com"}
+            {"customerId":2,"name":"John Smith","email":"john.smith@example.com"}
+            """;
+
+    server.enqueue(
+        new MockResponse()
+            .setResponseCode(200)
+            .addHeader("Content-Type", StreamingServiceResponse.MEDIA_TYPE)
+            .setBody(body));
+
+    try (StreamingServiceResponse<CustomerDto> resp = streamingApi.exportCustomers("J", null)) {
+      assertNotNull(resp.getMeta());
+      assertNotNull(resp.getMeta().serverTime());
+
+      Iterator<CustomerDto> items = resp.iterator();
+      assertEquals(1, items.next().getCustomerId());
+      assertEquals("John Smith", items.next().getName());
+      assertFalse(items.hasNext());
+    }
+  }
+
   @Test
   @DisplayName("PUT /v1/customers/{id} -> 200 OK + maps {data, meta}")
   void updateCustomer_shouldReturn200_andMapBody() {
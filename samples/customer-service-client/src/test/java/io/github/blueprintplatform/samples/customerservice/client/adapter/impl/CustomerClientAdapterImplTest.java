@@ -6,14 +6,18 @@ import static org.mockito.Mockito.when;
 
 import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
 import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
 import io.github.blueprintplatform.samples.customerservice.client.adapter.CustomerClientAdapter;
 import io.github.blueprintplatform.samples.customerservice.client.customer.CustomerSortField;
 import io.github.blueprintplatform.samples.customerservice.client.generated.api.CustomerControllerApi;
+import io.github.blueprintplatform.samples.customerservice.client.generated.api.StreamingApi;
 import io.github.blueprintplatform.samples.customerservice.client.generated.dto.*;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -29,6 +33,8 @@ class CustomerClientAdapterImplTest {
 
   @Mock CustomerControllerApi api;
 
+  @Mock StreamingApi streamingApi;
+
   @InjectMocks CustomerClientAdapterImpl adapter;
 
   @Test
@@ -115,6 +121,51 @@ class CustomerClientAdapterImplTest {
     assertEquals(serverOdt.toInstant(), res.getMeta().serverTime());
   }
 
+  @Test
+  @DisplayName("getCustomersByCursor -> returns CursorPage<CustomerDto> (data + meta)")
+  void getCustomersByCursor_delegates_and_returnsCursorPage() {
+    var d1 = new CustomerDto().customerId(6).name("F").email("f@example.com");
+
+    var page = CursorPage.of(List.of(d1), 1, "Ng", "MA");
+
+    var serverOdt = OffsetDateTime.parse("2025-03-02T09:00:00Z");
+    var wrapper = new ServiceResponseCursorPageCustomerDto();
+    wrapper.setData(page);
+    wrapper.setMeta(new Meta(serverOdt.toInstant(), List.of()));
+
+    when(api.getCustomersByCursor(any(), any())).thenReturn(wrapper);
+
+    ServiceResponse<CursorPage<CustomerDto>> res = adapter.getCustomersByCursor("NQ", 1);
+
+    assertNotNull(res);
+    assertNotNull(res.getData());
+    assertEquals(1, res.getData().size());
+    assertEquals("Ng", res.getData().nextCursor());
+    assertTrue(res.getData().hasNext());
+    assertEquals(6, res.getData().content().getFirst().getCustomerId());
+
+    assertNotNull(res.getMeta());
+    assertEquals(serverOdt.toInstant(), res.getMeta().serverTime());
+  }
+
+  @Test
+  @DisplayName("exportCustomers -> delegates to StreamingApi and returns the item stream (meta)")
+  void exportCustomers_delegates_and_returnsStream() {
+    var d1 = new CustomerDto().customerId(1).name("Jane Doe").email("jane@example.com");
+    var d2 = new CustomerDto().customerId(2).name("John Smith").email("john@example.com");
+
+    var serverOdt = OffsetDateTime.parse("2025-01-06T10:00:00Z");
+    var streamed =
+        StreamingServiceResponse.of(Stream.of(d1, d2), new Meta(serverOdt.toInstant(), List.of()));
+
+    when(streamingApi.exportCustomers("J", null)).thenReturn(streamed);
+
+    try (StreamingServiceResponse<CustomerDto> res = adapter.exportCustomers("J", null)) {
+      assertEquals(List.of(d1, d2), res.getItems().toList());
+      assertEquals(serverOdt.toInstant(), res.getMeta().serverTime());
+    }
+  }
+
   @Test
   @DisplayName("updateCustomer -> returns updated CustomerDto (data + meta)")
   void updateCustomer_delegates_and_returnsUpdated() {
@@ -2,6 +2,8 @@ package io.github.blueprintplatform.samples.customerservice.api.controller;
 
 import io.github.blueprintplatform.openapi.generics.contract.envelope.Meta;
 import io.github.blueprintplatform.openapi.generics.contract.envelope.ServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
 import io.github.blueprintplatform.samples.customerservice.api.dto.*;
@@ -62,6 +64,20 @@ public class CustomerController {
     return ResponseEntity.ok(ServiceResponse.of(paged, meta));
   }
 
+  @GetMapping("/cursor")
+  public ResponseEntity<ServiceResponse<CursorPage<CustomerDto>>> getCustomersByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "5") @Min(1) @Max(10) int size) {
+    var page = customerService.getCustomersAfter(cursor, size);
+    return ResponseEntity.ok(ServiceResponse.of(page));
+  }
+
+  @GetMapping(value = "/export", produces = StreamingServiceResponse.MEDIA_TYPE)
+  public StreamingServiceResponse<CustomerDto> exportCustomers(
+      @ModelAttribute CustomerSearchCriteria criteria) {
+    return StreamingServiceResponse.of(customerService.exportCustomers(criteria));
+  }
+
   @PutMapping(path = "/{customerId}", consumes = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<ServiceResponse<CustomerDto>> updateCustomer(
       @PathVariable @Min(1) Integer customerId, @Valid @RequestBody CustomerUpdateRequest request) {
@@ -1,10 +1,12 @@
 package io.github.blueprintplatform.samples.customerservice.api.error;
 
 import static io.github.blueprintplatform.samples.customerservice.api.error.ProblemSupport.*;
+import static io.github.blueprintplatform.samples.customerservice.common.api.ApiConstants.ErrorCode.BAD_REQUEST;
 import static io.github.blueprintplatform.samples.customerservice.common.api.ApiConstants.ErrorCode.INTERNAL_ERROR;
 import static io.github.blueprintplatform.samples.customerservice.common.api.ApiConstants.ErrorCode.NOT_FOUND;
 
 import io.github.blueprintplatform.samples.customerservice.common.i18n.LocalizedMessageResolver;
+import io.github.blueprintplatform.samples.customerservice.service.InvalidCursorException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -26,6 +28,10 @@ public class ApplicationExceptionHandler {
   private static final String KEY_PROBLEM_TITLE_NOT_FOUND = "problem.title.not_found";
   private static final String KEY_PROBLEM_DETAIL_NOT_FOUND = "problem.detail.not_found";
 
+  private static final String KEY_PROBLEM_TITLE_BAD_REQUEST = "problem.title.bad_request";
+  private static final String KEY_REQUEST_PARAM_INVALID = "request.param.invalid";
+  private static final String KEY_REQUEST_CURSOR_INVALID = "request.param.cursor.invalid";
+
   private static final String KEY_PROBLEM_TITLE_INTERNAL_ERROR = "problem.title.internal_error";
   private static final String KEY_PROBLEM_DETAIL_INTERNAL_ERROR = "problem.detail.internal_error";
 
@@ -63,6 +69,24 @@ public class ApplicationExceptionHandler {
     return pd;
   }
 
+  @ExceptionHandler(InvalidCursorException.class)
+  public ProblemDetail handleInvalidCursor(InvalidCursorException ex, HttpServletRequest req) {
+    String detail = messageResolver.getMessage(KEY_REQUEST_PARAM_INVALID);
+
+    ProblemDetail pd =
+        baseProblem(
+            type(TYPE_BAD_REQUEST),
+            HttpStatus.BAD_REQUEST,
+            messageResolver.getMessage(KEY_PROBLEM_TITLE_BAD_REQUEST),
+            detail,
+            req);
+
+    String msg = messageResolver.getMessage(KEY_REQUEST_CURSOR_INVALID);
+
+    attachErrors(pd, BAD_REQUEST, List.of(error(BAD_REQUEST, msg, "cursor", null, null)));
+    return pd;
+  }
+
   @ExceptionHandler(Exception.class)
   public ProblemDetail handleGeneric(Exception ex, HttpServletRequest req) {
     log.error("Unhandled exception", ex);
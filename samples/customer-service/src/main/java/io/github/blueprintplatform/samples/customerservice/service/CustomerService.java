@@ -1,5 +1,6 @@
 package io.github.blueprintplatform.samples.customerservice.service;
 
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerCreateRequest;
@@ -7,6 +8,7 @@ import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerDto;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerSearchCriteria;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerUpdateRequest;
 import io.github.blueprintplatform.samples.customerservice.common.api.sort.SortField;
+import java.util.stream.Stream;
 
 public interface CustomerService {
   CustomerDto createCustomer(CustomerCreateRequest request);
@@ -20,6 +22,10 @@ public interface CustomerService {
       SortField sortBy,
       SortDirection direction);
 
+  CursorPage<CustomerDto> getCustomersAfter(String cursor, int size);
+
+  Stream<CustomerDto> exportCustomers(CustomerSearchCriteria criteria);
+
   CustomerDto updateCustomer(Integer customerId, CustomerUpdateRequest request);
 
   void deleteCustomer(Integer customerId);
@@ -0,0 +1,20 @@
+package io.github.blueprintplatform.samples.customerservice.service;
+
+/**
+ * Thrown when a keyset pagination cursor cannot be decoded.
+ *
+ * <p>The message names the rejected cursor for logs; it is not meant to be returned to clients.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+  private final String cursor;
+
+  public InvalidCursorException(String cursor, Throwable cause) {
+    super("Invalid cursor: " + cursor, cause);
+    this.cursor = cursor;
+  }
+
+  public String getCursor() {
+    return cursor;
+  }
+}
@@ -1,5 +1,6 @@
 package io.github.blueprintplatform.samples.customerservice.service.impl;
 
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerCreateRequest;
@@ -8,6 +9,9 @@ import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerSearc
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerUpdateRequest;
 import io.github.blueprintplatform.samples.customerservice.common.api.sort.SortField;
 import io.github.blueprintplatform.samples.customerservice.service.CustomerService;
+import io.github.blueprintplatform.samples.customerservice.service.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
 import java.util.NavigableMap;
@@ -21,6 +25,7 @@ import org.springframework.stereotype.Service;
 public class CustomerServiceImpl implements CustomerService {
 
   private static final int MAX_PAGE_SIZE = 10;
+  private static final int FIRST_PAGE_ANCHOR = 0;
   private final AtomicInteger idSeq = new AtomicInteger(0);
   private final NavigableMap<Integer, CustomerDto> store = new ConcurrentSkipListMap<>();
 
@@ -71,6 +76,38 @@ public class CustomerServiceImpl implements CustomerService {
     return paginate(sorted, page, size);
   }
 
+  @Override
+  public CursorPage<CustomerDto> getCustomersAfter(String cursor, int size) {
+    int s = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    int after = (cursor == null || cursor.isBlank()) ? FIRST_PAGE_ANCHOR : decodeCursor(cursor);
+
+    // Keyset pagination over customerId: no total count is needed.
+    var slice = store.tailMap(after, false).values().stream().limit(s).toList();
+
+    String next = null;
+    if (!slice.isEmpty()) {
+      Integer lastId = slice.getLast().customerId();
+      next = store.higherKey(lastId) != null ? encodeCursor(lastId) : null;
+    }
+
+    String prev = null;
+    if (after != FIRST_PAGE_ANCHOR) {
+      // The previous page holds the s customers up to and including the anchor.
+      Integer anchor = after;
+      for (int i = 0; i < s && anchor != null; i++) {
+        anchor = store.lowerKey(anchor);
+      }
+      prev = encodeCursor(anchor != null ? anchor : FIRST_PAGE_ANCHOR);
+    }
+
+    return CursorPage.of(slice, s, next, prev);
+  }
+
+  @Override
+  public Stream<CustomerDto> exportCustomers(CustomerSearchCriteria criteria) {
+    return applyFilters(store.values().stream(), criteria);
+  }
+
   @Override
   public CustomerDto updateCustomer(Integer customerId, CustomerUpdateRequest request) {
     CustomerDto existing = store.get(customerId);
@@ -85,6 +122,21 @@ public class CustomerServiceImpl implements CustomerService {
     store.remove(customerId);
   }
 
+  private static String encodeCursor(int customerId) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(Integer.toString(customerId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static int decodeCursor(String cursor) {
+    try {
+      var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return Math.max(Integer.parseInt(raw), FIRST_PAGE_ANCHOR);
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidCursorException(cursor, ex);
+    }
+  }
+
   private Stream<CustomerDto> applyFilters(Stream<CustomerDto> stream, CustomerSearchCriteria c) {
     if (c == null) return stream;
 
@@ -126,7 +178,8 @@ public class CustomerServiceImpl implements CustomerService {
     int from = (int) fromL;
     int to = (int) toL;
 
+    // items is an unmodifiable Stream.toList() result → the slice can be exposed without copying
     var slice = items.subList(from, to);
-    return Page.of(slice, p, s, total);
+    return Page.ofTrusted(slice, p, s, total);
   }
 }
@@ -1,7 +1,11 @@
 package io.github.blueprintplatform.samples.customerservice.api.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
@@ -12,8 +16,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.blueprintplatform.openapi.generics.contract.envelope.StreamingServiceResponse;
+import io.github.blueprintplatform.openapi.generics.contract.jackson.StreamingServiceResponseReader;
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
+import io.github.blueprintplatform.openapi.generics.server.mvc.StreamingServiceResponseHttpMessageConverter;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerCreateRequest;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerDto;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerSearchCriteria;
@@ -22,9 +30,12 @@ import io.github.blueprintplatform.samples.customerservice.api.error.ApiRequestE
 import io.github.blueprintplatform.samples.customerservice.api.error.ApplicationExceptionHandler;
 import io.github.blueprintplatform.samples.customerservice.common.api.sort.SortField;
 import io.github.blueprintplatform.samples.customerservice.service.CustomerService;
+import io.github.blueprintplatform.samples.customerservice.service.InvalidCursorException;
 import io.github.blueprintplatform.samples.customerservice.testconfig.TestControllerMocksConfig;
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -40,7 +51,8 @@ import org.springframework.test.web.servlet.MockMvc;
 @Import({
   ApiRequestExceptionHandler.class,
   ApplicationExceptionHandler.class,
-  TestControllerMocksConfig.class
+  TestControllerMocksConfig.class,
+  StreamingServiceResponseHttpMessageConverter.class
 })
 @Tag("integration")
 class CustomerControllerIT {
@@ -279,6 +291,90 @@ class CustomerControllerIT {
         .andExpect(jsonPath("$.meta.sort[0].direction").value("desc"));
   }
 
+  @Test
+  @DisplayName("GET /v1/customers/cursor -> 200 OK, CursorPage<CustomerDto> without totals")
+  void getCustomersByCursor_200() throws Exception {
+    var d1 = new CustomerDto(6, "Hans Müller", "hans.muller@example.com");
+    var page = CursorPage.of(List.of(d1), 1, "Ng", "MA");
+
+    when(customerService.getCustomersAfter("NQ", 1)).thenReturn(page);
+
+    mvc.perform(get("/v1/customers/cursor").param("cursor", "NQ").param("size", "1"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.data.content.length()").value(1))
+        .andExpect(jsonPath("$.data.content[0].customerId").value(6))
+        .andExpect(jsonPath("$.data.size").value(1))
+        .andExpect(jsonPath("$.data.nextCursor").value("Ng"))
+        .andExpect(jsonPath("$.data.prevCursor").value("MA"))
+        .andExpect(jsonPath("$.data.hasNext").value(true))
+        .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.meta.serverTime").exists());
+  }
+
+  @Test
+  @DisplayName("GET /v1/customers/cursor -> 400 BAD_REQUEST (malformed cursor)")
+  void getCustomersByCursor_malformedCursor400() throws Exception {
+    when(customerService.getCustomersAfter("bogus", 5))
+        .thenThrow(new InvalidCursorException("bogus", new IllegalArgumentException()));
+
+    mvc.perform(get("/v1/customers/cursor").param("cursor", "bogus"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+        .andExpect(jsonPath("$.status").value(400))
+        .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"))
+        .andExpect(jsonPath("$.extensions.errors[0].field").value("cursor"))
+        .andExpect(
+            jsonPath("$.extensions.errors[0].message")
+                .value(
+                    "Invalid cursor; pass a nextCursor or prevCursor value from a previous page."))
+        .andExpect(content().string(not(containsString("bogus"))));
+  }
+
+  @Test
+  @DisplayName("GET /v1/customers/cursor -> 500 INTERNAL_ERROR (other IllegalArgumentException)")
+  void getCustomersByCursor_otherIllegalArgument500() throws Exception {
+    when(customerService.getCustomersAfter("NQ", 5))
+        .thenThrow(new IllegalArgumentException("internal detail"));
+
+    mvc.perform(get("/v1/customers/cursor").param("cursor", "NQ"))
+        .andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.errorCode").value("INTERNAL_ERROR"))
+        .andExpect(content().string(not(containsString("internal detail"))));
+  }
+
+  @Test
+  @DisplayName("GET /v1/customers/export -> 200 OK, NDJSON read back into StreamingServiceResponse")
+  void exportCustomers_ndjsonRoundTrip() throws Exception {
+    var d1 = new CustomerDto(1, "Ahmet Yilmaz", "ahmet.yilmaz@example.com");
+    var d2 = new CustomerDto(2, "John Smith", "john.smith@example.com");
+
+    when(customerService.exportCustomers(any(CustomerSearchCriteria.class)))
+        .thenReturn(Stream.of(d1, d2));
+
+    var result =
+        mvc.perform(
+                get("/v1/customers/export")
+                    .accept(StreamingServiceResponse.MEDIA_TYPE)
+                    .param("name", "o"))
+            .andExpect(status().isOk())
+            .andExpect(
+                content()
+                    .contentTypeCompatibleWith(
+                        MediaType.parseMediaType(StreamingServiceResponse.MEDIA_TYPE)))
+            .andReturn();
+
+    byte[] body = result.getResponse().getContentAsByteArray();
+
+    try (StreamingServiceResponse<CustomerDto> response =
+        new StreamingServiceResponseReader(om)
+            .read(new ByteArrayInputStream(body), CustomerDto.class)) {
+
+      assertNotNull(response.getMeta().serverTime());
+      assertEquals(List.of(d1, d2), response.getItems().toList());
+    }
+  }
+
   @Test
   @DisplayName("GET /v1/customers -> 400 BAD_REQUEST (sortBy type mismatch)")
   void getCustomers_sortBy_typeMismatch400() throws Exception {
@@ -14,7 +14,7 @@ import org.junit.jupiter.api.Test;
 class PageTest {
 
   @Test
-  @DisplayName("of() -> temel metrikler doğru hesaplanır")
+  @DisplayName("of() -> basic metrics are computed correctly")
   void of_basic() {
     List<String> content = List.of("a", "b", "c", "d", "e", "f");
     int page = 1; // 0-index
@@ -33,7 +33,7 @@ class PageTest {
   }
 
   @Test
-  @DisplayName("of() -> content null ise boş listeye sabitlenir")
+  @DisplayName("of() -> null content defaults to an empty list")
   void of_nullContent() {
     Page<String> p = Page.of(null, 0, 10, 0);
     assertNotNull(p.content());
@@ -41,7 +41,7 @@ class PageTest {
   }
 
   @Test
-  @DisplayName("of() -> content kopyalanır ve dışarıdan değiştirilemez")
+  @DisplayName("of() -> content is copied and cannot be modified externally")
   void of_immutableContent() {
     List<String> src = new ArrayList<>(List.of("x", "y"));
     Page<String> p = Page.of(src, 0, 10, 2);
@@ -53,7 +53,7 @@ class PageTest {
   }
 
   @Test
-  @DisplayName("of() -> son sayfada hasNext=false, ilk sayfada hasPrev=false")
+  @DisplayName("of() -> hasNext=false on the last page, hasPrev=false on the first page")
   void of_navFlags() {
     List<Integer> content = List.of(1, 2, 3, 4, 5);
     Page<Integer> first = Page.of(content.subList(0, 2), 0, 2, content.size());
@@ -64,4 +64,26 @@ class PageTest {
     assertTrue(last.hasPrev());
     assertFalse(last.hasNext());
   }
+
+  @Test
+  @DisplayName("ofTrusted() -> content is not copied and is exposed as a read-only view")
+  void ofTrusted_viewWithoutCopy() {
+    List<String> src = List.of("a", "b", "c", "d").subList(1, 3);
+    Page<String> p = Page.ofTrusted(src, 1, 2, 4);
+
+    assertEquals(List.of("b", "c"), p.content());
+    assertEquals(2, p.totalPages());
+    assertFalse(p.hasNext());
+    assertTrue(p.hasPrev());
+
+    assertThrows(UnsupportedOperationException.class, () -> p.content().add("w"));
+  }
+
+  @Test
+  @DisplayName("ofTrusted() -> null content defaults to an empty list")
+  void ofTrusted_nullContent() {
+    Page<String> p = Page.ofTrusted(null, 0, 10, 0);
+    assertTrue(p.content().isEmpty());
+    assertEquals(0, p.totalPages());
+  }
 }
@@ -2,6 +2,7 @@ package io.github.blueprintplatform.samples.customerservice.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.github.blueprintplatform.openapi.generics.contract.paging.CursorPage;
 import io.github.blueprintplatform.openapi.generics.contract.paging.Page;
 import io.github.blueprintplatform.openapi.generics.contract.paging.SortDirection;
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerCreateRequest;
@@ -10,6 +11,8 @@ import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerSearc
 import io.github.blueprintplatform.samples.customerservice.api.dto.CustomerUpdateRequest;
 import io.github.blueprintplatform.samples.customerservice.common.api.sort.SortField;
 import io.github.blueprintplatform.samples.customerservice.service.CustomerService;
+import io.github.blueprintplatform.samples.customerservice.service.InvalidCursorException;
+import java.util.List;
 import java.util.NoSuchElementException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -59,6 +62,50 @@ class CustomerServiceImplTest {
     assertTrue(p1.hasPrev());
   }
 
+  @Test
+  @DisplayName("Cursor pagination walks forward and back without a total count")
+  void cursorPagination_shouldNavigateWithCursors() {
+    CursorPage<CustomerDto> first = service.getCustomersAfter(null, 10);
+
+    assertEquals(10, first.content().size());
+    assertEquals(1, first.content().getFirst().customerId());
+    assertTrue(first.hasNext());
+    assertNull(first.prevCursor());
+
+    CursorPage<CustomerDto> second = service.getCustomersAfter(first.nextCursor(), 10);
+
+    assertEquals(7, second.content().size());
+    assertEquals(11, second.content().getFirst().customerId());
+    assertFalse(second.hasNext());
+    assertNull(second.nextCursor());
+
+    CursorPage<CustomerDto> back = service.getCustomersAfter(second.prevCursor(), 10);
+
+    assertEquals(first.content(), back.content());
+  }
+
+  @Test
+  @DisplayName("Cursor pagination rejects a malformed cursor")
+  void cursorPagination_shouldRejectMalformedCursor() {
+    var ex =
+        assertThrows(InvalidCursorException.class, () -> service.getCustomersAfter("%%%", 5));
+
+    assertEquals("%%%", ex.getCursor());
+  }
+
+  @Test
+  @DisplayName("exportCustomers should stream filtered customers in ID order")
+  void exportCustomers_shouldStreamFilteredCustomers() {
+    try (var all = service.exportCustomers(null)) {
+      assertEquals(17, all.count());
+    }
+
+    try (var filtered = service.exportCustomers(new CustomerSearchCriteria("an", null))) {
+      assertEquals(
+          List.of(3, 4, 6, 7, 11, 14, 16), filtered.map(CustomerDto::customerId).toList());
+    }
+  }
+
   @Test
   @DisplayName("createCustomer should assign incremental ID and store the record")
   void createCustomer_shouldAssignIdAndStore() {
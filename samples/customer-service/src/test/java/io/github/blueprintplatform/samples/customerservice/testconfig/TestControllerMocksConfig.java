@@ -40,6 +40,9 @@ public class TestControllerMocksConfig {
     Mockito.when(mr.getMessage("request.resource.not_found")).thenReturn("Resource not found.");
     Mockito.when(mr.getMessage("request.param.invalid"))
         .thenReturn("One or more parameters are invalid.");
+    Mockito.when(mr.getMessage("request.param.cursor.invalid"))
+        .thenReturn(
+            "Invalid cursor; pass a nextCursor or prevCursor value from a previous page.");
 
     Mockito.when(mr.getMessage("server.internal.error"))
         .thenReturn("Internal server error. Please try again later.");